@@ -0,0 +1,33 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.spring.data.gremlin.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Opt the domain class in to the client-side entity cache of findById and existsById. The cache is invalidated by the
+ * writes through the same template, the writes from elsewhere are visible after the entry expires.
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface GremlinCache {
+    /**
+     * The max number of entities cached.
+     */
+    int maxSize() default 10000;
+
+    /**
+     * The time an entity stays in cache after it is read, in milliseconds.
+     */
+    long ttlMillis() default 60000;
+}
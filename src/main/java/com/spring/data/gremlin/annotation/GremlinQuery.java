@@ -20,4 +20,9 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 public @interface GremlinQuery {
     String value();
+
+    /**
+     * The query can be retried and hedged safely, which is false as the raw query may write.
+     */
+    boolean idempotent() default false;
 }
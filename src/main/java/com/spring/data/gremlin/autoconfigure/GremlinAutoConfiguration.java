@@ -6,6 +6,8 @@ import com.spring.data.gremlin.config.GremlinConfigurationSupport;
 import com.spring.data.gremlin.conversion.MappingGremlinConverter;
 import com.spring.data.gremlin.query.GremlinOperations;
 import com.spring.data.gremlin.query.GremlinTemplate;
+import com.spring.data.gremlin.query.ReactiveGremlinOperations;
+import com.spring.data.gremlin.query.ReactiveGremlinTemplate;
 import org.apache.tinkerpop.gremlin.structure.io.binary.TypeSerializerRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
@@ -14,6 +16,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 
 /**
  * Auto-configuration that creates a GremlinOperations bean (GremlinTemplate)
@@ -48,6 +51,37 @@ public class GremlinAutoConfiguration extends GremlinConfigurationSupport {
                 .serializer(properties.getSerializer())
                 .maxContentLength(properties.getMaxContentLength())
                 .typeSerializerRegistry(typeSerializerRegistry)
+                .parameterizedScript(properties.isParameterizedScript())
+                .executionEngine(properties.getExecutionEngine())
+                .maxInFlightQueries(properties.getMaxInFlightQueries())
+                .warmUpQueries(properties.getWarmUpQueries())
+                .minConnectionPoolSize(properties.getMinConnectionPoolSize())
+                .maxConnectionPoolSize(properties.getMaxConnectionPoolSize())
+                .minInProcessPerConnection(properties.getMinInProcessPerConnection())
+                .maxInProcessPerConnection(properties.getMaxInProcessPerConnection())
+                .minSimultaneousUsagePerConnection(properties.getMinSimultaneousUsagePerConnection())
+                .maxSimultaneousUsagePerConnection(properties.getMaxSimultaneousUsagePerConnection())
+                .workerPoolSize(properties.getWorkerPoolSize())
+                .nioPoolSize(properties.getNioPoolSize())
+                .resultIterationBatchSize(properties.getResultIterationBatchSize())
+                .maxWaitForConnection(properties.getMaxWaitForConnection())
+                .adaptivePool(properties.isAdaptivePool())
+                .endpoints(properties.getEndpoints())
+                .loadBalancingDecayMillis(properties.getLoadBalancingDecayMillis())
+                .hostFailureThreshold(properties.getHostFailureThreshold())
+                .hostEjectionMillis(properties.getHostEjectionMillis())
+                .readEndpoints(properties.getReadEndpoints())
+                .readYourWritesMillis(properties.getReadYourWritesMillis())
+                .maxRetries(properties.getMaxRetries())
+                .retryBackoffMillis(properties.getRetryBackoffMillis())
+                .maxRetryBackoffMillis(properties.getMaxRetryBackoffMillis())
+                .hedgePercentile(properties.getHedgePercentile())
+                .timeoutMillis(properties.getTimeoutMillis())
+                .singleFlightReads(properties.isSingleFlightReads())
+                .batchWindowMillis(properties.getBatchWindowMillis())
+                .maxBatchSize(properties.getMaxBatchSize())
+                .bulkConcurrency(properties.getBulkConcurrency())
+                .dirtyTrackingSize(properties.getDirtyTrackingSize())
                 .build();
     }
 
@@ -71,4 +105,18 @@ public class GremlinAutoConfiguration extends GremlinConfigurationSupport {
         template.setApplicationContext(context);
         return template;
     }
+
+    /**
+     * Creates a ReactiveGremlinOperations bean (ReactiveGremlinTemplate) when Project Reactor is on the classpath.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "reactor.core.publisher.Flux")
+    static class ReactiveGremlinConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(ReactiveGremlinOperations.class)
+        public ReactiveGremlinTemplate reactiveGremlinTemplate(GremlinTemplate template) {
+            return new ReactiveGremlinTemplate(template);
+        }
+    }
 }
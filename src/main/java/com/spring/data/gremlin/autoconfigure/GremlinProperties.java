@@ -1,5 +1,6 @@
 package com.spring.data.gremlin.autoconfigure;
 
+import com.spring.data.gremlin.common.GremlinExecutionEngine;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -7,6 +8,9 @@ import lombok.Setter;
 import org.apache.tinkerpop.gremlin.util.ser.Serializers;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Getter
 @Setter
 @AllArgsConstructor
@@ -21,4 +25,55 @@ public class GremlinProperties {
     // Default to GraphBinary for JanusGraph compatibility
     private String serializer = Serializers.GRAPHBINARY_V1.toString();
     private int maxContentLength = 0;
+    // Submit generated scripts as templates with bindings, so that gremlin server compiles each template once
+    private boolean parameterizedScript = false;
+    // Submit generated queries as script strings or as GraphTraversal bytecode, which requires parameterizedScript
+    private GremlinExecutionEngine executionEngine = GremlinExecutionEngine.SCRIPT;
+    // The max number of queries submitted to gremlin server and not completed yet, 0 for the default
+    private int maxInFlightQueries = 0;
+    // The number of queries to warm up the connections at startup, 0 to open the connections on the first query
+    private int warmUpQueries = 0;
+    // The connection pool of gremlin driver, 0 for the default of driver
+    private int minConnectionPoolSize = 0;
+    private int maxConnectionPoolSize = 0;
+    private int minInProcessPerConnection = 0;
+    private int maxInProcessPerConnection = 0;
+    private int minSimultaneousUsagePerConnection = 0;
+    private int maxSimultaneousUsagePerConnection = 0;
+    private int workerPoolSize = 0;
+    private int nioPoolSize = 0;
+    private int resultIterationBatchSize = 0;
+    private int maxWaitForConnection = 0;
+    // Adapt the in-flight queries between the capacity of connection pool and maxInFlightQueries
+    private boolean adaptivePool = false;
+    // The contact points of gremlin servers, which are load balanced by response time, the endpoint is used if empty
+    private List<String> endpoints = new ArrayList<>();
+    // The decay time of the average response time of gremlin server
+    private int loadBalancingDecayMillis = 10000;
+    // Take a gremlin server out of rotation after the number of consecutive failures
+    private int hostFailureThreshold = 3;
+    // The time a failed gremlin server is taken out of rotation
+    private int hostEjectionMillis = 30000;
+    // The endpoints of read replicas, the reads are sent to the endpoint of primary if empty
+    private List<String> readEndpoints = new ArrayList<>();
+    // Retry the idempotent queries failed for the gremlin server, 0 to disable
+    private int maxRetries = 2;
+    // The backoff before the first retry, which doubles with each retry
+    private int retryBackoffMillis = 50;
+    private int maxRetryBackoffMillis = 1000;
+    // Hedge the idempotent queries not answered after the percentile of response times, like 0.95, 0 to disable
+    private double hedgePercentile = 0;
+    // Send the reads of a thread to the primary in the window after it writes, 0 to disable
+    private int readYourWritesMillis = 0;
+    // The deadline of each operation, which is also the evaluation timeout of its queries on server, 0 to disable
+    private long timeoutMillis = 0;
+    // Share the results of identical reads in flight at the same time, instead of sending each of them to server
+    private boolean singleFlightReads = false;
+    // Batch the vertex lookups by id of one label within the window into one query, 0 to disable
+    private int batchWindowMillis = 0;
+    private int maxBatchSize = 100;
+    // The chunks of saveAll in flight at the same time, each chunk is upserted by one query
+    private int bulkConcurrency = 4;
+    // Snapshot the properties of entities loaded recently so that updates send the changed ones only, 0 to disable
+    private int dirtyTrackingSize = 0;
 }
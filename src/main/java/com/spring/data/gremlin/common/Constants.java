@@ -35,6 +35,20 @@ public class Constants {
     public static final String GREMLIN_PRIMITIVE_GRAPH = "g";
     public static final String GREMLIN_PRIMITIVE_INVOKE = ".";
     public static final String GREMLIN_PRIMITIVE_DROP = "drop()";
+    public static final String GREMLIN_PRIMITIVE_COUNT = "count()";
+    public static final String GREMLIN_PRIMITIVE_LIMIT = "limit(%d)";
+    public static final String GREMLIN_PRIMITIVE_RANGE = "range(%s, %s)";
+    public static final String GREMLIN_PRIMITIVE_ORDER = "order()";
+    public static final String GREMLIN_PRIMITIVE_ORDER_BY = "by(%s, %s)";
+    public static final String GREMLIN_PRIMITIVE_FOLD = "fold()";
+    public static final String GREMLIN_PRIMITIVE_UNFOLD = "unfold()";
+    public static final String GREMLIN_PRIMITIVE_SELECT = "select('%s')";
+    public static final String GREMLIN_PRIMITIVE_COALESCE_UNFOLD = "coalesce(unfold(), %s)";
+    public static final String GREMLIN_PRIMITIVE_INJECT_ONE = "inject(0)";
+    public static final String GREMLIN_PRIMITIVE_UNION = "union(%s)";
+    public static final String GREMLIN_PRIMITIVE_PROJECT = "project(%s)";
+    public static final String GREMLIN_PRIMITIVE_BY = "by(%s)";
+    public static final String GREMLIN_PRIMITIVE_DROP_PROPERTIES = "sideEffect(properties(%s).drop())";
 
     public static final String GREMLIN_PRIMITIVE_EDGE_ALL = "E()";
 
@@ -43,22 +57,41 @@ public class Constants {
     public static final String GREMLIN_PRIMITIVE_HAS_STRING = "has('%s', '%s')";
     public static final String GREMLIN_PRIMITIVE_HAS_NUMBER = "has('%s', %d)";
     public static final String GREMLIN_PRIMITIVE_HAS_BOOLEAN = "has('%s', %b)";
+    public static final String GREMLIN_PRIMITIVE_HAS_BINDING = "has('%s', %s)";
 
     public static final String GREMLIN_PRIMITIVE_PROPERTY_STRING = "property('%s', '%s')";
     public static final String GREMLIN_PRIMITIVE_PROPERTY_NUMBER = "property('%s', %d)";
     public static final String GREMLIN_PRIMITIVE_PROPERTY_BOOLEAN = "property('%s', %b)";
+    public static final String GREMLIN_PRIMITIVE_PROPERTY_BINDING = "property('%s', %s)";
 
     public static final String GREMLIN_PRIMITIVE_AND = "and()";
     public static final String GREMLIN_PRIMITIVE_OR = "or()";
+    public static final String GREMLIN_PRIMITIVE_AND_ALL = "and(%s)";
+    public static final String GREMLIN_PRIMITIVE_OR_ANY = "or(%s)";
+    public static final String GREMLIN_PRIMITIVE_HAS_ID = "hasId(%s)";
     public static final String GREMLIN_PRIMITIVE_WHERE = "where(%s)";
 
     public static final String GREMLIN_QUERY_BARRIER = "barrier";
 
+    public static final String GREMLIN_BINDING_PREFIX = "_p";
+
     public static final String GREMLIN_PRIMITIVE_VALUES = "values('%s')";
     public static final String GREMLIN_PRIMITIVE_IS = "is(%s)";
-    public static final String GREMLIN_PRIMITIVE_GT = "gt(%d)";
-    public static final String GREMLIN_PRIMITIVE_LT = "lt(%d)";
-    public static final String GREMLIN_PRIMITIVE_BETWEEN = "between(%d, %d)";
+    public static final String GREMLIN_PRIMITIVE_GT = "gt(%s)";
+    public static final String GREMLIN_PRIMITIVE_LT = "lt(%s)";
+    public static final String GREMLIN_PRIMITIVE_BETWEEN = "between(%s, %s)";
+    public static final String GREMLIN_PRIMITIVE_GTE = "gte(%s)";
+    public static final String GREMLIN_PRIMITIVE_LTE = "lte(%s)";
+    public static final String GREMLIN_PRIMITIVE_NEQ = "neq(%s)";
+    public static final String GREMLIN_PRIMITIVE_WITHIN = "within(%s)";
+    public static final String GREMLIN_PRIMITIVE_WITHOUT = "without(%s)";
+    public static final String GREMLIN_PRIMITIVE_STARTING_WITH = "startingWith(%s)";
+    public static final String GREMLIN_PRIMITIVE_ENDING_WITH = "endingWith(%s)";
+    public static final String GREMLIN_PRIMITIVE_CONTAINING = "containing(%s)";
+    public static final String GREMLIN_PRIMITIVE_NOT_CONTAINING = "notContaining(%s)";
+    public static final String GREMLIN_PRIMITIVE_HAS_KEY = "has('%s')";
+    public static final String GREMLIN_PRIMITIVE_HAS_NOT = "hasNot('%s')";
+    public static final String GREMLIN_PRIMITIVE_DEDUP = "dedup()";
 
     public static final String GREMLIN_PRIMITIVE_IS_GT = String.format(GREMLIN_PRIMITIVE_IS, GREMLIN_PRIMITIVE_GT);
     public static final String GREMLIN_PRIMITIVE_IS_LT = String.format(GREMLIN_PRIMITIVE_IS, GREMLIN_PRIMITIVE_LT);
@@ -77,6 +110,24 @@ public class Constants {
             GREMLIN_PRIMITIVE_VERTEX_ALL
     );
 
+    public static final String GREMLIN_SCRIPT_EDGE_COUNT = String.join(GREMLIN_PRIMITIVE_INVOKE,
+            GREMLIN_PRIMITIVE_GRAPH,
+            GREMLIN_PRIMITIVE_EDGE_ALL,
+            GREMLIN_PRIMITIVE_COUNT
+    );
+
+    public static final String GREMLIN_SCRIPT_VERTEX_COUNT = String.join(GREMLIN_PRIMITIVE_INVOKE,
+            GREMLIN_PRIMITIVE_GRAPH,
+            GREMLIN_PRIMITIVE_VERTEX_ALL,
+            GREMLIN_PRIMITIVE_COUNT
+    );
+
+    public static final String GREMLIN_SCRIPT_WARM_UP = String.join(GREMLIN_PRIMITIVE_INVOKE,
+            GREMLIN_PRIMITIVE_GRAPH,
+            GREMLIN_PRIMITIVE_VERTEX_ALL,
+            String.format(GREMLIN_PRIMITIVE_LIMIT, 0)
+    );
+
     public static final String GREMLIN_SCRIPT_EDGE_DROP_ALL = String.join(GREMLIN_PRIMITIVE_INVOKE,
             GREMLIN_PRIMITIVE_GRAPH,
             GREMLIN_PRIMITIVE_EDGE_ALL,
@@ -92,5 +143,22 @@ public class Constants {
     public static final String GREMLIN_PROPERTY_CLASSNAME = "_classname";
     
     public static final int DEFAULT_MAX_CONTENT_LENGTH = 65536;
+    public static final int DEFAULT_MAX_IN_FLIGHT_QUERIES = 256;
+
+    // The defaults of connection pool in gremlin driver
+    public static final int DEFAULT_MIN_CONNECTION_POOL_SIZE = 2;
+    public static final int DEFAULT_MAX_SIMULTANEOUS_USAGE_PER_CONNECTION = 16;
+
+    public static final int DEFAULT_LOAD_BALANCING_DECAY_MILLIS = 10000;
+    public static final int DEFAULT_HOST_FAILURE_THRESHOLD = 3;
+    public static final int DEFAULT_HOST_EJECTION_MILLIS = 30000;
+
+    public static final int DEFAULT_MAX_RETRIES = 2;
+    public static final int DEFAULT_RETRY_BACKOFF_MILLIS = 50;
+    public static final int DEFAULT_MAX_RETRY_BACKOFF_MILLIS = 1000;
+
+    public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+
+    public static final int DEFAULT_BULK_CONCURRENCY = 4;
 
 }
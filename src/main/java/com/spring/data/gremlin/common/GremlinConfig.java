@@ -9,6 +9,10 @@ import lombok.*;
 import org.apache.tinkerpop.gremlin.util.ser.Serializers;
 import org.apache.tinkerpop.gremlin.structure.io.binary.TypeSerializerRegistry;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+
 @Getter
 @Setter
 @AllArgsConstructor(access = AccessLevel.PUBLIC)
@@ -29,6 +33,70 @@ public class GremlinConfig {
     
     private TypeSerializerRegistry typeSerializerRegistry;
 
+    private boolean parameterizedScript;
+
+    private GremlinExecutionEngine executionEngine;
+
+    private int maxInFlightQueries;
+
+    private Executor executor;
+
+    private int warmUpQueries;
+
+    private int minConnectionPoolSize;
+
+    private int maxConnectionPoolSize;
+
+    private int minInProcessPerConnection;
+
+    private int maxInProcessPerConnection;
+
+    private int minSimultaneousUsagePerConnection;
+
+    private int maxSimultaneousUsagePerConnection;
+
+    private int workerPoolSize;
+
+    private int nioPoolSize;
+
+    private int resultIterationBatchSize;
+
+    private int maxWaitForConnection;
+
+    private boolean adaptivePool;
+
+    private List<String> endpoints;
+
+    private int loadBalancingDecayMillis;
+
+    private int hostFailureThreshold;
+
+    private int hostEjectionMillis;
+
+    private List<String> readEndpoints;
+
+    private int maxRetries;
+
+    private int retryBackoffMillis;
+
+    private int maxRetryBackoffMillis;
+
+    private double hedgePercentile;
+
+    private int readYourWritesMillis;
+
+    private long timeoutMillis;
+
+    private boolean singleFlightReads;
+
+    private int batchWindowMillis;
+
+    private int maxBatchSize;
+
+    private int bulkConcurrency;
+
+    private int dirtyTrackingSize;
+
     private GremlinConfig(GremlinConfigBuilder builder) {
         this.endpoint = builder.endpoint;
         this.port = builder.port;
@@ -38,6 +106,38 @@ public class GremlinConfig {
         this.serializer = builder.serializer;
         this.maxContentLength = builder.maxContentLength;
         this.typeSerializerRegistry = builder.typeSerializerRegistry;
+        this.parameterizedScript = builder.parameterizedScript;
+        this.executionEngine = builder.executionEngine;
+        this.maxInFlightQueries = builder.maxInFlightQueries;
+        this.executor = builder.executor;
+        this.warmUpQueries = builder.warmUpQueries;
+        this.minConnectionPoolSize = builder.minConnectionPoolSize;
+        this.maxConnectionPoolSize = builder.maxConnectionPoolSize;
+        this.minInProcessPerConnection = builder.minInProcessPerConnection;
+        this.maxInProcessPerConnection = builder.maxInProcessPerConnection;
+        this.minSimultaneousUsagePerConnection = builder.minSimultaneousUsagePerConnection;
+        this.maxSimultaneousUsagePerConnection = builder.maxSimultaneousUsagePerConnection;
+        this.workerPoolSize = builder.workerPoolSize;
+        this.nioPoolSize = builder.nioPoolSize;
+        this.resultIterationBatchSize = builder.resultIterationBatchSize;
+        this.maxWaitForConnection = builder.maxWaitForConnection;
+        this.adaptivePool = builder.adaptivePool;
+        this.endpoints = builder.endpoints;
+        this.loadBalancingDecayMillis = builder.loadBalancingDecayMillis;
+        this.hostFailureThreshold = builder.hostFailureThreshold;
+        this.hostEjectionMillis = builder.hostEjectionMillis;
+        this.readEndpoints = builder.readEndpoints;
+        this.maxRetries = builder.maxRetries;
+        this.retryBackoffMillis = builder.retryBackoffMillis;
+        this.maxRetryBackoffMillis = builder.maxRetryBackoffMillis;
+        this.hedgePercentile = builder.hedgePercentile;
+        this.readYourWritesMillis = builder.readYourWritesMillis;
+        this.timeoutMillis = builder.timeoutMillis;
+        this.singleFlightReads = builder.singleFlightReads;
+        this.batchWindowMillis = builder.batchWindowMillis;
+        this.maxBatchSize = builder.maxBatchSize;
+        this.bulkConcurrency = builder.bulkConcurrency;
+        this.dirtyTrackingSize = builder.dirtyTrackingSize;
     }
 
     public static GremlinConfigBuilder builder() {
@@ -63,6 +163,38 @@ public class GremlinConfig {
         private String serializer;
         private int maxContentLength;
         private TypeSerializerRegistry typeSerializerRegistry;
+        private boolean parameterizedScript;
+        private GremlinExecutionEngine executionEngine = GremlinExecutionEngine.SCRIPT;
+        private int maxInFlightQueries;
+        private Executor executor;
+        private int warmUpQueries;
+        private int minConnectionPoolSize;
+        private int maxConnectionPoolSize;
+        private int minInProcessPerConnection;
+        private int maxInProcessPerConnection;
+        private int minSimultaneousUsagePerConnection;
+        private int maxSimultaneousUsagePerConnection;
+        private int workerPoolSize;
+        private int nioPoolSize;
+        private int resultIterationBatchSize;
+        private int maxWaitForConnection;
+        private boolean adaptivePool;
+        private List<String> endpoints = Collections.emptyList();
+        private int loadBalancingDecayMillis;
+        private int hostFailureThreshold;
+        private int hostEjectionMillis;
+        private List<String> readEndpoints = Collections.emptyList();
+        private int maxRetries = Constants.DEFAULT_MAX_RETRIES;
+        private int retryBackoffMillis;
+        private int maxRetryBackoffMillis;
+        private double hedgePercentile;
+        private int readYourWritesMillis;
+        private long timeoutMillis;
+        private boolean singleFlightReads;
+        private int batchWindowMillis;
+        private int maxBatchSize = Constants.DEFAULT_MAX_BATCH_SIZE;
+        private int bulkConcurrency = Constants.DEFAULT_BULK_CONCURRENCY;
+        private int dirtyTrackingSize;
 
         public GremlinConfigBuilder endpoint(String endpoint) {
             this.endpoint = endpoint;
@@ -104,6 +236,166 @@ public class GremlinConfig {
             return this;
         }
 
+        public GremlinConfigBuilder parameterizedScript(boolean parameterizedScript) {
+            this.parameterizedScript = parameterizedScript;
+            return this;
+        }
+
+        public GremlinConfigBuilder executionEngine(GremlinExecutionEngine executionEngine) {
+            this.executionEngine = executionEngine;
+            return this;
+        }
+
+        public GremlinConfigBuilder maxInFlightQueries(int maxInFlightQueries) {
+            this.maxInFlightQueries = maxInFlightQueries;
+            return this;
+        }
+
+        public GremlinConfigBuilder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public GremlinConfigBuilder warmUpQueries(int warmUpQueries) {
+            this.warmUpQueries = warmUpQueries;
+            return this;
+        }
+
+        public GremlinConfigBuilder minConnectionPoolSize(int minConnectionPoolSize) {
+            this.minConnectionPoolSize = minConnectionPoolSize;
+            return this;
+        }
+
+        public GremlinConfigBuilder maxConnectionPoolSize(int maxConnectionPoolSize) {
+            this.maxConnectionPoolSize = maxConnectionPoolSize;
+            return this;
+        }
+
+        public GremlinConfigBuilder minInProcessPerConnection(int minInProcessPerConnection) {
+            this.minInProcessPerConnection = minInProcessPerConnection;
+            return this;
+        }
+
+        public GremlinConfigBuilder maxInProcessPerConnection(int maxInProcessPerConnection) {
+            this.maxInProcessPerConnection = maxInProcessPerConnection;
+            return this;
+        }
+
+        public GremlinConfigBuilder minSimultaneousUsagePerConnection(int minSimultaneousUsagePerConnection) {
+            this.minSimultaneousUsagePerConnection = minSimultaneousUsagePerConnection;
+            return this;
+        }
+
+        public GremlinConfigBuilder maxSimultaneousUsagePerConnection(int maxSimultaneousUsagePerConnection) {
+            this.maxSimultaneousUsagePerConnection = maxSimultaneousUsagePerConnection;
+            return this;
+        }
+
+        public GremlinConfigBuilder workerPoolSize(int workerPoolSize) {
+            this.workerPoolSize = workerPoolSize;
+            return this;
+        }
+
+        public GremlinConfigBuilder nioPoolSize(int nioPoolSize) {
+            this.nioPoolSize = nioPoolSize;
+            return this;
+        }
+
+        public GremlinConfigBuilder resultIterationBatchSize(int resultIterationBatchSize) {
+            this.resultIterationBatchSize = resultIterationBatchSize;
+            return this;
+        }
+
+        public GremlinConfigBuilder maxWaitForConnection(int maxWaitForConnection) {
+            this.maxWaitForConnection = maxWaitForConnection;
+            return this;
+        }
+
+        public GremlinConfigBuilder adaptivePool(boolean adaptivePool) {
+            this.adaptivePool = adaptivePool;
+            return this;
+        }
+
+        public GremlinConfigBuilder endpoints(List<String> endpoints) {
+            this.endpoints = endpoints;
+            return this;
+        }
+
+        public GremlinConfigBuilder loadBalancingDecayMillis(int loadBalancingDecayMillis) {
+            this.loadBalancingDecayMillis = loadBalancingDecayMillis;
+            return this;
+        }
+
+        public GremlinConfigBuilder hostFailureThreshold(int hostFailureThreshold) {
+            this.hostFailureThreshold = hostFailureThreshold;
+            return this;
+        }
+
+        public GremlinConfigBuilder hostEjectionMillis(int hostEjectionMillis) {
+            this.hostEjectionMillis = hostEjectionMillis;
+            return this;
+        }
+
+        public GremlinConfigBuilder readEndpoints(List<String> readEndpoints) {
+            this.readEndpoints = readEndpoints;
+            return this;
+        }
+
+        public GremlinConfigBuilder readYourWritesMillis(int readYourWritesMillis) {
+            this.readYourWritesMillis = readYourWritesMillis;
+            return this;
+        }
+
+        public GremlinConfigBuilder maxRetries(int maxRetries) {
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        public GremlinConfigBuilder retryBackoffMillis(int retryBackoffMillis) {
+            this.retryBackoffMillis = retryBackoffMillis;
+            return this;
+        }
+
+        public GremlinConfigBuilder maxRetryBackoffMillis(int maxRetryBackoffMillis) {
+            this.maxRetryBackoffMillis = maxRetryBackoffMillis;
+            return this;
+        }
+
+        public GremlinConfigBuilder hedgePercentile(double hedgePercentile) {
+            this.hedgePercentile = hedgePercentile;
+            return this;
+        }
+
+        public GremlinConfigBuilder timeoutMillis(long timeoutMillis) {
+            this.timeoutMillis = timeoutMillis;
+            return this;
+        }
+
+        public GremlinConfigBuilder singleFlightReads(boolean singleFlightReads) {
+            this.singleFlightReads = singleFlightReads;
+            return this;
+        }
+
+        public GremlinConfigBuilder batchWindowMillis(int batchWindowMillis) {
+            this.batchWindowMillis = batchWindowMillis;
+            return this;
+        }
+
+        public GremlinConfigBuilder maxBatchSize(int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        public GremlinConfigBuilder bulkConcurrency(int bulkConcurrency) {
+            this.bulkConcurrency = bulkConcurrency;
+            return this;
+        }
+
+        public GremlinConfigBuilder dirtyTrackingSize(int dirtyTrackingSize) {
+            this.dirtyTrackingSize = dirtyTrackingSize;
+            return this;
+        }
+
         public GremlinConfig build() {
             return new GremlinConfig(this);
         }
@@ -0,0 +1,24 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.spring.data.gremlin.common;
+
+/**
+ * The way of GremlinTemplate to execute the generated queries on gremlin server.
+ */
+public enum GremlinExecutionEngine {
+
+    /**
+     * Submit queries as script strings, which are compiled by the script engine of gremlin server.
+     */
+    SCRIPT,
+
+    /**
+     * Submit queries as GraphTraversal bytecode through a remote traversal source, which skips the script
+     * compilation of gremlin server. The queries are parsed at client, so parameterized script is required to parse
+     * each generated query once.
+     */
+    BYTECODE
+}
@@ -6,21 +6,63 @@
 package com.spring.data.gremlin.common;
 
 import com.spring.data.gremlin.exception.GremlinIllegalConfigurationException;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.tinkerpop.gremlin.driver.Client;
 import org.apache.tinkerpop.gremlin.driver.Cluster;
+import org.apache.tinkerpop.gremlin.driver.ResultSet;
+import org.apache.tinkerpop.gremlin.driver.remote.DriverRemoteConnection;
+import org.apache.tinkerpop.gremlin.process.traversal.AnonymousTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.util.ser.GraphBinaryMessageSerializerV1;
 import org.apache.tinkerpop.gremlin.util.ser.Serializers;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.lang.NonNull;
 
 import javax.annotation.PostConstruct;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
 
-public class GremlinFactory {
+@Slf4j
+public class GremlinFactory implements InitializingBean, DisposableBean {
 
-    private Cluster gremlinCluster;
+    private volatile Cluster gremlinCluster;
+
+    private volatile Cluster readCluster;
 
     private GremlinConfig gremlinConfig;
 
+    private volatile Client gremlinClient;
+
+    private volatile Client traversalClient;
+
+    private volatile Client readClient;
+
+    private volatile Client readTraversalClient;
+
+    private volatile GraphTraversalSource graphTraversalSource;
+
+    private volatile Executor executor;
+
+    private final GremlinLoadBalancingStrategy loadBalancingStrategy;
+
+    private final GremlinLoadBalancingStrategy readLoadBalancingStrategy;
+
+    private ExecutorService defaultExecutor;
+
     public GremlinFactory(@NonNull GremlinConfig gremlinConfig) {
+        if (gremlinConfig.getExecutionEngine() == GremlinExecutionEngine.BYTECODE
+                && !gremlinConfig.isParameterizedScript()) {
+            throw new GremlinIllegalConfigurationException("Bytecode execution engine requires parameterized script");
+        }
+
         final int port = gremlinConfig.getPort();
         if (port <= 0 || port > 65535) {
             gremlinConfig.setPort(Constants.DEFAULT_ENDPOINT_PORT);
@@ -31,14 +73,48 @@ public class GremlinFactory {
             gremlinConfig.setMaxContentLength(Constants.DEFAULT_MAX_CONTENT_LENGTH);
         }
 
+        if (gremlinConfig.getMaxInFlightQueries() <= 0) {
+            gremlinConfig.setMaxInFlightQueries(Constants.DEFAULT_MAX_IN_FLIGHT_QUERIES);
+        }
+
+        if (gremlinConfig.getLoadBalancingDecayMillis() <= 0) {
+            gremlinConfig.setLoadBalancingDecayMillis(Constants.DEFAULT_LOAD_BALANCING_DECAY_MILLIS);
+        }
+
+        if (gremlinConfig.getHostFailureThreshold() <= 0) {
+            gremlinConfig.setHostFailureThreshold(Constants.DEFAULT_HOST_FAILURE_THRESHOLD);
+        }
+
+        if (gremlinConfig.getHostEjectionMillis() <= 0) {
+            gremlinConfig.setHostEjectionMillis(Constants.DEFAULT_HOST_EJECTION_MILLIS);
+        }
+
+        if (gremlinConfig.getRetryBackoffMillis() <= 0) {
+            gremlinConfig.setRetryBackoffMillis(Constants.DEFAULT_RETRY_BACKOFF_MILLIS);
+        }
+
+        if (gremlinConfig.getMaxRetryBackoffMillis() <= 0) {
+            gremlinConfig.setMaxRetryBackoffMillis(Constants.DEFAULT_MAX_RETRY_BACKOFF_MILLIS);
+        }
+
         this.gremlinConfig = gremlinConfig;
+        this.loadBalancingStrategy = this.createLoadBalancingStrategy();
+        this.readLoadBalancingStrategy = this.createLoadBalancingStrategy();
+    }
+
+    private GremlinLoadBalancingStrategy createLoadBalancingStrategy() {
+        return new GremlinLoadBalancingStrategy(this.gremlinConfig.getLoadBalancingDecayMillis(),
+                this.gremlinConfig.getHostFailureThreshold(), this.gremlinConfig.getHostEjectionMillis());
     }
 
-    private Cluster createGremlinCluster() {
+    private Cluster createGremlinCluster(@NonNull List<String> endpoints,
+                                         @NonNull GremlinLoadBalancingStrategy strategy) {
         final Cluster cluster;
 
         try {
-            Cluster.Builder builder = Cluster.build(this.gremlinConfig.getEndpoint())
+            Cluster.Builder builder = Cluster.build(endpoints.get(0))
+                    .addContactPoints(endpoints.subList(1, endpoints.size()).toArray(new String[0]))
+                    .loadBalancingStrategy(strategy)
                     .credentials(this.gremlinConfig.getUsername(), this.gremlinConfig.getPassword())
                     .enableSsl(this.gremlinConfig.isSslEnabled())
                     .maxContentLength(this.gremlinConfig.getMaxContentLength())
@@ -55,7 +131,9 @@ public class GremlinFactory {
                 // Use default serializer
                 builder.serializer(Serializers.valueOf(this.gremlinConfig.getSerializer()).simpleInstance());
             }
-            
+
+            this.configureConnectionPool(builder);
+
             cluster = builder.create();
         } catch (IllegalArgumentException e) {
             throw new GremlinIllegalConfigurationException("Invalid configuration of Gremlin", e);
@@ -64,12 +142,270 @@ public class GremlinFactory {
         return cluster;
     }
 
-    public Client getGremlinClient() {
+    /**
+     * Set the options of connection pool which are configured, the others are left to the defaults of driver.
+     */
+    private void configureConnectionPool(@NonNull Cluster.Builder builder) {
+        final GremlinConfig config = this.gremlinConfig;
 
+        setIfPositive(config.getMinConnectionPoolSize(), builder::minConnectionPoolSize);
+        setIfPositive(config.getMaxConnectionPoolSize(), builder::maxConnectionPoolSize);
+        setIfPositive(config.getMinInProcessPerConnection(), builder::minInProcessPerConnection);
+        setIfPositive(config.getMaxInProcessPerConnection(), builder::maxInProcessPerConnection);
+        setIfPositive(config.getMinSimultaneousUsagePerConnection(), builder::minSimultaneousUsagePerConnection);
+        setIfPositive(config.getMaxSimultaneousUsagePerConnection(), builder::maxSimultaneousUsagePerConnection);
+        setIfPositive(config.getWorkerPoolSize(), builder::workerPoolSize);
+        setIfPositive(config.getNioPoolSize(), builder::nioPoolSize);
+        setIfPositive(config.getResultIterationBatchSize(), builder::resultIterationBatchSize);
+        setIfPositive(config.getMaxWaitForConnection(), builder::maxWaitForConnection);
+    }
+
+    private static void setIfPositive(int value, @NonNull IntConsumer setter) {
+        if (value > 0) {
+            setter.accept(value);
+        }
+    }
+
+    public GremlinConfig getGremlinConfig() {
+        return this.gremlinConfig;
+    }
+
+    private Cluster getGremlinCluster() {
         if (this.gremlinCluster == null) {
-            this.gremlinCluster = this.createGremlinCluster();
+            synchronized (this) {
+                if (this.gremlinCluster == null) {
+                    this.gremlinCluster = this.createGremlinCluster(this.getEndpoints(),
+                            this.loadBalancingStrategy);
+                }
+            }
+        }
+
+        return this.gremlinCluster;
+    }
+
+    /**
+     * The read replicas are load balanced by one cluster, which shares the options of primary cluster.
+     */
+    private Cluster getReadCluster() {
+        if (this.readCluster == null) {
+            synchronized (this) {
+                if (this.readCluster == null) {
+                    this.readCluster = this.createGremlinCluster(this.gremlinConfig.getReadEndpoints(),
+                            this.readLoadBalancingStrategy);
+                }
+            }
+        }
+
+        return this.readCluster;
+    }
+
+    /**
+     * The contact points of primary, or the single endpoint if no contact point is configured.
+     */
+    private List<String> getEndpoints() {
+        final List<String> endpoints = this.gremlinConfig.getEndpoints();
+
+        if (endpoints == null || endpoints.isEmpty()) {
+            return Collections.singletonList(this.gremlinConfig.getEndpoint());
         }
 
-        return this.gremlinCluster.connect();
+        return endpoints;
+    }
+
+    /**
+     * Get the strategy which balances the queries across the contact points of primary by response time.
+     */
+    public GremlinLoadBalancingStrategy getLoadBalancingStrategy() {
+        return this.loadBalancingStrategy;
+    }
+
+    /**
+     * Get the strategy of read replicas, or the strategy of primary if no read replica is configured.
+     */
+    public GremlinLoadBalancingStrategy getReadLoadBalancingStrategy() {
+        return this.hasReadReplicas() ? this.readLoadBalancingStrategy : this.loadBalancingStrategy;
+    }
+
+    public boolean hasReadReplicas() {
+        final List<String> readEndpoints = this.gremlinConfig.getReadEndpoints();
+
+        return readEndpoints != null && !readEndpoints.isEmpty();
+    }
+
+    /**
+     * Get the client shared by all the queries, which is created once and safe to be used by multiple threads.
+     */
+    public Client getGremlinClient() {
+        if (this.gremlinClient == null) {
+            synchronized (this) {
+                if (this.gremlinClient == null) {
+                    this.gremlinClient = this.getGremlinCluster().connect();
+                }
+            }
+        }
+
+        return this.gremlinClient;
+    }
+
+    /**
+     * Get the client which submits bytecode to the remote traversal source g, same as DriverRemoteConnection does.
+     */
+    public Client getTraversalClient() {
+        if (this.traversalClient == null) {
+            synchronized (this) {
+                if (this.traversalClient == null) {
+                    this.traversalClient = this.getGremlinClient().alias(Constants.GREMLIN_PRIMITIVE_GRAPH);
+                }
+            }
+        }
+
+        return this.traversalClient;
+    }
+
+    /**
+     * Get the client of read replicas, or the client of primary if no read replica is configured.
+     */
+    public Client getReadClient() {
+        if (!this.hasReadReplicas()) {
+            return this.getGremlinClient();
+        } else if (this.readClient == null) {
+            synchronized (this) {
+                if (this.readClient == null) {
+                    this.readClient = this.getReadCluster().connect();
+                }
+            }
+        }
+
+        return this.readClient;
+    }
+
+    /**
+     * Get the client which submits bytecode to the remote traversal source g of read replicas.
+     */
+    public Client getReadTraversalClient() {
+        if (!this.hasReadReplicas()) {
+            return this.getTraversalClient();
+        } else if (this.readTraversalClient == null) {
+            synchronized (this) {
+                if (this.readTraversalClient == null) {
+                    this.readTraversalClient = this.getReadClient().alias(Constants.GREMLIN_PRIMITIVE_GRAPH);
+                }
+            }
+        }
+
+        return this.readTraversalClient;
+    }
+
+    /**
+     * Get the traversal source which submits GraphTraversal as bytecode to the remote traversal source g.
+     */
+    public GraphTraversalSource getGraphTraversalSource() {
+        if (this.graphTraversalSource == null) {
+            synchronized (this) {
+                if (this.graphTraversalSource == null) {
+                    final DriverRemoteConnection connection = DriverRemoteConnection.using(this.getGremlinClient(),
+                            Constants.GREMLIN_PRIMITIVE_GRAPH);
+
+                    this.graphTraversalSource = AnonymousTraversalSource.traversal().withRemote(connection);
+                }
+            }
+        }
+
+        return this.graphTraversalSource;
+    }
+
+    /**
+     * Get the executor which submits queries and completes their results, instead of the common ForkJoinPool or
+     * the I/O threads of gremlin driver. Virtual threads are used by default if available (Java 21+).
+     */
+    public Executor getExecutor() {
+        if (this.executor == null) {
+            synchronized (this) {
+                if (this.executor == null) {
+                    final Executor configured = this.gremlinConfig.getExecutor();
+
+                    if (configured == null) {
+                        this.defaultExecutor = createDefaultExecutor();
+                    }
+
+                    this.executor = configured == null ? this.defaultExecutor : configured;
+                }
+            }
+        }
+
+        return this.executor;
+    }
+
+    /**
+     * Open the connections of client and run the warm-up queries concurrently, so that the first queries of
+     * application don't pay for the connection pool and the handshakes. The failure is logged but not thrown, the
+     * connections will be opened again by the following queries.
+     */
+    @Override
+    public void afterPropertiesSet() {
+        final int warmUpQueries = this.gremlinConfig.getWarmUpQueries();
+
+        if (warmUpQueries <= 0) {
+            return;
+        }
+
+        warmUp(this.getGremlinClient(), warmUpQueries);
+
+        if (this.hasReadReplicas()) {
+            warmUp(this.getReadClient(), warmUpQueries);
+        }
+    }
+
+    private static void warmUp(@NonNull Client client, int warmUpQueries) {
+        try {
+            client.init();
+
+            final CompletableFuture<?>[] futures = new CompletableFuture[warmUpQueries];
+
+            for (int i = 0; i < warmUpQueries; i++) {
+                futures[i] = client.submitAsync(Constants.GREMLIN_SCRIPT_WARM_UP).thenCompose(ResultSet::all);
+            }
+
+            CompletableFuture.allOf(futures).join();
+            log.info("Gremlin client of {} is warmed up with {} queries", client.getCluster(), warmUpQueries);
+        } catch (RuntimeException e) {
+            log.warn("Unable to warm up gremlin client of {}", client.getCluster(), e);
+        }
+    }
+
+    /**
+     * Close the clients and the clusters, and the executor if it is created by the factory.
+     */
+    @Override
+    public void destroy() {
+        synchronized (this) {
+            if (this.gremlinCluster != null) {
+                this.gremlinCluster.close();
+            }
+
+            if (this.readCluster != null) {
+                this.readCluster.close();
+            }
+
+            if (this.defaultExecutor != null) {
+                this.defaultExecutor.shutdown();
+            }
+        }
+    }
+
+    private static ExecutorService createDefaultExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            final AtomicInteger count = new AtomicInteger();
+
+            return Executors.newCachedThreadPool(runnable -> {
+                final Thread thread = new Thread(runnable, "gremlin-query-" + count.incrementAndGet());
+
+                thread.setDaemon(true);
+
+                return thread;
+            });
+        }
     }
 }
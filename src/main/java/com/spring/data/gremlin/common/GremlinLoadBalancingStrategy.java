@@ -0,0 +1,185 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.spring.data.gremlin.common;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.tinkerpop.gremlin.driver.Cluster;
+import org.apache.tinkerpop.gremlin.driver.Host;
+import org.apache.tinkerpop.gremlin.driver.LoadBalancingStrategy;
+import org.apache.tinkerpop.gremlin.util.message.RequestMessage;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Select the host by power of two choices over the exponentially weighted moving average of response time. Two
+ * healthy hosts are picked at random and the faster one is tried first, then the others in turn for failover.
+ * <p>
+ * The average decays with the elapsed time, so a host recovered from slowness comes back soon. The host is taken out
+ * of rotation for the ejection time after consecutive failures, besides the hosts found unavailable by driver.
+ */
+@Slf4j
+public class GremlinLoadBalancingStrategy implements LoadBalancingStrategy {
+
+    private final long decayNanos;
+    private final int failureThreshold;
+    private final long ejectionNanos;
+    private final Map<Host, HostStats> stats = new ConcurrentHashMap<>();
+
+    public GremlinLoadBalancingStrategy(long decayMillis, int failureThreshold, long ejectionMillis) {
+        this.decayNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, decayMillis));
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.ejectionNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, ejectionMillis));
+    }
+
+    @Override
+    public void initialize(Cluster cluster, Collection<Host> hosts) {
+        hosts.forEach(this::onNew);
+    }
+
+    @Override
+    public Iterator<Host> select(RequestMessage msg) {
+        final long now = System.nanoTime();
+        final List<Host> healthy = new ArrayList<>();
+        final List<Host> ejected = new ArrayList<>();
+
+        this.stats.forEach((host, stat) -> {
+            if (stat.available) {
+                (stat.isEjected(now) ? ejected : healthy).add(host);
+            }
+        });
+
+        if (healthy.size() > 1) {
+            final ThreadLocalRandom random = ThreadLocalRandom.current();
+            final int first = random.nextInt(healthy.size());
+            final int second = (first + 1 + random.nextInt(healthy.size() - 1)) % healthy.size();
+            final int best = this.getCost(healthy.get(second), now) < this.getCost(healthy.get(first), now) ?
+                    second : first;
+
+            healthy.add(0, healthy.remove(best));
+        }
+
+        // The ejected hosts are the last resort, instead of failing the query when all the hosts are ejected.
+        healthy.addAll(ejected);
+
+        return healthy.iterator();
+    }
+
+    /**
+     * The cost of host, which is 0 until the first response so that the new host is tried soon.
+     */
+    double getCost(@NonNull Host host, long now) {
+        final HostStats stat = this.stats.get(host);
+
+        return stat == null ? 0 : stat.getAverage(now, this.decayNanos);
+    }
+
+    /**
+     * Record the response time of a query completed by host.
+     */
+    public void recordSuccess(@NonNull Host host, long elapsedNanos) {
+        final HostStats stat = this.stats.get(host);
+
+        if (stat != null) {
+            synchronized (stat) {
+                stat.update(elapsedNanos, System.nanoTime(), this.decayNanos);
+                stat.failures = 0;
+            }
+        }
+    }
+
+    /**
+     * Record a query failed for host, which is penalized as twice the slowest response time so far. The host is
+     * ejected after the consecutive failures reach the threshold.
+     */
+    public void recordFailure(@NonNull Host host, long elapsedNanos) {
+        final HostStats stat = this.stats.get(host);
+
+        if (stat == null) {
+            return;
+        }
+
+        final long now = System.nanoTime();
+
+        synchronized (stat) {
+            stat.update(2 * Math.max(elapsedNanos, (long) stat.getAverage(now, this.decayNanos)), now,
+                    this.decayNanos);
+
+            if (++stat.failures >= this.failureThreshold) {
+                stat.failures = 0;
+                stat.ejectedUntil = now + this.ejectionNanos;
+                stat.ejected = true;
+                log.warn("Gremlin host {} is ejected for consecutive failures", host);
+            }
+        }
+    }
+
+    @Override
+    public void onAvailable(Host host) {
+        this.onNew(host);
+    }
+
+    @Override
+    public void onUnavailable(Host host) {
+        final HostStats stat = this.stats.get(host);
+
+        if (stat != null) {
+            stat.available = false;
+        }
+    }
+
+    @Override
+    public void onNew(Host host) {
+        this.stats.computeIfAbsent(host, h -> new HostStats()).available = true;
+    }
+
+    @Override
+    public void onRemove(Host host) {
+        this.stats.remove(host);
+    }
+
+    private static final class HostStats {
+
+        private volatile boolean available = true;
+        private boolean measured;
+        private double average;
+        private long updated;
+        private volatile boolean ejected;
+        private volatile long ejectedUntil;
+        private volatile int failures;
+
+        private synchronized double getAverage(long now, long decayNanos) {
+            return this.measured ? this.average * Math.exp(-(double) (now - this.updated) / decayNanos) : 0;
+        }
+
+        /**
+         * The average follows the peak immediately, and drops to the lower response time as it decays.
+         */
+        private synchronized void update(long elapsedNanos, long now, long decayNanos) {
+            if (!this.measured || elapsedNanos > this.average) {
+                this.average = elapsedNanos;
+            } else {
+                final double weight = Math.exp(-(double) (now - this.updated) / decayNanos);
+
+                this.average = this.average * weight + elapsedNanos * (1 - weight);
+            }
+
+            this.updated = now;
+            this.measured = true;
+        }
+
+        private boolean isEjected(long now) {
+            return this.ejected && this.ejectedUntil - now > 0;
+        }
+    }
+}
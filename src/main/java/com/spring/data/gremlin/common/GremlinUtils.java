@@ -7,31 +7,83 @@ package com.spring.data.gremlin.common;
 
 import com.spring.data.gremlin.annotation.GeneratedValue;
 import com.spring.data.gremlin.conversion.source.GremlinSource;
+import com.spring.data.gremlin.conversion.source.GremlinSourceEdge;
 import com.spring.data.gremlin.exception.GremlinIllegalConfigurationException;
 import com.spring.data.gremlin.exception.GremlinInvalidEntityIdFieldException;
+import com.spring.data.gremlin.exception.GremlinQueryException;
+import com.spring.data.gremlin.exception.GremlinQueryTimeoutException;
 import com.spring.data.gremlin.exception.GremlinUnexpectedSourceTypeException;
 import com.spring.data.gremlin.repository.support.GremlinEntityInformation;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.atn.PredictionMode;
 import org.apache.commons.lang3.reflect.FieldUtils;
+import org.apache.tinkerpop.gremlin.driver.Result;
+import org.apache.tinkerpop.gremlin.driver.exception.ConnectionException;
+import org.apache.tinkerpop.gremlin.driver.exception.NoHostAvailableException;
+import org.apache.tinkerpop.gremlin.driver.exception.ResponseException;
+import org.apache.tinkerpop.gremlin.language.grammar.GremlinAntlrToJava;
+import org.apache.tinkerpop.gremlin.language.grammar.GremlinErrorListener;
+import org.apache.tinkerpop.gremlin.language.grammar.GremlinLexer;
+import org.apache.tinkerpop.gremlin.language.grammar.GremlinParser;
+import org.apache.tinkerpop.gremlin.language.grammar.GremlinQueryParser;
+import org.apache.tinkerpop.gremlin.language.grammar.VariableResolver.DefaultVariableResolver;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.util.message.ResponseStatusCode;
 import org.apache.tinkerpop.shaded.jackson.databind.MapperFeature;
 import org.apache.tinkerpop.shaded.jackson.databind.ObjectMapper;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.lang.NonNull;
 import org.springframework.util.ReflectionUtils;
 
+import java.io.IOException;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.function.ToIntFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
+import static com.spring.data.gremlin.common.Constants.GREMLIN_BINDING_PREFIX;
 import static com.spring.data.gremlin.common.Constants.GREMLIN_QUERY_BARRIER;
+import static com.spring.data.gremlin.common.Constants.PROPERTY_ID;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class GremlinUtils {
 
     private static final ObjectMapper mapper = new ObjectMapper();
 
+    private static final Pattern BINDING_NAME_PATTERN = Pattern.compile("\\b" + GREMLIN_BINDING_PREFIX + "\\d+\\b");
+
+    private static final int ID_CONTENT_OVERHEAD = 48;
+
+    private static final int PROPERTY_CONTENT_OVERHEAD = 64;
+
+    private static final int ENTITY_CONTENT_OVERHEAD = 128;
+
+    private static final int MAX_PARSE_TREES = 256;
+
+    /**
+     * The parse trees of parameterized queries, in access order for eviction of the least recently used. The tree
+     * is read only once parsed, and visited with the bindings of each execution.
+     */
+    private static final Map<String, GremlinParser.QueryListContext> parseTrees = new LinkedHashMap<>(16, 0.75f,
+            true);
+
     static {
         mapper.configure(MapperFeature.AUTO_DETECT_FIELDS, false);
     }
@@ -108,6 +160,20 @@ public class GremlinUtils {
         }
     }
 
+    /**
+     * Resolve the properties of sort by the mapping context of domain, as the sort may be given by caller and its
+     * properties are written into the script. The property which isn't one of domain is rejected.
+     */
+    public static Sort toPropertySort(@NonNull MappingContext<?, ?> context, @NonNull Sort sort,
+                                      @NonNull Class<?> domainClass) {
+        final List<Sort.Order> orders = new ArrayList<>();
+
+        sort.forEach(order -> orders.add(order.withProperty(context
+                .getPersistentPropertyPath(order.getProperty(), domainClass).toDotPath())));
+
+        return Sort.by(orders);
+    }
+
     public static <T> GremlinSource<T> toGremlinSource(@NonNull Class<T> domainClass) {
         return new GremlinEntityInformation<>(domainClass).createGremlinSource();
     }
@@ -130,6 +196,255 @@ public class GremlinUtils {
         return parallelQueries;
     }
 
+    /**
+     * Pick the bindings referenced by the given query, as the bindings may be collected for a list of queries.
+     */
+    public static Map<String, Object> toQueryBindings(@NonNull String query, @NonNull Map<String, Object> bindings) {
+        if (bindings.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        final Map<String, Object> queryBindings = new HashMap<>();
+        final Matcher matcher = BINDING_NAME_PATTERN.matcher(query);
+
+        while (matcher.find()) {
+            final String name = matcher.group();
+
+            if (bindings.containsKey(name)) {
+                queryBindings.put(name, bindings.get(name));
+            }
+        }
+
+        return queryBindings;
+    }
+
+    /**
+     * Build the GraphTraversal of query from the given traversal source, with the bindings as variables of query.
+     * The query is parsed by gremlin-language grammar, so it is not compiled by the script engine of gremlin server.
+     */
+    public static GraphTraversal<?, ?> toGraphTraversal(@NonNull GraphTraversalSource source, @NonNull String query,
+                                                        @NonNull Map<String, Object> bindings) {
+        final Object traversal;
+        final GremlinAntlrToJava visitor = new GremlinAntlrToJava(source, new DefaultVariableResolver(bindings));
+
+        try {
+            traversal = visitor.visit(getParseTree(query));
+        } catch (RuntimeException e) {
+            throw new GremlinQueryException("Failed to parse query to GraphTraversal: " + query, e);
+        }
+
+        if (!(traversal instanceof GraphTraversal)) {
+            throw new GremlinQueryException("Query should be GraphTraversal: " + query);
+        }
+
+        return (GraphTraversal<?, ?>) traversal;
+    }
+
+    /**
+     * Get the parse tree of query, which repeats with different bindings as the generated query is parameterized.
+     * Parsing costs several times of visiting the tree, so the least recently used trees are kept.
+     */
+    private static GremlinParser.QueryListContext getParseTree(@NonNull String query) {
+        synchronized (parseTrees) {
+            final GremlinParser.QueryListContext tree = parseTrees.get(query);
+
+            if (tree != null) {
+                return tree;
+            }
+        }
+
+        final GremlinParser.QueryListContext tree = parse(query);
+
+        synchronized (parseTrees) {
+            parseTrees.put(query, tree);
+
+            if (parseTrees.size() > MAX_PARSE_TREES) {
+                parseTrees.remove(parseTrees.keySet().iterator().next());
+            }
+        }
+
+        return tree;
+    }
+
+    /**
+     * Parse the query the same as {@link GremlinQueryParser}, by the faster SLL prediction first and falling back to
+     * the full LL prediction.
+     */
+    private static GremlinParser.QueryListContext parse(@NonNull String query) {
+        final GremlinErrorListener errorListener = new GremlinErrorListener();
+        final GremlinLexer lexer = new GremlinLexer(CharStreams.fromString(query));
+
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(errorListener);
+
+        final CommonTokenStream tokens = new CommonTokenStream(lexer);
+        final GremlinParser parser = new GremlinParser(tokens);
+
+        parser.removeErrorListeners();
+        parser.addErrorListener(errorListener);
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+
+        try {
+            return parser.queryList();
+        } catch (RuntimeException e) {
+            tokens.seek(0);
+            lexer.reset();
+            parser.reset();
+            parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+
+            return parser.queryList();
+        }
+    }
+
+    /**
+     * The results of bytecode are traversers with bulk, unroll them to the results of script.
+     */
+    public static List<Result> toResultList(@NonNull List<Result> results) {
+        final List<Result> resultList = new ArrayList<>(results.size());
+
+        for (final Result result : results) {
+            if (result.getObject() instanceof Traverser) {
+                final Traverser<?> traverser = (Traverser<?>) result.getObject();
+
+                for (long i = 0; i < traverser.bulk(); i++) {
+                    resultList.add(new Result(traverser.get()));
+                }
+            } else {
+                resultList.add(result);
+            }
+        }
+
+        return resultList;
+    }
+
+    /**
+     * The query failed for the overload of gremlin server or connection pool, instead of the query itself or its
+     * deadline.
+     */
+    public static boolean isOverloaded(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof GremlinQueryTimeoutException) {
+                return false;
+            } else if (cause instanceof TimeoutException) {
+                return true;
+            } else if (cause instanceof ResponseException) {
+                final ResponseStatusCode code = ((ResponseException) cause).getResponseStatusCode();
+
+                return code == ResponseStatusCode.TOO_MANY_REQUESTS || code == ResponseStatusCode.SERVER_ERROR_TIMEOUT
+                        || code == ResponseStatusCode.SERVER_ERROR_TEMPORARY;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * The query was aborted by server for exceeding its evaluationTimeout, which is the remaining time of the deadline
+     * if the query has one, see {@link #isOverloaded(Throwable)} otherwise.
+     */
+    public static boolean isServerTimeout(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ResponseException) {
+                return ((ResponseException) cause).getResponseStatusCode() == ResponseStatusCode.SERVER_ERROR_TIMEOUT;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * The query failed for the host, which is overloaded or unreachable, instead of the query itself. Only the
+     * overload responses and the failures of transport count, any other failure is the one of query.
+     */
+    public static boolean isHostFailure(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof GremlinQueryTimeoutException) {
+                return false;
+            } else if (cause instanceof ResponseException) {
+                return isOverloaded(throwable);
+            } else if (cause instanceof ConnectionException || cause instanceof IOException
+                    || cause instanceof TimeoutException || cause instanceof NoHostAvailableException) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Partition the ids into chunks, so that the query of each chunk fits in half of the max content length, leaving
+     * the other half to the request frame. The content of each id is estimated as its literal plus the overhead of
+     * its binding, which is serialized with type in GraphSON.
+     */
+    public static List<List<Object>> toIdChunks(@NonNull Collection<?> ids, int maxContentLength) {
+        return toChunks(ids, id -> String.valueOf(id).length() + ID_CONTENT_OVERHEAD, maxContentLength);
+    }
+
+    /**
+     * Estimate the content of the upsert or insert query of source, as the literals of its ids and properties plus
+     * the overhead of their bindings and steps.
+     */
+    public static int getContentLength(@NonNull GremlinSource<?> source) {
+        int idLength = 2 * (String.valueOf(source.getId().orElse("")).length() + ID_CONTENT_OVERHEAD);
+
+        if (source instanceof GremlinSourceEdge) {
+            final GremlinSourceEdge<?> edge = (GremlinSourceEdge<?>) source;
+
+            idLength += String.valueOf(edge.getVertexIdFrom()).length() + ID_CONTENT_OVERHEAD;
+            idLength += String.valueOf(edge.getVertexIdTo()).length() + ID_CONTENT_OVERHEAD;
+        }
+
+        return ENTITY_CONTENT_OVERHEAD + idLength + source.getProperties().entrySet().stream()
+                .mapToInt(e -> e.getKey().length() + String.valueOf(e.getValue()).length() + PROPERTY_CONTENT_OVERHEAD)
+                .sum();
+    }
+
+    /**
+     * Partition the elements into chunks in order, so that the estimated content of each chunk fits in half of the
+     * max content length. The element larger than that makes a chunk of its own.
+     */
+    public static <E> List<List<E>> toChunks(@NonNull Collection<? extends E> elements,
+                                             @NonNull ToIntFunction<? super E> contentLength, int maxContentLength) {
+        final int maxChunkLength = Math.max(1, maxContentLength / 2);
+        final List<List<E>> chunks = new ArrayList<>();
+        List<E> chunk = new ArrayList<>();
+        int chunkLength = 0;
+
+        for (final E element : elements) {
+            final int length = contentLength.applyAsInt(element);
+
+            if (!chunk.isEmpty() && chunkLength + length > maxChunkLength) {
+                chunks.add(chunk);
+                chunk = new ArrayList<>();
+                chunkLength = 0;
+            }
+
+            chunk.add(element);
+            chunkLength += length;
+        }
+
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+
+        return chunks;
+    }
+
+    /**
+     * The id of the vertex or edge in result, which is either an element or a map of GraphSON, null otherwise.
+     */
+    public static Object getResultId(@NonNull Result result) {
+        final Object object = result.getObject();
+
+        if (object instanceof Element) {
+            return ((Element) object).id();
+        } else if (object instanceof Map) {
+            return ((Map<?, ?>) object).get(PROPERTY_ID);
+        }
+
+        return null;
+    }
+
     public static Class<?> toEntityClass(@NonNull String className) {
         try {
             return Class.forName(className);
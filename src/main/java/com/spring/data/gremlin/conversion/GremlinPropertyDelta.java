@@ -0,0 +1,34 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.spring.data.gremlin.conversion;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The properties of entity changed since its snapshot, see {@link MappingGremlinConverter#getPropertyDelta}.
+ */
+@Getter
+@AllArgsConstructor
+public class GremlinPropertyDelta {
+
+    /**
+     * The properties with new values, the values are the same as the ones written to source.
+     */
+    private final Map<String, Object> changed;
+
+    /**
+     * The names of properties became null, which are to be dropped.
+     */
+    private final Set<String> dropped;
+
+    public boolean isEmpty() {
+        return this.changed.isEmpty() && this.dropped.isEmpty();
+    }
+}
@@ -18,10 +18,24 @@ import org.springframework.lang.NonNull;
 import org.springframework.util.Assert;
 
 import com.spring.data.gremlin.common.GremlinUtils;
+import com.spring.data.gremlin.conversion.script.AbstractGremlinScriptLiteral;
 import com.spring.data.gremlin.conversion.source.GremlinSource;
+import com.spring.data.gremlin.conversion.source.GremlinSourceEdge;
+import com.spring.data.gremlin.conversion.source.GremlinSourceVertex;
+import com.spring.data.gremlin.exception.GremlinInvalidEntityIdFieldException;
 import com.spring.data.gremlin.mapping.GremlinPersistentEntity;
 import com.spring.data.gremlin.mapping.GremlinPersistentProperty;
 
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
 public class MappingGremlinConverter
         implements EntityConverter<GremlinPersistentEntity<?>, GremlinPersistentProperty, Object, GremlinSource>,
         ApplicationContextAware {
@@ -30,6 +44,15 @@ public class MappingGremlinConverter
     protected GenericConversionService conversionService;
     private ApplicationContext applicationContext;
 
+    /**
+     * The snapshots of properties by the entity instance loaded or written, in access order for eviction of the least
+     * recently used. The instances are weakly referenced, and their snapshots go with them once collected.
+     */
+    private final Map<SnapshotKey, Map.Entry<Object, Map<String, Object>>> snapshots = new LinkedHashMap<>(16, 0.75f,
+            true);
+    private final ReferenceQueue<Object> collected = new ReferenceQueue<>();
+    private volatile int snapshotCapacity;
+
     public MappingGremlinConverter(
             MappingContext<? extends GremlinPersistentEntity<?>, GremlinPersistentProperty> context) {
 
@@ -56,6 +79,135 @@ public class MappingGremlinConverter
         return this.conversionService;
     }
 
+    /**
+     * Keep the snapshots of properties of at most capacity entities loaded or written recently, which are compared
+     * with the properties to write for delta updates. 0 to disable, which is set from dirtyTrackingSize of config.
+     */
+    public void setSnapshotCapacity(int capacity) {
+        synchronized (this.snapshots) {
+            this.snapshotCapacity = Math.max(0, capacity);
+
+            while (this.snapshots.size() > this.snapshotCapacity) {
+                this.snapshots.remove(this.snapshots.keySet().iterator().next());
+            }
+        }
+    }
+
+    public boolean isSnapshotEnabled() {
+        return this.snapshotCapacity > 0;
+    }
+
+    /**
+     * Take the snapshot of properties of domain loaded as they are stored, for vertex and edge only. The edge whose
+     * vertex is missing is not snapshotted, and will be updated in full.
+     */
+    public void snapshot(@NonNull Object domain) {
+        if (!this.isSnapshotEnabled()) {
+            return;
+        }
+
+        final GremlinSource<?> source = GremlinUtils.toGremlinSource(domain.getClass());
+
+        if (source instanceof GremlinSourceVertex || source instanceof GremlinSourceEdge) {
+            try {
+                this.write(domain, source);
+            } catch (GremlinInvalidEntityIdFieldException e) {
+                return;
+            }
+
+            this.snapshot(domain, source);
+        }
+    }
+
+    /**
+     * Take the snapshot of properties of domain written to source, which are stored by the update of source.
+     */
+    public void snapshot(@NonNull Object domain, @NonNull GremlinSource<?> source) {
+        if (!this.isSnapshotEnabled() || !source.getId().isPresent()) {
+            return;
+        }
+
+        final Map<String, Object> values = new HashMap<>();
+
+        source.getProperties().forEach((name, value) -> {
+            if (value != null) {
+                values.put(name, AbstractGremlinScriptLiteral.toPropertyValue(value));
+            }
+        });
+
+        synchronized (this.snapshots) {
+            this.purgeSnapshots();
+            this.snapshots.put(new SnapshotKey(domain, this.collected), Map.entry(source.getId().get(), values));
+
+            if (this.snapshots.size() > this.snapshotCapacity) {
+                this.snapshots.remove(this.snapshots.keySet().iterator().next());
+            }
+        }
+    }
+
+    /**
+     * Evict the snapshots of all instances of the entity deleted.
+     */
+    public void evictSnapshot(@NonNull Class<?> domainClass, @NonNull Object id) {
+        synchronized (this.snapshots) {
+            this.purgeSnapshots();
+            this.snapshots.entrySet().removeIf(e -> domainClass.isInstance(e.getKey().get())
+                    && id.equals(e.getValue().getKey()));
+        }
+    }
+
+    public void clearSnapshots() {
+        synchronized (this.snapshots) {
+            this.purgeSnapshots();
+            this.snapshots.clear();
+        }
+    }
+
+    private void purgeSnapshots() {
+        for (Object key = this.collected.poll(); key != null; key = this.collected.poll()) {
+            this.snapshots.remove(key);
+        }
+    }
+
+    /**
+     * The properties of domain written to source which changed since the snapshot of the same instance, empty if no
+     * snapshot or its id changed since. Other instances of the same entity, e.g. deserialized from requests, are
+     * never compared with the snapshot, as they might be stale or never be loaded at all.
+     */
+    public Optional<GremlinPropertyDelta> getPropertyDelta(@NonNull Object domain,
+                                                           @NonNull GremlinSource<?> source) {
+        if (!this.isSnapshotEnabled() || !source.getId().isPresent()) {
+            return Optional.empty();
+        }
+
+        final Map.Entry<Object, Map<String, Object>> entry;
+
+        synchronized (this.snapshots) {
+            entry = this.snapshots.get(new SnapshotKey(domain, null));
+        }
+
+        if (entry == null || !Objects.equals(entry.getKey(), source.getId().get())) {
+            return Optional.empty();
+        }
+
+        final Map<String, Object> snapshot = entry.getValue();
+
+        final Map<String, Object> changed = new HashMap<>();
+        final Set<String> dropped = new HashSet<>(snapshot.keySet());
+
+        source.getProperties().forEach((name, value) -> {
+            if (value != null) {
+                dropped.remove(name);
+
+                if (!AbstractGremlinScriptLiteral.toPropertyValue(value).equals(snapshot.get(name))) {
+                    changed.put(name, value);
+                }
+            }
+        });
+
+        return Optional.of(new GremlinPropertyDelta(changed, dropped));
+    }
+
     @Override
     public <T extends Object> T read(Class<T> domainClass, @NonNull GremlinSource source) {
         @SuppressWarnings("unchecked") final GremlinSource<T> gremlinSource = (GremlinSource<T>) source;
@@ -96,5 +248,36 @@ public class MappingGremlinConverter
     public Object getIdFieldValue(@NonNull Object domain) {
         return this.getFieldValue(domain, this.getIdFieldName(domain));
     }
-}
 
+    /**
+     * The key of snapshot by the identity of entity instance, which doesn't keep the instance from collection.
+     */
+    private static final class SnapshotKey extends WeakReference<Object> {
+
+        private final int hash;
+
+        private SnapshotKey(@NonNull Object domain, ReferenceQueue<Object> queue) {
+            super(domain, queue);
+
+            this.hash = System.identityHashCode(domain);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            } else if (!(other instanceof SnapshotKey)) {
+                return false;
+            }
+
+            final Object domain = this.get();
+
+            return domain != null && domain == ((SnapshotKey) other).get();
+        }
+    }
+}
@@ -9,21 +9,69 @@ import com.spring.data.gremlin.annotation.GeneratedValue;
 import com.spring.data.gremlin.common.GremlinEntityType;
 import com.spring.data.gremlin.common.GremlinUtils;
 import com.spring.data.gremlin.conversion.mapping.JavaTimePropertyMapper;
+import com.spring.data.gremlin.conversion.source.GremlinSource;
 import com.spring.data.gremlin.exception.GremlinInvalidEntityIdFieldException;
 import com.spring.data.gremlin.exception.GremlinUnexpectedEntityTypeException;
 import lombok.NonNull;
+import org.apache.tinkerpop.shaded.jackson.annotation.JsonIgnore;
 import org.apache.tinkerpop.shaded.jackson.core.JsonProcessingException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 import java.lang.reflect.Field;
 import java.util.*;
+import java.util.stream.Collectors;
 
 import static com.spring.data.gremlin.common.Constants.*;
 
 public abstract class AbstractGremlinScriptLiteral {
-    
+
     private static final JavaTimePropertyMapper javaTimeMapper = new JavaTimePropertyMapper();
 
+    /**
+     * The bindings of values referenced by generated scripts, null when values are inlined into scripts.
+     */
+    @Nullable
+    protected Map<String, Object> bindings;
+
+    /**
+     * Generate scripts as stable templates from now on, the values are collected into bindings instead.
+     * The bindings collected before are discarded.
+     */
+    public void enableBindings() {
+        this.setBindings(new HashMap<>());
+    }
+
+    protected void setBindings(@Nullable Map<String, Object> bindings) {
+        this.bindings = bindings;
+    }
+
+    @JsonIgnore
+    public Map<String, Object> getBindings() {
+        return this.bindings == null ? Collections.emptyMap() : Collections.unmodifiableMap(this.bindings);
+    }
+
+    /**
+     * Bind the value to a new name, which takes the place of value in script.
+     *
+     * @return the binding name.
+     */
+    public static String bind(@NonNull Map<String, Object> bindings, @NonNull Object value) {
+        final String name = GREMLIN_BINDING_PREFIX + bindings.size();
+
+        bindings.put(name, value);
+
+        return name;
+    }
+
+    private static void validateId(@NonNull Object id) {
+        if (!(id instanceof String) && !(id instanceof Integer) && !(id instanceof Long)) {
+            throw new GremlinInvalidEntityIdFieldException("Only String/Integer/Long of id is supported");
+        }
+    }
+
     protected static String generateEntityWithRequiredId(@NonNull Object id, GremlinEntityType type) {
         Assert.isTrue(type == GremlinEntityType.EDGE || type == GremlinEntityType.VERTEX, "should be edge/vertex type");
 
@@ -40,6 +88,38 @@ public abstract class AbstractGremlinScriptLiteral {
         throw new GremlinInvalidEntityIdFieldException("Only String/Integer/Long of id is supported");
     }
 
+    protected static String generateEntityWithRequiredId(@NonNull Object id, GremlinEntityType type,
+                                                         @Nullable Map<String, Object> bindings) {
+        if (bindings == null) {
+            return generateEntityWithRequiredId(id, type);
+        }
+
+        Assert.isTrue(type == GremlinEntityType.EDGE || type == GremlinEntityType.VERTEX, "should be edge/vertex type");
+        validateId(id);
+
+        final String prefix = (type == GremlinEntityType.VERTEX) ? "V" : "E";
+
+        return prefix + String.format("(%s)", bind(bindings, id));
+    }
+
+    /**
+     * Generate the id value in script, the same as the one of
+     * {@link #generateEntityWithRequiredId(Object, GremlinEntityType, Map)}.
+     */
+    protected static String generateRequiredIdValue(@NonNull Object id, @Nullable Map<String, Object> bindings) {
+        if (bindings != null) {
+            validateId(id);
+
+            return bind(bindings, id);
+        } else if (id instanceof String) {
+            return String.format("'%s'", (String) id);
+        } else if (id instanceof Integer || id instanceof Long) {
+            return String.format("%d", id);
+        }
+
+        throw new GremlinInvalidEntityIdFieldException("Only String/Integer/Long of id is supported");
+    }
+
     protected static String generatePropertyWithRequiredId(@NonNull Object id) {
         if (id instanceof String) {
             return String.format("property(id, '%s')", (String) id);
@@ -52,6 +132,17 @@ public abstract class AbstractGremlinScriptLiteral {
         throw new GremlinInvalidEntityIdFieldException("Only String/Integer/Long of id is supported");
     }
 
+    protected static String generatePropertyWithRequiredId(@NonNull Object id,
+                                                           @Nullable Map<String, Object> bindings) {
+        if (bindings == null) {
+            return generatePropertyWithRequiredId(id);
+        }
+
+        validateId(id);
+
+        return String.format("property(id, %s)", bind(bindings, id));
+    }
+
     protected static String generateAsWithAlias(@NonNull String alias) {
         return String.format("as('%s')", alias);
     }
@@ -64,6 +155,131 @@ public abstract class AbstractGremlinScriptLiteral {
         return prefix + String.format("('%s')", label);
     }
 
+    /**
+     * Generate coalesce of the folded entities, which takes the existing one, or the one added by the scripts if none.
+     */
+    protected static String generateCoalesceUnfold(@NonNull List<String> addScriptList) {
+        return String.format(GREMLIN_PRIMITIVE_COALESCE_UNFOLD, String.join(GREMLIN_PRIMITIVE_INVOKE, addScriptList));
+    }
+
+    /**
+     * Generate the drop of properties by names, as side effect so that the entity is still returned.
+     */
+    protected static String generateDropProperties(@NonNull Collection<String> names) {
+        final String joined = names.stream().sorted().map(n -> String.format("'%s'", n))
+                .collect(Collectors.joining(", "));
+
+        return String.format(GREMLIN_PRIMITIVE_DROP_PROPERTIES, joined);
+    }
+
+    /**
+     * Generate union of the traversals started from one traverser, which emits the results of each of them.
+     */
+    protected static List<String> generateUnion(@NonNull List<String> traversals) {
+        return Arrays.asList(
+                GREMLIN_PRIMITIVE_GRAPH,                                                // g
+                GREMLIN_PRIMITIVE_INJECT_ONE,                                           // inject(0)
+                String.format(GREMLIN_PRIMITIVE_UNION, String.join(", ", traversals)) // union(xxx, yyy)
+        );
+    }
+
+    /**
+     * Generate the order of sort and the range of page, nothing for the unsorted and unpaged one. The order of id
+     * field is by the id of entity, and the others are by the property of the same name. The properties of sort are
+     * written into the script, so they should be resolved by caller as {@link GremlinUtils#toPropertySort} does.
+     */
+    protected static List<String> generateOrderAndRange(@NonNull GremlinSource source, @NonNull Pageable pageable,
+                                                        @Nullable Map<String, Object> bindings) {
+        final List<String> scriptList = new ArrayList<>();
+        final Sort sort = pageable.getSort();
+
+        if (sort.isSorted()) {
+            scriptList.add(GREMLIN_PRIMITIVE_ORDER);                                   // order()
+            sort.forEach(order -> scriptList.add(generateOrderBy(source, order)));      // by('name', asc)
+        }
+
+        if (pageable.isPaged()) {
+            final long low = pageable.getOffset();
+            final long high = low + pageable.getPageSize();
+
+            scriptList.add(bindings == null ?                                           // range(lo, hi)
+                    String.format(GREMLIN_PRIMITIVE_RANGE, low, high) :
+                    String.format(GREMLIN_PRIMITIVE_RANGE, bind(bindings, low), bind(bindings, high)));
+        }
+
+        return scriptList;
+    }
+
+    private static String generateOrderBy(@NonNull GremlinSource source, @NonNull Sort.Order order) {
+        final String property = order.getProperty();
+        final String direction = order.isAscending() ? "asc" : "desc";
+
+        if (order.isIgnoreCase()) {
+            throw new UnsupportedOperationException("Ignore case of sort is not supported: " + property);
+        } else if (property.equals(source.getIdField().getName())) {
+            return String.format(GREMLIN_PRIMITIVE_ORDER_BY, "id", direction);
+        }
+
+        return String.format(GREMLIN_PRIMITIVE_ORDER_BY, String.format("'%s'", property), direction);
+    }
+
+    /**
+     * Generate the filter of entities after the keyset in the order of sort, nothing for the initial empty keyset. The
+     * entities with the same values of former keys are compared by the latter keys, so the last key should be unique.
+     */
+    protected static List<String> generateKeyset(@NonNull GremlinSource source, @NonNull Sort sort,
+                                                 @NonNull Map<String, Object> keyset,
+                                                 @Nullable Map<String, Object> bindings) {
+        if (keyset.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        final List<String> equals = new ArrayList<>();
+        final List<String> filters = new ArrayList<>();
+
+        sort.forEach(order -> {
+            final String property = order.getProperty();
+            final Object value = keyset.get(property);
+            final String predicate = order.isAscending() ? GREMLIN_PRIMITIVE_GT : GREMLIN_PRIMITIVE_LT;
+
+            Assert.notNull(value, "keyset should contain the non-null value of sort property: " + property);
+
+            final String scriptValue = generateKeysetValue(source, property, value, bindings);
+            final String compare = generateKeysetCompare(source, property, String.format(predicate, scriptValue));
+            final List<String> filter = new ArrayList<>(equals);
+
+            filter.add(compare);
+            filters.add(filter.size() == 1 ? compare :
+                    String.format(GREMLIN_PRIMITIVE_AND_ALL, String.join(", ", filter)));
+            equals.add(generateKeysetCompare(source, property, scriptValue));
+        });
+
+        return Collections.singletonList(filters.size() == 1 ? filters.get(0) :
+                String.format(GREMLIN_PRIMITIVE_OR_ANY, String.join(", ", filters)));
+    }
+
+    private static String generateKeysetCompare(@NonNull GremlinSource source, @NonNull String property,
+                                                @NonNull String value) {
+        if (property.equals(source.getIdField().getName())) {
+            return String.format(GREMLIN_PRIMITIVE_HAS_ID, value);
+        }
+
+        return String.format(GREMLIN_PRIMITIVE_HAS_BINDING, property, value);
+    }
+
+    private static String generateKeysetValue(@NonNull GremlinSource source, @NonNull String property,
+                                              @NonNull Object value, @Nullable Map<String, Object> bindings) {
+        if (property.equals(source.getIdField().getName())) {
+            return generateIdValue(value, source.getIdField(), bindings);
+        } else if (bindings != null) {
+            return bind(bindings, toPropertyValue(value));
+        }
+
+        final Object stored = toPropertyValue(value);
+
+        return stored instanceof String ? String.format("'%s'", stored) : stored.toString();
+    }
+
     protected static List<String> completeScript(@NonNull List<String> scriptList) {
         return Collections.singletonList(String.join(GREMLIN_PRIMITIVE_INVOKE, scriptList));
     }
@@ -84,6 +300,16 @@ public abstract class AbstractGremlinScriptLiteral {
         }
     }
 
+    public static String generateHasId(@NonNull Object id, @Nullable Map<String, Object> bindings) {
+        if (bindings == null) {
+            return generateHasId(id);
+        } else if (id instanceof String || id instanceof Integer || id instanceof Long) {
+            return String.format("hasId(%s)", bind(bindings, id));
+        } else {
+            throw new GremlinInvalidEntityIdFieldException("the type of @Id/id field should be String/Integer/Long");
+        }
+    }
+
     public static String generateHasId(@NonNull Object id, @NonNull Field idFiled) {
         if (!idFiled.isAnnotationPresent(GeneratedValue.class)) {
             return generateHasId(id);
@@ -98,6 +324,60 @@ public abstract class AbstractGremlinScriptLiteral {
         }
     }
 
+    public static String generateHasId(@NonNull Object id, @NonNull Field idFiled,
+                                       @Nullable Map<String, Object> bindings) {
+        if (bindings == null) {
+            return generateHasId(id, idFiled);
+        } else if (idFiled.isAnnotationPresent(GeneratedValue.class) && id instanceof Integer) {
+            return generateHasId(Long.valueOf((Integer) id), bindings); // Keep the same as inlined 'L' suffix.
+        } else {
+            return generateHasId(id, bindings);
+        }
+    }
+
+    /**
+     * Generate hasId of multiple ids, each of which is the same as {@link #generateHasId(Object, Field, Map)}.
+     */
+    public static String generateHasIds(@NonNull Collection<?> ids, @NonNull Field idFiled,
+                                        @Nullable Map<String, Object> bindings) {
+        Assert.notEmpty(ids, "ids should not be empty");
+
+        return ids.stream()
+                .map(id -> generateIdValue(id, idFiled, bindings))
+                .collect(Collectors.joining(", ", "hasId(", ")"));
+    }
+
+    /**
+     * Generate the id value in script, the same as the one of {@link #generateHasId(Object, Field, Map)}.
+     */
+    public static String generateIdValue(@NonNull Object id, @NonNull Field idFiled,
+                                         @Nullable Map<String, Object> bindings) {
+        final boolean generated = idFiled.isAnnotationPresent(GeneratedValue.class);
+
+        if (bindings != null) {
+            return bind(bindings, toIdValue(id, idFiled));
+        } else if (!(id instanceof String) && !(id instanceof Integer) && !(id instanceof Long)) {
+            throw new GremlinInvalidEntityIdFieldException("the type of @Id/id field should be String/Integer/Long");
+        } else if (id instanceof String) {
+            return String.format("'%s'", id);
+        }
+
+        return generated ? String.format("%dL", ((Number) id).longValue()) : id.toString();
+    }
+
+    /**
+     * Convert the id to the value bound in script, the same as the one of {@link #generateIdValue(Object, Field, Map)}.
+     */
+    public static Object toIdValue(@NonNull Object id, @NonNull Field idFiled) {
+        if (!(id instanceof String) && !(id instanceof Integer) && !(id instanceof Long)) {
+            throw new GremlinInvalidEntityIdFieldException("the type of @Id/id field should be String/Integer/Long");
+        } else if (idFiled.isAnnotationPresent(GeneratedValue.class) && id instanceof Integer) {
+            return Long.valueOf((Integer) id);
+        }
+
+        return id;
+    }
+
     private static String generateProperty(@NonNull String name, @NonNull String value) {
         return String.format(GREMLIN_PRIMITIVE_PROPERTY_STRING, name, value);
     }
@@ -140,11 +420,58 @@ public abstract class AbstractGremlinScriptLiteral {
         }
     }
 
+    /**
+     * Convert the value of property to the one stored in gremlin server, same as the inlined one of property script.
+     */
+    public static Object toPropertyValue(@NonNull Object value) {
+        if (value instanceof Integer || value instanceof Boolean || value instanceof String) {
+            return value;
+        } else if (value instanceof Date) {
+            return GremlinUtils.timeToMilliSeconds(value);
+        } else if (javaTimeMapper.supports(value.getClass())) {
+            return javaTimeMapper.toPropertyValue(value);
+        } else {
+            return toJsonValue(value);
+        }
+    }
+
+    /**
+     * Convert the value of has to the one stored in gremlin server, same as the inlined one of has script.
+     */
+    public static Object toHasValue(@NonNull Object value) {
+        if (value instanceof Integer || value instanceof Boolean || value instanceof String) {
+            return value;
+        } else if (value instanceof Date) {
+            return GremlinUtils.timeToMilliSeconds(value);
+        } else {
+            return toJsonValue(value);
+        }
+    }
+
+    private static String toJsonValue(@NonNull Object value) {
+        try {
+            return GremlinUtils.getObjectMapper().writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new GremlinUnexpectedEntityTypeException("Failed to write object to String", e);
+        }
+    }
+
     protected static List<String> generateProperties(@NonNull final Map<String, Object> properties) {
+        return generateProperties(properties, null);
+    }
+
+    protected static List<String> generateProperties(@NonNull final Map<String, Object> properties,
+                                                     @Nullable Map<String, Object> bindings) {
         final List<String> scripts = new ArrayList<>();
 
-        properties.entrySet().stream().filter(e -> e.getValue() != null)
-                .forEach(e -> scripts.add(generateProperty(e.getKey(), e.getValue())));
+        properties.entrySet().stream().filter(e -> e.getValue() != null).forEach(e -> {
+            if (bindings == null) {
+                scripts.add(generateProperty(e.getKey(), e.getValue()));
+            } else {
+                final String name = bind(bindings, toPropertyValue(e.getValue()));
+                scripts.add(String.format(GREMLIN_PRIMITIVE_PROPERTY_BINDING, e.getKey(), name));
+            }
+        });
 
         return scripts;
     }
@@ -188,4 +515,26 @@ public abstract class AbstractGremlinScriptLiteral {
             return hasScript;
         }
     }
+
+    /**
+     * Generate the value in script, the same as the value of has script, like the argument of predicate.
+     */
+    public static String generateHasValue(@NonNull Object value, @Nullable Map<String, Object> bindings) {
+        final Object hasValue = toHasValue(value);
+
+        if (bindings != null) {
+            return bind(bindings, hasValue);
+        }
+
+        return hasValue instanceof String ? String.format("'%s'", hasValue) : hasValue.toString();
+    }
+
+    public static String generateHas(@NonNull String name, @NonNull Object value,
+                                     @Nullable Map<String, Object> bindings) {
+        if (bindings == null) {
+            return generateHas(name, value);
+        }
+
+        return String.format(GREMLIN_PRIMITIVE_HAS_BINDING, name, bind(bindings, toHasValue(value)));
+    }
 }
@@ -5,9 +5,14 @@
  */
 package com.spring.data.gremlin.conversion.script;
 
+import com.spring.data.gremlin.conversion.GremlinPropertyDelta;
 import com.spring.data.gremlin.conversion.source.GremlinSource;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Provider interface to generate different query to gremlin server.
@@ -19,6 +24,17 @@ public interface GremlinScriptLiteral {
      */
     List<String> generateInsertScript(GremlinSource source);
 
+    /**
+     * Generate the insert query of multiple sources (Edge) in one query, which returns a map from the key of each
+     * source to the list of entity inserted, empty if not inserted. The key is {@link #getInsertAllKey(int)} of its
+     * index in sources.
+     */
+    List<String> generateInsertAllScript(List<GremlinSource> sources);
+
+    static String getInsertAllKey(int index) {
+        return "e" + index;
+    }
+
     /**
      * Generate the deleteAll query from source (Vertex, Edge or Graph).
      */
@@ -34,23 +50,82 @@ public interface GremlinScriptLiteral {
      */
     List<String> generateFindByIdScript(GremlinSource source);
 
+    /**
+     * Generate the findById query of multiple ids from source (Vertex, Edge), in one query.
+     */
+    List<String> generateFindByIdsScript(GremlinSource source, Collection<?> ids);
+
     /**
      * Generate the update query from source (Vertex, Edge or Graph).
      */
     List<String> generateUpdateScript(GremlinSource source);
 
+    /**
+     * Generate the update query of the changed properties only from source (Vertex, Edge), which drops the properties
+     * became null, and returns nothing if the entity doesn't exist.
+     */
+    List<String> generateUpdateDeltaScript(GremlinSource source, GremlinPropertyDelta delta);
+
+    /**
+     * Generate the upsert query from source (Vertex, Edge), which updates the entity of id or inserts it if absent,
+     * and returns the entity stored, in one query.
+     */
+    List<String> generateUpsertScript(GremlinSource source);
+
+    /**
+     * Generate the upsert query of multiple sources (Vertex), which returns the entities stored, in one query.
+     */
+    List<String> generateUpsertAllScript(List<GremlinSource> sources);
+
     /**
      * Generate the findAll query from source (Vertex, Edge or Graph).
      */
     List<String> generateFindAllScript(GremlinSource source);
 
+    /**
+     * Generate the findAll query of one page from source (Vertex, Edge), ordered by the sort of pageable, and ranged
+     * by the page if paged.
+     */
+    List<String> generateFindAllScript(GremlinSource source, Pageable pageable);
+
+    /**
+     * Generate the scan query from source (Vertex, Edge), which finds at most limit entities after the keyset in the
+     * order of sort. The keyset maps each property of sort to its value of the last entity scanned, empty to start.
+     */
+    List<String> generateScanScript(GremlinSource source, Sort sort, Map<String, Object> keyset, int limit);
+
+    /**
+     * Generate the Count query of the entities found by findAll from source (Vertex, Edge).
+     */
+    List<String> generateCountAllScript(GremlinSource source);
+
     /**
      * Generate the DeleteById query from source (Vertex, Edge or Graph).
      */
     List<String> generateDeleteByIdScript(GremlinSource source);
 
+    /**
+     * Generate the DeleteById query of multiple ids from source (Vertex, Edge), in one query.
+     */
+    List<String> generateDeleteByIdsScript(GremlinSource source, Collection<?> ids);
+
     /**
      * Generate the Count query from Source (Vertex, Edge)
      */
     List<String> generateCountScript(GremlinSource source);
+
+    /**
+     * Generate the Count query of the label from Source (Vertex, Edge)
+     */
+    List<String> generateCountByLabelScript(GremlinSource source);
+
+    /**
+     * Generate the following queries as templates, with values collected into bindings instead of inlined.
+     */
+    void enableBindings();
+
+    /**
+     * Get the bindings referenced by generated queries, will be empty if values are inlined.
+     */
+    Map<String, Object> getBindings();
 }
@@ -5,17 +5,26 @@
  */
 package com.spring.data.gremlin.conversion.script;
 
+import com.spring.data.gremlin.conversion.GremlinPropertyDelta;
 import com.spring.data.gremlin.conversion.source.GremlinSource;
 import com.spring.data.gremlin.conversion.source.GremlinSourceEdge;
 import com.spring.data.gremlin.exception.GremlinUnexpectedSourceTypeException;
 import lombok.NoArgsConstructor;
 import lombok.NonNull;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static com.spring.data.gremlin.common.Constants.*;
 import static com.spring.data.gremlin.common.GremlinEntityType.EDGE;
@@ -26,14 +35,24 @@ public class GremlinScriptLiteralEdge extends AbstractGremlinScriptLiteral imple
 
     private static final String FROM_ALIAS = "from";
     private static final String TO_ALIAS = "to";
+    private static final String VERTICES_ALIAS = "vertices";
 
     private String generateEdgeDirection(@NonNull String from, @NonNull String to) {
         return String.format("from('%s').to('%s')", from, to);
     }
 
-    @Override
+    /**
+     * The direction of edge added within anonymous traversal, whose vertices are the given traversals.
+     */
+    private String generateEdgeDirectionTraversal(@NonNull String from, @NonNull String to) {
+        return String.format("from(%s).to(%s)", from, to);
+    }
+
+    /**
+     * The steps to insert the edge, which add nothing if the vertex from or to doesn't exist.
+     */
     @SuppressWarnings("unchecked")
-    public List<String> generateInsertScript(@NonNull GremlinSource source) {
+    private List<String> generateInsertSteps(@NonNull GremlinSource source) {
         if (!(source instanceof GremlinSourceEdge)) {
             throw new GremlinUnexpectedSourceTypeException("should be the instance of GremlinSourceEdge");
         }
@@ -41,17 +60,95 @@ public class GremlinScriptLiteralEdge extends AbstractGremlinScriptLiteral imple
         final GremlinSourceEdge sourceEdge = (GremlinSourceEdge) source;
         final List<String> scriptList = new ArrayList<>();
 
-        scriptList.add(GREMLIN_PRIMITIVE_GRAPH);                                            // g
-        scriptList.add(generateEntityWithRequiredId(sourceEdge.getVertexIdFrom(), VERTEX)); // V(id)
-        scriptList.add(generateAsWithAlias(FROM_ALIAS));                                    // from('from')
-        scriptList.add(generateEntityWithRequiredId(sourceEdge.getVertexIdTo(), VERTEX));   // V(id)
-        scriptList.add(generateAsWithAlias(TO_ALIAS));                                      // to('to')
-        scriptList.add(generateAddEntityWithLabel(sourceEdge.getLabel(), EDGE));            // addE(label)
-        scriptList.add(generateEdgeDirection(FROM_ALIAS, TO_ALIAS));                        // from('from').to('to')
+        scriptList.add(generateEntityWithRequiredId(sourceEdge.getVertexIdFrom(), VERTEX, bindings)); // V(id)
+        scriptList.add(generateAsWithAlias(FROM_ALIAS));                                              // as('from')
+        scriptList.add(generateEntityWithRequiredId(sourceEdge.getVertexIdTo(), VERTEX, bindings));   // V(id)
+        scriptList.add(generateAsWithAlias(TO_ALIAS));                                                // as('to')
+        scriptList.addAll(generateAddEdgeSteps(sourceEdge));
+
+        return scriptList;
+    }
+
+    /**
+     * The steps to insert the edge of a chunk, whose vertices are selected from the ones resolved ahead by the chunk.
+     */
+    private List<String> generateInsertStepsOfVertices(@NonNull GremlinSourceEdge<?> source,
+                                                       @NonNull Map<Object, String> vertexIds) {
+        final List<String> scriptList = new ArrayList<>();
+        final String vertices = String.format(GREMLIN_PRIMITIVE_SELECT, VERTICES_ALIAS);
+        final String from = vertexIds.get(source.getVertexIdFrom());
+        final String to = vertexIds.get(source.getVertexIdTo());
+
+        scriptList.add(vertices);                                   // select('vertices')
+        scriptList.add(GREMLIN_PRIMITIVE_UNFOLD);                   // unfold()
+        scriptList.add(String.format(GREMLIN_PRIMITIVE_HAS_ID, from)); // hasId(id)
+        scriptList.add(generateAsWithAlias(FROM_ALIAS));            // as('from')
+        scriptList.add(vertices);                                   // select('vertices')
+        scriptList.add(GREMLIN_PRIMITIVE_UNFOLD);                   // unfold()
+        scriptList.add(String.format(GREMLIN_PRIMITIVE_HAS_ID, to));   // hasId(id)
+        scriptList.add(generateAsWithAlias(TO_ALIAS));              // as('to')
+        scriptList.addAll(generateAddEdgeSteps(source));
+
+        return scriptList;
+    }
+
+    private List<String> generateAddEdgeSteps(@NonNull GremlinSourceEdge<?> source) {
+        final List<String> scriptList = new ArrayList<>();
+
+        scriptList.add(generateAddEntityWithLabel(source.getLabel(), EDGE)); // addE(label)
+        scriptList.add(generateEdgeDirection(FROM_ALIAS, TO_ALIAS));         // from('from').to('to')
+
+        source.getId().ifPresent(id -> scriptList.add(generatePropertyWithRequiredId(id, bindings))); // property(id)
+
+        scriptList.addAll(generateProperties(source.getProperties(), bindings));
+
+        return scriptList;
+    }
+
+    @Override
+    public List<String> generateInsertScript(@NonNull GremlinSource source) {
+        final List<String> scriptList = new ArrayList<>();
+
+        scriptList.add(GREMLIN_PRIMITIVE_GRAPH); // g
+        scriptList.addAll(generateInsertSteps(source));
+
+        return completeScript(scriptList);
+    }
+
+    @Override
+    public List<String> generateInsertAllScript(@NonNull List<GremlinSource> sources) {
+        Assert.notEmpty(sources, "sources should not be empty");
+
+        final List<String> scriptList = new ArrayList<>();
+        final Map<Object, String> vertexIds = new LinkedHashMap<>();
+        final String keys = IntStream.range(0, sources.size())
+                .mapToObj(i -> String.format("'%s'", GremlinScriptLiteral.getInsertAllKey(i)))
+                .collect(Collectors.joining(", "));
+
+        sources.forEach(s -> {
+            if (!(s instanceof GremlinSourceEdge)) {
+                throw new GremlinUnexpectedSourceTypeException("should be the instance of GremlinSourceEdge");
+            }
+
+            final GremlinSourceEdge<?> sourceEdge = (GremlinSourceEdge<?>) s;
+
+            vertexIds.computeIfAbsent(sourceEdge.getVertexIdFrom(), id -> generateRequiredIdValue(id, bindings));
+            vertexIds.computeIfAbsent(sourceEdge.getVertexIdTo(), id -> generateRequiredIdValue(id, bindings));
+        });
 
-        source.getId().ifPresent(id -> scriptList.add(generatePropertyWithRequiredId(id))); // property(id, xxx)
+        // The distinct vertices of chunk are looked up once, instead of twice by each edge.
+        scriptList.add(GREMLIN_PRIMITIVE_GRAPH);                                        // g
+        scriptList.add(String.format("V(%s)", String.join(", ", vertexIds.values()))); // V(id, ...)
+        scriptList.add(GREMLIN_PRIMITIVE_FOLD);                                         // fold()
+        scriptList.add(generateAsWithAlias(VERTICES_ALIAS));                            // as('vertices')
+        scriptList.add(String.format(GREMLIN_PRIMITIVE_PROJECT, keys));                 // project('e0', 'e1')
 
-        scriptList.addAll(generateProperties(source.getProperties()));
+        sources.forEach(s -> {
+            final List<String> steps = generateInsertStepsOfVertices((GremlinSourceEdge<?>) s, vertexIds);
+
+            steps.add(GREMLIN_PRIMITIVE_FOLD);                                                          // fold()
+            scriptList.add(String.format(GREMLIN_PRIMITIVE_BY, String.join(GREMLIN_PRIMITIVE_INVOKE, steps))); // by()
+        });
 
         return completeScript(scriptList);
     }
@@ -86,9 +183,24 @@ public class GremlinScriptLiteralEdge extends AbstractGremlinScriptLiteral imple
         Assert.isTrue(source.getId().isPresent(), "GremlinSource should contain id.");
 
         final List<String> scriptList = Arrays.asList(
-                GREMLIN_PRIMITIVE_GRAPH,                                 // g
-                GREMLIN_PRIMITIVE_EDGE_ALL,                              // E()
-                generateHasId(source.getId().get(), source.getIdField()) // hasId(xxx)
+                GREMLIN_PRIMITIVE_GRAPH,                                           // g
+                GREMLIN_PRIMITIVE_EDGE_ALL,                                        // E()
+                generateHasId(source.getId().get(), source.getIdField(), bindings) // hasId(xxx)
+        );
+
+        return completeScript(scriptList);
+    }
+
+    @Override
+    public List<String> generateFindByIdsScript(@NonNull GremlinSource source, @NonNull Collection<?> ids) {
+        if (!(source instanceof GremlinSourceEdge)) {
+            throw new GremlinUnexpectedSourceTypeException("should be the instance of GremlinSourceEdge");
+        }
+
+        final List<String> scriptList = Arrays.asList(
+                GREMLIN_PRIMITIVE_GRAPH,                            // g
+                GREMLIN_PRIMITIVE_EDGE_ALL,                         // E()
+                generateHasIds(ids, source.getIdField(), bindings) // hasId(xxx, yyy)
         );
 
         return completeScript(scriptList);
@@ -105,16 +217,107 @@ public class GremlinScriptLiteralEdge extends AbstractGremlinScriptLiteral imple
 
         Assert.isTrue(source.getId().isPresent(), "GremlinSource should contain id.");
 
-        scriptList.add(GREMLIN_PRIMITIVE_GRAPH);                                  // g
-        scriptList.add(generateEntityWithRequiredId(source.getId().get(), EDGE)); // E(id)
+        scriptList.add(GREMLIN_PRIMITIVE_GRAPH);                                            // g
+        scriptList.add(generateEntityWithRequiredId(source.getId().get(), EDGE, bindings)); // E(id)
+
+        scriptList.addAll(generateProperties(source.getProperties(), bindings));
+
+        return completeScript(scriptList);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> generateUpsertScript(@NonNull GremlinSource source) {
+        if (!(source instanceof GremlinSourceEdge)) {
+            throw new GremlinUnexpectedSourceTypeException("should be the instance of GremlinSourceEdge");
+        }
+
+        Assert.isTrue(source.getId().isPresent(), "GremlinSource should contain id.");
+
+        final GremlinSourceEdge sourceEdge = (GremlinSourceEdge) source;
+        final Object id = source.getId().get();
+        final String hasId = generateHasId(id, source.getIdField(), bindings);
+        final String vertexFrom = generateEntityWithRequiredId(sourceEdge.getVertexIdFrom(), VERTEX, bindings);
+        final String vertexTo = generateEntityWithRequiredId(sourceEdge.getVertexIdTo(), VERTEX, bindings);
+        final List<String> addScriptList = Arrays.asList(
+                generateAddEntityWithLabel(sourceEdge.getLabel(), EDGE), // addE(label)
+                generateEdgeDirectionTraversal(vertexFrom, vertexTo),    // from(V(id)).to(V(id))
+                generatePropertyWithRequiredId(id, bindings)             // property(id, xxx)
+        );
+        final List<String> scriptList = new ArrayList<>();
 
-        scriptList.addAll(generateProperties(source.getProperties()));
+        scriptList.add(GREMLIN_PRIMITIVE_GRAPH);                          // g
+        scriptList.add(GREMLIN_PRIMITIVE_EDGE_ALL);                       // E()
+        scriptList.add(hasId);                                            // hasId(xxx)
+        scriptList.add(GREMLIN_PRIMITIVE_FOLD);                           // fold()
+        scriptList.add(generateCoalesceUnfold(addScriptList));            // coalesce(unfold(), addE(...))
+        scriptList.addAll(generateProperties(source.getProperties(), bindings));
+
+        return completeScript(scriptList);
+    }
+
+    @Override
+    public List<String> generateUpsertAllScript(@Nullable List<GremlinSource> sources) {
+        throw new UnsupportedOperationException("Gremlin edges cannot upsert all by single query.");
+    }
+
+    @Override
+    public List<String> generateUpdateDeltaScript(@NonNull GremlinSource source, @NonNull GremlinPropertyDelta delta) {
+        if (!(source instanceof GremlinSourceEdge)) {
+            throw new GremlinUnexpectedSourceTypeException("should be the instance of GremlinSourceEdge");
+        }
+
+        Assert.isTrue(source.getId().isPresent(), "GremlinSource should contain id.");
+
+        final List<String> scriptList = new ArrayList<>();
+
+        scriptList.add(GREMLIN_PRIMITIVE_GRAPH);                                            // g
+        scriptList.add(generateEntityWithRequiredId(source.getId().get(), EDGE, bindings)); // E(id)
+        scriptList.addAll(generateProperties(delta.getChanged(), bindings));
+
+        if (!delta.getDropped().isEmpty()) {
+            scriptList.add(generateDropProperties(delta.getDropped())); // sideEffect(properties('name').drop())
+        }
 
         return completeScript(scriptList);
     }
 
     @Override
     public List<String> generateFindAllScript(@NonNull GremlinSource source) {
+        return completeScript(this.generateFindAllSteps(source));
+    }
+
+    @Override
+    public List<String> generateFindAllScript(@NonNull GremlinSource source, @NonNull Pageable pageable) {
+        final List<String> scriptList = this.generateFindAllSteps(source);
+
+        scriptList.addAll(generateOrderAndRange(source, pageable, bindings)); // order().by('name', asc).range(lo, hi)
+
+        return completeScript(scriptList);
+    }
+
+    @Override
+    public List<String> generateScanScript(@NonNull GremlinSource source, @NonNull Sort sort,
+                                           @NonNull Map<String, Object> keyset, int limit) {
+        final List<String> scriptList = this.generateFindAllSteps(source);
+
+        scriptList.addAll(generateKeyset(source, sort, keyset, bindings));                  // has('name', gt(x))
+        scriptList.addAll(generateOrderAndRange(source, Pageable.unpaged(sort), bindings)); // order().by('name', asc)
+        scriptList.add(String.format(GREMLIN_PRIMITIVE_LIMIT, limit));                      // limit(n)
+
+        return completeScript(scriptList);
+    }
+
+    @Override
+    public List<String> generateCountAllScript(@NonNull GremlinSource source) {
+        final List<String> scriptList = this.generateFindAllSteps(source);
+
+        scriptList.add(GREMLIN_PRIMITIVE_COUNT); // count()
+
+        return completeScript(scriptList);
+    }
+
+    private List<String> generateFindAllSteps(@NonNull GremlinSource source) {
         if (!(source instanceof GremlinSourceEdge)) {
             throw new GremlinUnexpectedSourceTypeException("should be the instance of GremlinSourceEdge");
         }
@@ -122,29 +325,43 @@ public class GremlinScriptLiteralEdge extends AbstractGremlinScriptLiteral imple
         final String className = source.getProperties().get(GREMLIN_PROPERTY_CLASSNAME).toString();
         Assert.notNull(className, "GremlinSource should contain predefined className");
 
+        return new ArrayList<>(Arrays.asList(
+                GREMLIN_PRIMITIVE_GRAPH,                                     // g
+                GREMLIN_PRIMITIVE_EDGE_ALL,                                  // E()
+                generateHasLabel(source.getLabel()),                         // has(label, 'label')
+                generateHas(GREMLIN_PROPERTY_CLASSNAME, className, bindings) // has(_classname, 'xxxxxx')
+        ));
+    }
+
+    @Override
+    public List<String> generateDeleteByIdScript(@NonNull GremlinSource source) {
+        if (!(source instanceof GremlinSourceEdge)) {
+            throw new GremlinUnexpectedSourceTypeException("should be the instance of GremlinSourceEdge");
+        }
+
+        Assert.isTrue(source.getId().isPresent(), "GremlinSource should contain id.");
+
         final List<String> scriptList = Arrays.asList(
-                GREMLIN_PRIMITIVE_GRAPH,                           // g
-                GREMLIN_PRIMITIVE_EDGE_ALL,                        // E()
-                generateHasLabel(source.getLabel()),               // has(label, 'label')
-                generateHas(GREMLIN_PROPERTY_CLASSNAME, className) // has(_classname, 'xxxxxx')
+                GREMLIN_PRIMITIVE_GRAPH,                                            // g
+                GREMLIN_PRIMITIVE_EDGE_ALL,                                         // E()
+                generateHasId(source.getId().get(), source.getIdField(), bindings), // hasId(xxx)
+                GREMLIN_PRIMITIVE_DROP                                              // drop()
         );
 
         return completeScript(scriptList);
     }
 
     @Override
-    public List<String> generateDeleteByIdScript(@NonNull GremlinSource source) {
+    public List<String> generateDeleteByIdsScript(@NonNull GremlinSource source, @NonNull Collection<?> ids) {
         if (!(source instanceof GremlinSourceEdge)) {
             throw new GremlinUnexpectedSourceTypeException("should be the instance of GremlinSourceEdge");
         }
 
-        Assert.isTrue(source.getId().isPresent(), "GremlinSource should contain id.");
-
         final List<String> scriptList = Arrays.asList(
-                GREMLIN_PRIMITIVE_GRAPH,                                  // g
-                GREMLIN_PRIMITIVE_EDGE_ALL,                               // E()
-                generateHasId(source.getId().get(), source.getIdField()), // hasId(xxx)
-                GREMLIN_PRIMITIVE_DROP                                    // drop()
+                GREMLIN_PRIMITIVE_GRAPH,                            // g
+                GREMLIN_PRIMITIVE_EDGE_ALL,                         // E()
+                generateHasIds(ids, source.getIdField(), bindings), // hasId(xxx, yyy)
+                GREMLIN_PRIMITIVE_DROP                              // drop()
         );
 
         return completeScript(scriptList);
@@ -156,7 +373,23 @@ public class GremlinScriptLiteralEdge extends AbstractGremlinScriptLiteral imple
             throw new GremlinUnexpectedSourceTypeException("should be the instance of GremlinSourceEdge");
         }
 
-        return Collections.singletonList(GREMLIN_SCRIPT_EDGE_ALL);
+        return Collections.singletonList(GREMLIN_SCRIPT_EDGE_COUNT);
+    }
+
+    @Override
+    public List<String> generateCountByLabelScript(@NonNull GremlinSource source) {
+        if (!(source instanceof GremlinSourceEdge)) {
+            throw new GremlinUnexpectedSourceTypeException("should be the instance of GremlinSourceEdge");
+        }
+
+        final List<String> scriptList = Arrays.asList(
+                GREMLIN_PRIMITIVE_GRAPH,             // g
+                GREMLIN_PRIMITIVE_EDGE_ALL,          // E()
+                generateHasLabel(source.getLabel()), // has(label, 'label')
+                GREMLIN_PRIMITIVE_COUNT              // count()
+        );
+
+        return completeScript(scriptList);
     }
 }
 
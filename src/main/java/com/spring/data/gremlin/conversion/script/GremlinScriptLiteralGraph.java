@@ -5,10 +5,14 @@
  */
 package com.spring.data.gremlin.conversion.script;
 
+import com.spring.data.gremlin.conversion.GremlinPropertyDelta;
 import com.spring.data.gremlin.conversion.source.GremlinSource;
 import com.spring.data.gremlin.conversion.source.GremlinSourceGraph;
 import com.spring.data.gremlin.exception.GremlinUnexpectedSourceTypeException;
 import lombok.NoArgsConstructor;
+import org.apache.tinkerpop.shaded.jackson.annotation.JsonIgnore;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 
@@ -24,6 +28,18 @@ public class GremlinScriptLiteralGraph implements GremlinScriptLiteral {
 
     private final GremlinScriptLiteralEdge scriptEdge = new GremlinScriptLiteralEdge();
 
+    @Override
+    public void enableBindings() {
+        this.scriptVertex.enableBindings();
+        this.scriptEdge.setBindings(this.scriptVertex.bindings); // Share bindings to keep the binding names unique.
+    }
+
+    @Override
+    @JsonIgnore
+    public Map<String, Object> getBindings() {
+        return this.scriptVertex.getBindings();
+    }
+
     @Override
     public List<String> generateInsertScript(@NonNull GremlinSource source) {
         return generateInsertUpdateScript(source,
@@ -31,6 +47,11 @@ public class GremlinScriptLiteralGraph implements GremlinScriptLiteral {
                 scriptEdge::generateInsertScript);
     }
 
+    @Override
+    public List<String> generateInsertAllScript(@Nullable List<GremlinSource> sources) {
+        throw new UnsupportedOperationException("Gremlin graph cannot insert all by single query.");
+    }
+
     @Override
     public List<String> generateDeleteAllScript() {
         return Arrays.asList(GREMLIN_SCRIPT_EDGE_DROP_ALL, GREMLIN_QUERY_BARRIER, GREMLIN_SCRIPT_VERTEX_DROP_ALL);
@@ -46,6 +67,32 @@ public class GremlinScriptLiteralGraph implements GremlinScriptLiteral {
         throw new UnsupportedOperationException("Gremlin graph cannot findById by single query.");
     }
 
+    @Override
+    public List<String> generateFindByIdsScript(@Nullable GremlinSource source, @Nullable Collection<?> ids) {
+        throw new UnsupportedOperationException("Gremlin graph cannot findById by single query.");
+    }
+
+    @Override
+    public List<String> generateUpdateDeltaScript(@Nullable GremlinSource source,
+                                                  @Nullable GremlinPropertyDelta delta) {
+        throw new UnsupportedOperationException("Gremlin graph cannot update by delta.");
+    }
+
+    @Override
+    public List<String> generateUpsertScript(@Nullable GremlinSource source) {
+        throw new UnsupportedOperationException("Gremlin graph cannot upsert by single query.");
+    }
+
+    @Override
+    public List<String> generateUpsertAllScript(@Nullable List<GremlinSource> sources) {
+        throw new UnsupportedOperationException("Gremlin graph cannot upsert by single query.");
+    }
+
+    @Override
+    public List<String> generateDeleteByIdsScript(@NonNull GremlinSource source, @Nullable Collection<?> ids) {
+        return this.generateDeleteByIdScript(source);
+    }
+
     @Override
     public List<String> generateUpdateScript(@NonNull GremlinSource source) {
         return generateInsertUpdateScript(source,
@@ -87,8 +134,29 @@ public class GremlinScriptLiteralGraph implements GremlinScriptLiteral {
         throw new UnsupportedOperationException("Gremlin graph cannot be findAll.");
     }
 
+    @Override
+    public List<String> generateFindAllScript(@NonNull GremlinSource source, @NonNull Pageable pageable) {
+        throw new UnsupportedOperationException("Gremlin graph cannot be findAll.");
+    }
+
+    @Override
+    public List<String> generateScanScript(@NonNull GremlinSource source, @NonNull Sort sort,
+                                           @NonNull Map<String, Object> keyset, int limit) {
+        throw new UnsupportedOperationException("Gremlin graph cannot be scanned.");
+    }
+
+    @Override
+    public List<String> generateCountAllScript(@NonNull GremlinSource source) {
+        throw new UnsupportedOperationException("Gremlin graph counting is not available.");
+    }
+
     public List<String> generateIsEmptyScript() {
-        final List<String> scriptList = Arrays.asList(GREMLIN_PRIMITIVE_GRAPH, GREMLIN_PRIMITIVE_VERTEX_ALL);
+        final List<String> scriptList = Arrays.asList(
+                GREMLIN_PRIMITIVE_GRAPH,                   // g
+                GREMLIN_PRIMITIVE_VERTEX_ALL,              // V()
+                String.format(GREMLIN_PRIMITIVE_LIMIT, 1), // limit(1)
+                GREMLIN_PRIMITIVE_COUNT                    // count()
+        );
         final String query = String.join(GREMLIN_PRIMITIVE_INVOKE, scriptList);
 
         return Collections.singletonList(query);
@@ -98,4 +166,9 @@ public class GremlinScriptLiteralGraph implements GremlinScriptLiteral {
     public List<String> generateCountScript(@NonNull GremlinSource source) {
         throw new UnsupportedOperationException("Gremlin graph counting is not available.");
     }
+
+    @Override
+    public List<String> generateCountByLabelScript(@NonNull GremlinSource source) {
+        throw new UnsupportedOperationException("Gremlin graph counting is not available.");
+    }
 }
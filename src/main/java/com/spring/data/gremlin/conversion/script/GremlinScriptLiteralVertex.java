@@ -6,17 +6,24 @@
 package com.spring.data.gremlin.conversion.script;
 
 import com.spring.data.gremlin.annotation.GeneratedValue;
+import com.spring.data.gremlin.conversion.GremlinPropertyDelta;
 import com.spring.data.gremlin.conversion.source.GremlinSource;
 import com.spring.data.gremlin.conversion.source.GremlinSourceVertex;
 import com.spring.data.gremlin.exception.GremlinUnexpectedSourceTypeException;
 import lombok.NoArgsConstructor;
 import lombok.NonNull;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import static com.spring.data.gremlin.common.Constants.*;
 import static com.spring.data.gremlin.common.GremlinEntityType.VERTEX;
@@ -33,21 +40,26 @@ public class GremlinScriptLiteralVertex extends AbstractGremlinScriptLiteral imp
 
         final List<String> scriptList = new ArrayList<>();
 
-        scriptList.add(GREMLIN_PRIMITIVE_GRAPH);                                            // g
-        scriptList.add(generateAddEntityWithLabel(source.getLabel(), VERTEX));              // addV('label')
+        scriptList.add(GREMLIN_PRIMITIVE_GRAPH);                               // g
+        scriptList.add(generateAddEntityWithLabel(source.getLabel(), VERTEX)); // addV('label')
 
         // Only set ID property if the ID field is NOT marked with @GeneratedValue
         source.getId().ifPresent(id -> {
             if (!source.getIdField().isAnnotationPresent(GeneratedValue.class)) {
-                scriptList.add(generatePropertyWithRequiredId(id)); // property(id, xxx)
+                scriptList.add(generatePropertyWithRequiredId(id, bindings)); // property(id, xxx)
             }
         });
 
-        scriptList.addAll(generateProperties(source.getProperties()));
+        scriptList.addAll(generateProperties(source.getProperties(), bindings));
 
         return completeScript(scriptList);
     }
 
+    @Override
+    public List<String> generateInsertAllScript(@Nullable List<GremlinSource> sources) {
+        throw new UnsupportedOperationException("Gremlin vertices cannot insert all by single query.");
+    }
+
     @Override
     public List<String> generateDeleteAllScript() {
         return Collections.singletonList(GREMLIN_SCRIPT_VERTEX_DROP_ALL);
@@ -78,9 +90,24 @@ public class GremlinScriptLiteralVertex extends AbstractGremlinScriptLiteral imp
         Assert.isTrue(source.getId().isPresent(), "GremlinSource should contain id.");
 
         final List<String> scriptList = Arrays.asList(
-                GREMLIN_PRIMITIVE_GRAPH,                                 // g
-                GREMLIN_PRIMITIVE_VERTEX_ALL,                            // V()
-                generateHasId(source.getId().get(), source.getIdField()) // hasId(xxx)
+                GREMLIN_PRIMITIVE_GRAPH,                                           // g
+                GREMLIN_PRIMITIVE_VERTEX_ALL,                                      // V()
+                generateHasId(source.getId().get(), source.getIdField(), bindings) // hasId(xxx)
+        );
+
+        return completeScript(scriptList);
+    }
+
+    @Override
+    public List<String> generateFindByIdsScript(@NonNull GremlinSource source, @NonNull Collection<?> ids) {
+        if (!(source instanceof GremlinSourceVertex)) {
+            throw new GremlinUnexpectedSourceTypeException("should be the instance of GremlinSourceVertex");
+        }
+
+        final List<String> scriptList = Arrays.asList(
+                GREMLIN_PRIMITIVE_GRAPH,                            // g
+                GREMLIN_PRIMITIVE_VERTEX_ALL,                       // V()
+                generateHasIds(ids, source.getIdField(), bindings) // hasId(xxx, yyy)
         );
 
         return completeScript(scriptList);
@@ -97,15 +124,116 @@ public class GremlinScriptLiteralVertex extends AbstractGremlinScriptLiteral imp
 
         Assert.isTrue(source.getId().isPresent(), "GremlinSource should contain id.");
 
-        scriptList.add(GREMLIN_PRIMITIVE_GRAPH);                                    // g
-        scriptList.add(generateEntityWithRequiredId(source.getId().get(), VERTEX)); // V(id)
-        scriptList.addAll(generateProperties(source.getProperties()));
+        scriptList.add(GREMLIN_PRIMITIVE_GRAPH);                                              // g
+        scriptList.add(generateEntityWithRequiredId(source.getId().get(), VERTEX, bindings)); // V(id)
+        scriptList.addAll(generateProperties(source.getProperties(), bindings));
+
+        return completeScript(scriptList);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> generateUpsertSteps(@NonNull GremlinSource source) {
+        if (!(source instanceof GremlinSourceVertex)) {
+            throw new GremlinUnexpectedSourceTypeException("should be the instance of GremlinSourceVertex");
+        }
+
+        Assert.isTrue(source.getId().isPresent(), "GremlinSource should contain id.");
+
+        final Object id = source.getId().get();
+        final String hasId = generateHasId(id, source.getIdField(), bindings);
+        final List<String> addScriptList = Arrays.asList(
+                generateAddEntityWithLabel(source.getLabel(), VERTEX), // addV('label')
+                generatePropertyWithRequiredId(id, bindings)           // property(id, xxx)
+        );
+        final List<String> scriptList = new ArrayList<>();
+
+        scriptList.add(GREMLIN_PRIMITIVE_VERTEX_ALL);                     // V()
+        scriptList.add(hasId);                                            // hasId(xxx)
+        scriptList.add(GREMLIN_PRIMITIVE_FOLD);                           // fold()
+        scriptList.add(generateCoalesceUnfold(addScriptList));            // coalesce(unfold(), addV(...))
+        scriptList.addAll(generateProperties(source.getProperties(), bindings));
+
+        return scriptList;
+    }
+
+    @Override
+    public List<String> generateUpsertScript(@NonNull GremlinSource source) {
+        final List<String> scriptList = new ArrayList<>();
+
+        scriptList.add(GREMLIN_PRIMITIVE_GRAPH); // g
+        scriptList.addAll(generateUpsertSteps(source));
+
+        return completeScript(scriptList);
+    }
+
+    @Override
+    public List<String> generateUpsertAllScript(@NonNull List<GremlinSource> sources) {
+        Assert.notEmpty(sources, "sources should not be empty");
+
+        final List<String> traversals = sources.stream()
+                .map(s -> String.join(GREMLIN_PRIMITIVE_INVOKE, generateUpsertSteps(s)))
+                .collect(Collectors.toList());
+
+        return completeScript(generateUnion(traversals));
+    }
+
+    @Override
+    public List<String> generateUpdateDeltaScript(@NonNull GremlinSource source, @NonNull GremlinPropertyDelta delta) {
+        if (!(source instanceof GremlinSourceVertex)) {
+            throw new GremlinUnexpectedSourceTypeException("should be the instance of GremlinSourceVertex");
+        }
+
+        Assert.isTrue(source.getId().isPresent(), "GremlinSource should contain id.");
+
+        final List<String> scriptList = new ArrayList<>();
+
+        scriptList.add(GREMLIN_PRIMITIVE_GRAPH);                                              // g
+        scriptList.add(generateEntityWithRequiredId(source.getId().get(), VERTEX, bindings)); // V(id)
+        scriptList.addAll(generateProperties(delta.getChanged(), bindings));
+
+        if (!delta.getDropped().isEmpty()) {
+            scriptList.add(generateDropProperties(delta.getDropped())); // sideEffect(properties('name').drop())
+        }
 
         return completeScript(scriptList);
     }
 
     @Override
     public List<String> generateFindAllScript(@NonNull GremlinSource source) {
+        return completeScript(this.generateFindAllSteps(source));
+    }
+
+    @Override
+    public List<String> generateFindAllScript(@NonNull GremlinSource source, @NonNull Pageable pageable) {
+        final List<String> scriptList = this.generateFindAllSteps(source);
+
+        scriptList.addAll(generateOrderAndRange(source, pageable, bindings)); // order().by('name', asc).range(lo, hi)
+
+        return completeScript(scriptList);
+    }
+
+    @Override
+    public List<String> generateScanScript(@NonNull GremlinSource source, @NonNull Sort sort,
+                                           @NonNull Map<String, Object> keyset, int limit) {
+        final List<String> scriptList = this.generateFindAllSteps(source);
+
+        scriptList.addAll(generateKeyset(source, sort, keyset, bindings));                  // has('name', gt(x))
+        scriptList.addAll(generateOrderAndRange(source, Pageable.unpaged(sort), bindings)); // order().by('name', asc)
+        scriptList.add(String.format(GREMLIN_PRIMITIVE_LIMIT, limit));                      // limit(n)
+
+        return completeScript(scriptList);
+    }
+
+    @Override
+    public List<String> generateCountAllScript(@NonNull GremlinSource source) {
+        final List<String> scriptList = this.generateFindAllSteps(source);
+
+        scriptList.add(GREMLIN_PRIMITIVE_COUNT); // count()
+
+        return completeScript(scriptList);
+    }
+
+    private List<String> generateFindAllSteps(@NonNull GremlinSource source) {
         if (!(source instanceof GremlinSourceVertex)) {
             throw new GremlinUnexpectedSourceTypeException("should be the instance of GremlinSourceVertex");
         }
@@ -113,29 +241,43 @@ public class GremlinScriptLiteralVertex extends AbstractGremlinScriptLiteral imp
         final String classname = source.getProperties().get(GREMLIN_PROPERTY_CLASSNAME).toString();
         Assert.notNull(classname, "GremlinSource should contain predefined classname");
 
+        return new ArrayList<>(Arrays.asList(
+                GREMLIN_PRIMITIVE_GRAPH,                                     // g
+                GREMLIN_PRIMITIVE_VERTEX_ALL,                                // V()
+                generateHasLabel(source.getLabel()),                         // has(label, 'label')
+                generateHas(GREMLIN_PROPERTY_CLASSNAME, classname, bindings) // has(_classname, 'xxxxxx')
+        ));
+    }
+
+    @Override
+    public List<String> generateDeleteByIdScript(@NonNull GremlinSource source) {
+        if (!(source instanceof GremlinSourceVertex)) {
+            throw new GremlinUnexpectedSourceTypeException("should be the instance of GremlinSourceVertex");
+        }
+
+        Assert.isTrue(source.getId().isPresent(), "GremlinSource should contain id.");
+
         final List<String> scriptList = Arrays.asList(
-                GREMLIN_PRIMITIVE_GRAPH,                           // g
-                GREMLIN_PRIMITIVE_VERTEX_ALL,                      // V()
-                generateHasLabel(source.getLabel()),               // has(label, 'label')
-                generateHas(GREMLIN_PROPERTY_CLASSNAME, classname) // has(_classname, 'xxxxxx')
+                GREMLIN_PRIMITIVE_GRAPH,                                            // g
+                GREMLIN_PRIMITIVE_VERTEX_ALL,                                       // E()
+                generateHasId(source.getId().get(), source.getIdField(), bindings), // hasId(xxx)
+                GREMLIN_PRIMITIVE_DROP                                              // drop()
         );
 
         return completeScript(scriptList);
     }
 
     @Override
-    public List<String> generateDeleteByIdScript(@NonNull GremlinSource source) {
+    public List<String> generateDeleteByIdsScript(@NonNull GremlinSource source, @NonNull Collection<?> ids) {
         if (!(source instanceof GremlinSourceVertex)) {
             throw new GremlinUnexpectedSourceTypeException("should be the instance of GremlinSourceVertex");
         }
 
-        Assert.isTrue(source.getId().isPresent(), "GremlinSource should contain id.");
-
         final List<String> scriptList = Arrays.asList(
-                GREMLIN_PRIMITIVE_GRAPH,                                  // g
-                GREMLIN_PRIMITIVE_VERTEX_ALL,                             // E()
-                generateHasId(source.getId().get(), source.getIdField()), // hasId(xxx)
-                GREMLIN_PRIMITIVE_DROP                                    // drop()
+                GREMLIN_PRIMITIVE_GRAPH,                            // g
+                GREMLIN_PRIMITIVE_VERTEX_ALL,                       // V()
+                generateHasIds(ids, source.getIdField(), bindings), // hasId(xxx, yyy)
+                GREMLIN_PRIMITIVE_DROP                              // drop()
         );
 
         return completeScript(scriptList);
@@ -147,7 +289,23 @@ public class GremlinScriptLiteralVertex extends AbstractGremlinScriptLiteral imp
             throw new GremlinUnexpectedSourceTypeException("should be the instance of GremlinSourceVertex");
         }
 
-        return Collections.singletonList(GREMLIN_SCRIPT_VERTEX_ALL);
+        return Collections.singletonList(GREMLIN_SCRIPT_VERTEX_COUNT);
+    }
+
+    @Override
+    public List<String> generateCountByLabelScript(@NonNull GremlinSource source) {
+        if (!(source instanceof GremlinSourceVertex)) {
+            throw new GremlinUnexpectedSourceTypeException("should be the instance of GremlinSourceVertex");
+        }
+
+        final List<String> scriptList = Arrays.asList(
+                GREMLIN_PRIMITIVE_GRAPH,             // g
+                GREMLIN_PRIMITIVE_VERTEX_ALL,        // V()
+                generateHasLabel(source.getLabel()), // has(label, 'label')
+                GREMLIN_PRIMITIVE_COUNT              // count()
+        );
+
+        return completeScript(scriptList);
     }
 }
 
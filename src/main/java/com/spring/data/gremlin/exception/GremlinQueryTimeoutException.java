@@ -0,0 +1,20 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.spring.data.gremlin.exception;
+
+/**
+ * The gremlin operation exceeded its deadline, which is neither retried nor counted as the failure of host.
+ */
+public class GremlinQueryTimeoutException extends GremlinQueryException {
+
+    public GremlinQueryTimeoutException(String msg) {
+        super(msg);
+    }
+
+    public GremlinQueryTimeoutException(String msg, Throwable cause) {
+        super(msg, cause);
+    }
+}
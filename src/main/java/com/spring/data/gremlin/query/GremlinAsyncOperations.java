@@ -0,0 +1,74 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.spring.data.gremlin.query;
+
+import com.spring.data.gremlin.common.GremlinEntityType;
+import com.spring.data.gremlin.conversion.source.GremlinSource;
+import com.spring.data.gremlin.query.query.GremlinQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The non-blocking counterpart of {@link GremlinOperations}. The returned future is completed by the threads of
+ * gremlin driver when the results arrive, no thread is held during the round trip to gremlin server.
+ */
+public interface GremlinAsyncOperations {
+
+    CompletableFuture<Void> deleteAllAsync();
+
+    CompletableFuture<Void> deleteAllAsync(GremlinEntityType type);
+
+    <T> CompletableFuture<Void> deleteAllAsync(GremlinSource<T> source);
+
+    <T> CompletableFuture<Boolean> isEmptyGraphAsync(GremlinSource<T> source);
+
+    <T> CompletableFuture<Boolean> existsByIdAsync(Object id, GremlinSource<T> source);
+
+    <T> CompletableFuture<Void> deleteByIdAsync(Object id, GremlinSource<T> source);
+
+    <T> CompletableFuture<Void> deleteAllByIdAsync(Collection<?> ids, GremlinSource<T> source);
+
+    <T> CompletableFuture<T> insertAsync(T object, GremlinSource<T> source);
+
+    <T> CompletableFuture<GremlinBulkResult<T>> insertEdgesAsync(Collection<T> edges, GremlinSource<T> source);
+
+    <T> CompletableFuture<T> findByIdAsync(Object id, GremlinSource<T> source);
+
+    <T> CompletableFuture<List<T>> findAllByIdAsync(Collection<?> ids, GremlinSource<T> source);
+
+    <T> CompletableFuture<T> findVertexByIdAsync(Object id, GremlinSource<T> source);
+
+    <T> CompletableFuture<T> findEdgeByIdAsync(Object id, GremlinSource<T> source);
+
+    <T> CompletableFuture<T> updateAsync(T object, GremlinSource<T> source);
+
+    <T> CompletableFuture<T> saveAsync(T object, GremlinSource<T> source);
+
+    <T> CompletableFuture<List<T>> saveAllAsync(Collection<T> objects, GremlinSource<T> source);
+
+    <T> CompletableFuture<List<T>> findAllAsync(GremlinSource<T> source);
+
+    <T> CompletableFuture<List<T>> findAllAsync(Sort sort, GremlinSource<T> source);
+
+    <T> CompletableFuture<Page<T>> findAllAsync(Pageable pageable, GremlinSource<T> source);
+
+    <T> CompletableFuture<Window<T>> scanAsync(ScrollPosition position, Sort sort, int limit, GremlinSource<T> source);
+
+    CompletableFuture<Long> vertexCountAsync();
+
+    CompletableFuture<Long> edgeCountAsync();
+
+    <T> CompletableFuture<Long> countByLabelAsync(GremlinSource<T> source);
+
+    <T> CompletableFuture<List<T>> findAsync(GremlinQuery query, GremlinSource<T> source);
+}
@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.spring.data.gremlin.query;
+
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+/**
+ * Collect the lookups of ids with the same key within a short window, and load them by one query for the whole
+ * batch. The batch is loaded when the window ends, or as soon as it reaches the max batch size. The same id looked up
+ * by several callers of one batch is loaded once.
+ *
+ * @param <K> the key of batch, only the ids with the same key are loaded together.
+ * @param <V> the value loaded for each id, which is null if the id is not found.
+ */
+final class GremlinBatchLoader<K, V> {
+
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final Executor executor;
+    private final BiFunction<K, List<Object>, CompletableFuture<Map<Object, V>>> loader;
+    private final Map<K, Batch<V>> pending = new HashMap<>();
+
+    GremlinBatchLoader(long windowNanos, int maxBatchSize, @NonNull Executor executor,
+                       @NonNull BiFunction<K, List<Object>, CompletableFuture<Map<Object, V>>> loader) {
+        this.windowNanos = Math.max(0, windowNanos);
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.executor = executor;
+        this.loader = loader;
+    }
+
+    CompletableFuture<V> load(@NonNull K key, @NonNull Object id) {
+        final CompletableFuture<V> future;
+        final Batch<V> full;
+
+        synchronized (this) {
+            Batch<V> batch = this.pending.get(key);
+
+            if (batch == null) {
+                final Batch<V> created = new Batch<>();
+
+                this.pending.put(key, created);
+                CompletableFuture.delayedExecutor(this.windowNanos, TimeUnit.NANOSECONDS, this.executor)
+                        .execute(() -> this.dispatch(key, created));
+                batch = created;
+            }
+
+            future = batch.futures.computeIfAbsent(id, i -> new CompletableFuture<>());
+            full = batch.futures.size() >= this.maxBatchSize ? batch : null;
+        }
+
+        if (full != null) {
+            this.dispatch(key, full);
+        }
+
+        // The callers get copies, so that none of them can complete or cancel the shared one.
+        return future.copy();
+    }
+
+    private void dispatch(@NonNull K key, @NonNull Batch<V> batch) {
+        synchronized (this) {
+            if (batch.dispatched) {
+                return;
+            }
+
+            batch.dispatched = true;
+            this.pending.remove(key, batch);
+        }
+
+        CompletableFuture<Map<Object, V>> loaded;
+
+        try {
+            loaded = this.loader.apply(key, new ArrayList<>(batch.futures.keySet()));
+        } catch (RuntimeException e) {
+            loaded = CompletableFuture.failedFuture(e);
+        }
+
+        loaded.whenComplete((values, e) -> batch.futures.forEach((id, future) -> {
+            if (e == null) {
+                future.complete(values.get(id));
+            } else {
+                future.completeExceptionally(e);
+            }
+        }));
+    }
+
+    synchronized int getPendingBatches() {
+        return this.pending.size();
+    }
+
+    /**
+     * The ids of batch are added under the lock of loader until the batch is dispatched, and only read afterwards.
+     */
+    private static final class Batch<V> {
+
+        private final Map<Object, CompletableFuture<V>> futures = new LinkedHashMap<>();
+
+        private boolean dispatched;
+    }
+}
@@ -0,0 +1,30 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.spring.data.gremlin.query;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * The result of bulk write, the entities written and the ones failed, each in the order of the entities given.
+ */
+@Getter
+@AllArgsConstructor
+public class GremlinBulkResult<T> {
+
+    private final List<T> written;
+
+    /**
+     * The entities not written, like the edges whose vertex from or to doesn't exist.
+     */
+    private final List<T> failed;
+
+    public boolean hasFailures() {
+        return !this.failed.isEmpty();
+    }
+}
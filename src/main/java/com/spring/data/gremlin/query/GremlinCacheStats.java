@@ -0,0 +1,34 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.spring.data.gremlin.query;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The statistics of the entity cache of one domain class, see {@link com.spring.data.gremlin.annotation.GremlinCache}.
+ */
+@Getter
+@AllArgsConstructor
+public class GremlinCacheStats {
+
+    private final long hitCount;
+
+    private final long missCount;
+
+    /**
+     * The entities evicted for size or expiration, and the entities rejected by admission.
+     */
+    private final long evictionCount;
+
+    private final int size;
+
+    public double getHitRate() {
+        final long total = this.hitCount + this.missCount;
+
+        return total == 0 ? 0 : (double) this.hitCount / total;
+    }
+}
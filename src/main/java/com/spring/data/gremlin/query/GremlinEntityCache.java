@@ -0,0 +1,227 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.spring.data.gremlin.query;
+
+import lombok.NonNull;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The entity cache of one domain class, bounded by size and ttl, with the admission of W-TinyLFU. New entries enter
+ * a small LRU window, and the entry leaving the window replaces the LRU entry of main space only if it is used more
+ * frequently, so that a burst of one-off reads doesn't flush the hot entities.
+ * <p>
+ * The cached value is the results of query instead of domain, so each read recovers its own domain. The version
+ * changes with each invalidation, the results read before an invalidation are never put, see {@link #getVersion()}.
+ */
+final class GremlinEntityCache<V> {
+
+    private final int windowSize;
+    private final int mainSize;
+    private final long ttlNanos;
+    private final FrequencySketch sketch;
+    private final LinkedHashMap<Object, Entry<V>> window = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<Object, Entry<V>> main = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long version;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    GremlinEntityCache(int maxSize, long ttlMillis) {
+        final int size = Math.max(1, maxSize);
+
+        this.windowSize = Math.max(1, size / 100);
+        this.mainSize = size - this.windowSize;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, ttlMillis));
+        this.sketch = new FrequencySketch(size);
+    }
+
+    synchronized V get(@NonNull Object key) {
+        this.sketch.increment(key);
+
+        Entry<V> entry = this.window.get(key);
+
+        if (entry == null) {
+            entry = this.main.get(key);
+        }
+
+        if (entry == null) {
+            this.missCount++;
+            return null;
+        } else if (entry.expireNanos - System.nanoTime() <= 0) {
+            this.window.remove(key);
+            this.main.remove(key);
+            this.missCount++;
+            this.evictionCount++;
+            return null;
+        }
+
+        this.hitCount++;
+
+        return entry.value;
+    }
+
+    /**
+     * The version to put the value read after, the value is dropped if the key is invalidated in between.
+     */
+    synchronized long getVersion() {
+        return this.version;
+    }
+
+    synchronized void put(@NonNull Object key, @NonNull V value, long version) {
+        if (version != this.version) {
+            return;
+        }
+
+        final Entry<V> entry = new Entry<>(value, System.nanoTime() + this.ttlNanos);
+
+        if (this.main.containsKey(key)) {
+            this.main.put(key, entry);
+            return;
+        }
+
+        this.window.put(key, entry);
+
+        if (this.window.size() > this.windowSize) {
+            this.admit(removeEldest(this.window));
+        }
+    }
+
+    /**
+     * The candidate evicted from window enters main space, by evicting the LRU entry of main space if it is full and
+     * less frequently used than candidate.
+     */
+    private void admit(@NonNull Map.Entry<Object, Entry<V>> candidate) {
+        if (this.main.size() < this.mainSize) {
+            this.main.put(candidate.getKey(), candidate.getValue());
+            return;
+        }
+
+        final Iterator<Object> iterator = this.main.keySet().iterator();
+
+        if (iterator.hasNext()) {
+            final Object victim = iterator.next();
+
+            if (this.sketch.frequency(candidate.getKey()) > this.sketch.frequency(victim)) {
+                iterator.remove();
+                this.main.put(candidate.getKey(), candidate.getValue());
+            }
+        }
+
+        this.evictionCount++;
+    }
+
+    private static <V> Map.Entry<Object, Entry<V>> removeEldest(@NonNull LinkedHashMap<Object, Entry<V>> map) {
+        final Iterator<Map.Entry<Object, Entry<V>>> iterator = map.entrySet().iterator();
+        final Map.Entry<Object, Entry<V>> eldest = iterator.next();
+
+        iterator.remove();
+
+        return eldest;
+    }
+
+    synchronized void invalidate(@NonNull Object key) {
+        this.version++;
+        this.window.remove(key);
+        this.main.remove(key);
+    }
+
+    synchronized void invalidateAll() {
+        this.version++;
+        this.window.clear();
+        this.main.clear();
+    }
+
+    synchronized GremlinCacheStats getStats() {
+        return new GremlinCacheStats(this.hitCount, this.missCount, this.evictionCount,
+                this.window.size() + this.main.size());
+    }
+
+    private static final class Entry<V> {
+
+        private final V value;
+        private final long expireNanos;
+
+        private Entry(V value, long expireNanos) {
+            this.value = value;
+            this.expireNanos = expireNanos;
+        }
+    }
+
+    /**
+     * The count-min sketch of 4-bit counters, which are halved after the samples reach 10 times of the cache size so
+     * that the frequency of the entries used long ago fades.
+     */
+    static final class FrequencySketch {
+
+        private static final int DEPTH = 4;
+        private static final int MAX_COUNT = 15;
+        private static final int[] SEEDS = {0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F};
+
+        private final byte[] table;
+        private final int mask;
+        private final int sampleSize;
+
+        private int samples;
+
+        FrequencySketch(int maxSize) {
+            final int width = Integer.highestOneBit(Math.max(16, Math.min(1 << 24, maxSize)) * 8 - 1);
+
+            this.table = new byte[width * DEPTH];
+            this.mask = width - 1;
+            this.sampleSize = 10 * Math.max(1, maxSize);
+        }
+
+        private int indexOf(int hash, int depth) {
+            int h = (hash ^ SEEDS[depth]) * SEEDS[(depth + 1) % DEPTH];
+
+            h ^= h >>> 16;
+
+            return depth * (this.mask + 1) + (h & this.mask);
+        }
+
+        void increment(@NonNull Object key) {
+            final int hash = key.hashCode();
+            boolean added = false;
+
+            for (int i = 0; i < DEPTH; i++) {
+                final int index = this.indexOf(hash, i);
+
+                if (this.table[index] < MAX_COUNT) {
+                    this.table[index]++;
+                    added = true;
+                }
+            }
+
+            if (added && ++this.samples >= this.sampleSize) {
+                this.reset();
+            }
+        }
+
+        int frequency(@NonNull Object key) {
+            final int hash = key.hashCode();
+            int frequency = MAX_COUNT;
+
+            for (int i = 0; i < DEPTH; i++) {
+                frequency = Math.min(frequency, this.table[this.indexOf(hash, i)]);
+            }
+
+            return frequency;
+        }
+
+        private void reset() {
+            for (int i = 0; i < this.table.length; i++) {
+                this.table[i] = (byte) (this.table[i] >> 1);
+            }
+
+            this.samples /= 2;
+        }
+    }
+}
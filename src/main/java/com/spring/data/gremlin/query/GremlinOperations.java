@@ -11,7 +11,11 @@ import com.spring.data.gremlin.conversion.source.GremlinSource;
 import com.spring.data.gremlin.query.query.GremlinQuery;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -31,10 +35,16 @@ public interface GremlinOperations {
 
     <T> void deleteById(Object id, GremlinSource<T> source);
 
+    <T> void deleteAllById(Collection<?> ids, GremlinSource<T> source);
+
     <T> T insert(T object, GremlinSource<T> source);
 
+    <T> GremlinBulkResult<T> insertEdges(Collection<T> edges, GremlinSource<T> source);
+
     <T> T findById(Object id, GremlinSource<T> source);
 
+    <T> List<T> findAllById(Collection<?> ids, GremlinSource<T> source);
+
     <T> T findVertexById(Object id, GremlinSource<T> source);
 
     <T> T findEdgeById(Object id, GremlinSource<T> source);
@@ -43,12 +53,22 @@ public interface GremlinOperations {
 
     <T> T save(T object, GremlinSource<T> source);
 
+    <T> List<T> saveAll(Collection<T> objects, GremlinSource<T> source);
+
     <T> List<T> findAll(GremlinSource<T> source);
 
+    <T> List<T> findAll(Sort sort, GremlinSource<T> source);
+
+    <T> Page<T> findAll(Pageable pageable, GremlinSource<T> source);
+
+    <T> Window<T> scan(ScrollPosition position, Sort sort, int limit, GremlinSource<T> source);
+
     long vertexCount();
 
     long edgeCount();
 
+    <T> long countByLabel(GremlinSource<T> source);
+
     <T> List<T> find(GremlinQuery query, GremlinSource<T> source);
 
     /**
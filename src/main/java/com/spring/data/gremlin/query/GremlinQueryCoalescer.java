@@ -0,0 +1,75 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.spring.data.gremlin.query;
+
+import lombok.NonNull;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalesce the identical read queries in flight at the same time, so that only the first of them goes to the server
+ * and the others share its results. The query leaves once it completes, the identical query afterwards goes to the
+ * server again, so no result is cached.
+ */
+final class GremlinQueryCoalescer {
+
+    private final Map<Object, CompletableFuture<?>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder queries = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    <R> CompletableFuture<R> execute(@NonNull Object key, @NonNull Supplier<CompletableFuture<R>> query) {
+        final CompletableFuture<R> created = new CompletableFuture<>();
+        final CompletableFuture<R> existing = (CompletableFuture<R>) this.inFlight.putIfAbsent(key, created);
+
+        this.queries.increment();
+
+        if (existing != null) {
+            this.coalesced.increment();
+            return existing.copy();
+        }
+
+        try {
+            query.get().whenComplete((r, e) -> {
+                this.inFlight.remove(key, created);
+
+                if (e == null) {
+                    created.complete(r);
+                } else {
+                    created.completeExceptionally(e);
+                }
+            });
+        } catch (RuntimeException e) {
+            this.inFlight.remove(key, created);
+            created.completeExceptionally(e);
+        }
+
+        // The callers get copies, so that none of them can complete or cancel the shared one.
+        return created.copy();
+    }
+
+    /**
+     * The number of queries executed through this coalescer.
+     */
+    long getQueryCount() {
+        return this.queries.sum();
+    }
+
+    /**
+     * The number of queries answered by an identical query in flight, instead of the server.
+     */
+    long getCoalescedCount() {
+        return this.coalesced.sum();
+    }
+
+    int getInFlight() {
+        return this.inFlight.size();
+    }
+}
@@ -0,0 +1,95 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.spring.data.gremlin.query;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.lang.Nullable;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The options shared by the queries of one operation, whether they are sent to read replicas, whether they are
+ * idempotent so that they can be retried and hedged, whether their results can be shared with the identical queries
+ * in flight, and the deadline of the whole operation if any.
+ * <p>
+ * The deadline starts when the operation starts, so the queries executed later, like the barrier groups or the
+ * vertices of an edge, get the remaining time only.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+final class GremlinQueryOptions {
+
+    private final boolean replica;
+
+    private final boolean idempotent;
+
+    private final boolean shared;
+
+    /**
+     * The timeout of operation in nanoseconds, 0 means no deadline.
+     */
+    private final long timeoutNanos;
+
+    private final long startNanos;
+
+    /**
+     * The last write of the writer for read-your-writes, stamped as each query of the write completes, null if none.
+     */
+    private final AtomicLong lastWriteNanos;
+
+    static GremlinQueryOptions write(long timeoutNanos) {
+        return of(false, false, timeoutNanos);
+    }
+
+    static GremlinQueryOptions write(long timeoutNanos, @Nullable AtomicLong lastWriteNanos) {
+        return new GremlinQueryOptions(false, false, false, Math.max(0, timeoutNanos), System.nanoTime(),
+                lastWriteNanos);
+    }
+
+    static GremlinQueryOptions read(boolean replica, long timeoutNanos) {
+        return of(replica, true, timeoutNanos);
+    }
+
+    static GremlinQueryOptions of(boolean replica, boolean idempotent, long timeoutNanos) {
+        return new GremlinQueryOptions(replica, idempotent, false, Math.max(0, timeoutNanos), System.nanoTime(),
+                null);
+    }
+
+    /**
+     * The same options whose results can be shared with the identical queries in flight, for idempotent reads only.
+     */
+    GremlinQueryOptions toShared() {
+        return new GremlinQueryOptions(this.replica, true, true, this.timeoutNanos, this.startNanos, null);
+    }
+
+    /**
+     * The reads within this operation, which go to primary and share the same deadline.
+     */
+    GremlinQueryOptions toPrimaryRead() {
+        return new GremlinQueryOptions(false, true, false, this.timeoutNanos, this.startNanos, null);
+    }
+
+    boolean hasDeadline() {
+        return this.timeoutNanos > 0;
+    }
+
+    /**
+     * The time left before the deadline, which may be 0 or negative when the deadline passed.
+     */
+    long getRemainingNanos() {
+        return this.timeoutNanos - (System.nanoTime() - this.startNanos);
+    }
+
+    /**
+     * The remaining time in milliseconds for evaluationTimeout of server, at least 1 as 0 means no timeout there.
+     */
+    long getRemainingMillis() {
+        return Math.max(1, TimeUnit.NANOSECONDS.toMillis(this.getRemainingNanos()));
+    }
+}
@@ -0,0 +1,168 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.spring.data.gremlin.query;
+
+import com.spring.data.gremlin.common.GremlinUtils;
+import lombok.NonNull;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Execute the idempotent query with retry and hedging. The query failed for the host is retried with exponential
+ * backoff and jitter, and a duplicate query is hedged if the query is not answered after the given percentile of the
+ * recent response times, whichever answers first is taken.
+ * <p>
+ * The hedged query is balanced like any other query, so it is likely to be sent to another connection or host.
+ */
+final class GremlinQueryResilience {
+
+    private static final int SAMPLE_SIZE = 1024;
+    private static final int SAMPLE_INTERVAL = 128;
+
+    private final int maxRetries;
+    private final long backoffMillis;
+    private final long maxBackoffMillis;
+    private final double hedgePercentile;
+    private final Executor executor;
+    private final AtomicLongArray samples = new AtomicLongArray(SAMPLE_SIZE);
+    private final AtomicLong sampleCount = new AtomicLong();
+
+    private volatile long hedgeDelayNanos = -1;
+
+    GremlinQueryResilience(int maxRetries, long backoffMillis, long maxBackoffMillis, double hedgePercentile,
+                           @NonNull Executor executor) {
+        this.maxRetries = Math.max(0, maxRetries);
+        this.backoffMillis = Math.max(1, backoffMillis);
+        this.maxBackoffMillis = Math.max(this.backoffMillis, maxBackoffMillis);
+        this.hedgePercentile = hedgePercentile;
+        this.executor = executor;
+    }
+
+    boolean isEnabled() {
+        return this.maxRetries > 0 || this.isHedgeEnabled();
+    }
+
+    private boolean isHedgeEnabled() {
+        return this.hedgePercentile > 0 && this.hedgePercentile < 1;
+    }
+
+    /**
+     * The delay before hedging, which is unknown until enough response times are sampled.
+     */
+    long getHedgeDelayNanos() {
+        return this.hedgeDelayNanos;
+    }
+
+    <R> CompletableFuture<R> execute(@NonNull Supplier<CompletableFuture<R>> query) {
+        final CompletableFuture<R> result = new CompletableFuture<>();
+
+        this.execute(query, 0, result);
+
+        return result;
+    }
+
+    private <R> void execute(@NonNull Supplier<CompletableFuture<R>> query, int retries,
+                             @NonNull CompletableFuture<R> result) {
+        this.hedge(query).whenComplete((r, e) -> {
+            if (e == null) {
+                result.complete(r);
+            } else if (retries < this.maxRetries && GremlinUtils.isHostFailure(e)) {
+                CompletableFuture.delayedExecutor(this.getBackoffMillis(retries), TimeUnit.MILLISECONDS,
+                        this.executor).execute(() -> this.execute(query, retries + 1, result));
+            } else {
+                result.completeExceptionally(e);
+            }
+        });
+    }
+
+    /**
+     * The backoff doubles with each retry up to the max, and is jittered within its upper half.
+     */
+    long getBackoffMillis(int retries) {
+        final long backoff = Math.min(this.maxBackoffMillis, this.backoffMillis << Math.min(retries, 30));
+
+        return backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+    }
+
+    /**
+     * Complete with the first answer of query and its hedged duplicate, or fail when both of them fail. The
+     * duplicate is not sent if the query completes before the delay.
+     */
+    private <R> CompletableFuture<R> hedge(@NonNull Supplier<CompletableFuture<R>> query) {
+        final long delay = this.hedgeDelayNanos;
+
+        if (!this.isHedgeEnabled() || delay < 0) {
+            return this.submit(query);
+        }
+
+        final CompletableFuture<R> result = new CompletableFuture<>();
+        final AtomicInteger outstanding = new AtomicInteger(1);
+        final BiConsumer<R, Throwable> complete = (r, e) -> {
+            if (e == null) {
+                result.complete(r);
+            } else if (outstanding.decrementAndGet() == 0) {
+                result.completeExceptionally(e);
+            }
+        };
+
+        this.submit(query).whenComplete(complete);
+
+        CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS, this.executor).execute(() -> {
+            if (!result.isDone() && outstanding.getAndIncrement() > 0) {
+                this.submit(query).whenComplete(complete);
+            }
+        });
+
+        return result;
+    }
+
+    private <R> CompletableFuture<R> submit(@NonNull Supplier<CompletableFuture<R>> query) {
+        final long start = System.nanoTime();
+        final CompletableFuture<R> future;
+
+        try {
+            future = query.get();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        if (this.isHedgeEnabled()) {
+            future.thenRun(() -> this.record(System.nanoTime() - start));
+        }
+
+        return future;
+    }
+
+    /**
+     * Sample the response time, and recompute the hedge delay every {@link #SAMPLE_INTERVAL} samples.
+     */
+    void record(long elapsedNanos) {
+        final long count = this.sampleCount.getAndIncrement();
+
+        this.samples.set((int) (count % SAMPLE_SIZE), elapsedNanos);
+
+        if ((count + 1) % SAMPLE_INTERVAL == 0) {
+            final long[] sorted = new long[(int) Math.min(count + 1, SAMPLE_SIZE)];
+
+            for (int i = 0; i < sorted.length; i++) {
+                sorted[i] = this.samples.get(i);
+            }
+
+            Arrays.sort(sorted);
+
+            this.hedgeDelayNanos = sorted[(int) Math.min(sorted.length - 1, sorted.length * this.hedgePercentile)];
+        }
+    }
+}
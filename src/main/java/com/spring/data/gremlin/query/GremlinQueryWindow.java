@@ -0,0 +1,128 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.spring.data.gremlin.query;
+
+import lombok.NonNull;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bound the number of queries in flight without blocking. When the window is full, the acquired future is completed
+ * on the executor after one of the in-flight queries releases its slot.
+ * <p>
+ * The adaptive window starts from the min limit, grows by one slot after a full window of queries completes while
+ * others are queueing, and halves when gremlin server or the connection pool is overloaded.
+ */
+final class GremlinQueryWindow {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final Executor executor;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Queue<CompletableFuture<Void>> waiters = new ConcurrentLinkedQueue<>();
+
+    private volatile int limit;
+    private int completed;
+
+    GremlinQueryWindow(int maxInFlight, @NonNull Executor executor) {
+        this(maxInFlight, maxInFlight, executor);
+    }
+
+    GremlinQueryWindow(int minLimit, int maxLimit, @NonNull Executor executor) {
+        this.minLimit = Math.max(1, Math.min(minLimit, maxLimit));
+        this.maxLimit = Math.max(1, maxLimit);
+        this.limit = this.minLimit;
+        this.executor = executor;
+    }
+
+    int getInFlight() {
+        return this.inFlight.get();
+    }
+
+    int getLimit() {
+        return this.limit;
+    }
+
+    /**
+     * Acquire one slot of window, which must be released exactly once by {@link #release(boolean)}.
+     */
+    CompletableFuture<Void> acquire() {
+        if (this.waiters.isEmpty() && this.tryAcquire()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        final CompletableFuture<Void> waiter = new CompletableFuture<>();
+
+        this.waiters.add(waiter);
+        this.drain();
+
+        return waiter;
+    }
+
+    void release() {
+        this.release(false);
+    }
+
+    /**
+     * Release one slot, and adapt the limit by whether the query is rejected or timed out for overload.
+     */
+    void release(boolean overloaded) {
+        if (this.minLimit < this.maxLimit) {
+            this.adapt(overloaded);
+        }
+
+        this.inFlight.decrementAndGet();
+        this.drain();
+    }
+
+    private synchronized void adapt(boolean overloaded) {
+        if (overloaded) {
+            this.limit = Math.max(this.minLimit, this.limit / 2);
+            this.completed = 0;
+        } else if (!this.waiters.isEmpty() && ++this.completed >= this.limit) {
+            this.limit = Math.min(this.maxLimit, this.limit + 1);
+            this.completed = 0;
+        }
+    }
+
+    private boolean tryAcquire() {
+        int current;
+
+        do {
+            current = this.inFlight.get();
+
+            if (current >= this.limit) {
+                return false;
+            }
+        } while (!this.inFlight.compareAndSet(current, current + 1));
+
+        return true;
+    }
+
+    /**
+     * Hand the free slots to the waiters in order, a slot is given back if the waiter was taken by another drain or
+     * cancelled.
+     */
+    private void drain() {
+        while (!this.waiters.isEmpty() && this.tryAcquire()) {
+            final CompletableFuture<Void> waiter = this.waiters.poll();
+
+            if (waiter == null) {
+                this.inFlight.decrementAndGet();
+            } else {
+                this.executor.execute(() -> {
+                    if (!waiter.complete(null)) {
+                        this.release();
+                    }
+                });
+            }
+        }
+    }
+}
@@ -5,12 +5,19 @@
  */
 package com.spring.data.gremlin.query;
 
+import com.spring.data.gremlin.annotation.Edge;
 import com.spring.data.gremlin.annotation.EdgeFrom;
 import com.spring.data.gremlin.annotation.EdgeTo;
 import com.spring.data.gremlin.annotation.GeneratedValue;
+import com.spring.data.gremlin.annotation.GremlinCache;
+import com.spring.data.gremlin.common.Constants;
+import com.spring.data.gremlin.common.GremlinConfig;
 import com.spring.data.gremlin.common.GremlinEntityType;
+import com.spring.data.gremlin.common.GremlinExecutionEngine;
 import com.spring.data.gremlin.common.GremlinFactory;
+import com.spring.data.gremlin.common.GremlinLoadBalancingStrategy;
 import com.spring.data.gremlin.common.GremlinUtils;
+import com.spring.data.gremlin.conversion.GremlinPropertyDelta;
 import com.spring.data.gremlin.conversion.MappingGremlinConverter;
 import com.spring.data.gremlin.conversion.script.GremlinScriptLiteral;
 import com.spring.data.gremlin.conversion.script.GremlinScriptLiteralEdge;
@@ -23,21 +30,31 @@ import com.spring.data.gremlin.conversion.source.GremlinSourceVertex;
 import com.spring.data.gremlin.exception.GremlinEntityInformationException;
 import com.spring.data.gremlin.exception.GremlinInvalidEntityIdFieldException;
 import com.spring.data.gremlin.exception.GremlinQueryException;
+import com.spring.data.gremlin.exception.GremlinQueryTimeoutException;
 import com.spring.data.gremlin.exception.GremlinUnexpectedEntityTypeException;
 import com.spring.data.gremlin.mapping.GremlinPersistentEntity;
 import com.spring.data.gremlin.query.query.GremlinQuery;
 import com.spring.data.gremlin.query.query.QueryFindScriptGenerator;
-import com.spring.data.gremlin.query.query.QueryScriptGenerator;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.reflect.FieldUtils;
 import org.apache.tinkerpop.gremlin.driver.Client;
+import org.apache.tinkerpop.gremlin.driver.Host;
+import org.apache.tinkerpop.gremlin.driver.RequestOptions;
 import org.apache.tinkerpop.gremlin.driver.Result;
+import org.apache.tinkerpop.gremlin.driver.ResultSet;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.springframework.beans.BeansException;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
 import org.springframework.lang.NonNull;
@@ -45,282 +62,1553 @@ import org.springframework.util.Assert;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 import static java.util.stream.Collectors.toList;
 
 @Slf4j
-public class GremlinTemplate implements GremlinOperations, ApplicationContextAware {
+public class GremlinTemplate implements GremlinOperations, GremlinAsyncOperations, ApplicationContextAware {
 
     private final GremlinFactory factory;
     private final MappingGremlinConverter mappingConverter;
+    private final boolean parameterizedScript;
+    private final GremlinExecutionEngine executionEngine;
+    private final Executor executor;
+    private final GremlinQueryWindow window;
+    private final GremlinQueryResilience resilience;
+    private final GremlinQueryCoalescer coalescer;
+    private final boolean singleFlightReads;
+    private final Map<Class<?>, Optional<GremlinEntityCache<List<Result>>>> entityCaches;
+    private final GremlinBatchLoader<Map.Entry<Class<?>, Boolean>, List<Result>> vertexLoader;
+    private final long readYourWritesNanos;
+    private final Supplier<AtomicLong> lastWriteNanos;
+    private final long timeoutNanos;
+    private final int maxContentLength;
+    private final int bulkConcurrency;
 
-    private Client gremlinClient;
     private ApplicationContext context;
 
     public GremlinTemplate(@NonNull GremlinFactory factory, @NonNull MappingGremlinConverter converter) {
         this.factory = factory;
         this.mappingConverter = converter;
+        this.parameterizedScript = factory.getGremlinConfig().isParameterizedScript();
+        this.executionEngine = factory.getGremlinConfig().getExecutionEngine();
+        this.executor = factory.getExecutor();
+        this.window = createQueryWindow(factory.getGremlinConfig(), this.executor);
+        this.resilience = createQueryResilience(factory.getGremlinConfig(), this.executor);
+        this.coalescer = new GremlinQueryCoalescer();
+        this.singleFlightReads = factory.getGremlinConfig().isSingleFlightReads();
+        this.entityCaches = new ConcurrentHashMap<>();
+        this.vertexLoader = createVertexLoader(factory.getGremlinConfig());
+        this.readYourWritesNanos = TimeUnit.MILLISECONDS.toNanos(factory.getGremlinConfig().getReadYourWritesMillis());
+        this.lastWriteNanos = createThreadLastWrite(this.readYourWritesNanos);
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, factory.getGremlinConfig().getTimeoutMillis()));
+        this.maxContentLength = factory.getGremlinConfig().getMaxContentLength() > 0 ?
+                factory.getGremlinConfig().getMaxContentLength() : Constants.DEFAULT_MAX_CONTENT_LENGTH;
+        this.bulkConcurrency = Math.max(1, factory.getGremlinConfig().getBulkConcurrency());
+
+        if (factory.getGremlinConfig().getDirtyTrackingSize() > 0) {
+            converter.setSnapshotCapacity(factory.getGremlinConfig().getDirtyTrackingSize());
+        }
+    }
+
+    private GremlinTemplate(@NonNull GremlinTemplate template, long timeoutNanos,
+                            @NonNull Supplier<AtomicLong> lastWriteNanos) {
+        this.factory = template.factory;
+        this.mappingConverter = template.mappingConverter;
+        this.parameterizedScript = template.parameterizedScript;
+        this.executionEngine = template.executionEngine;
+        this.executor = template.executor;
+        this.window = template.window;
+        this.resilience = template.resilience;
+        this.coalescer = template.coalescer;
+        this.singleFlightReads = template.singleFlightReads;
+        this.entityCaches = template.entityCaches;
+        this.vertexLoader = template.vertexLoader;
+        this.readYourWritesNanos = template.readYourWritesNanos;
+        this.lastWriteNanos = lastWriteNanos;
+        this.timeoutNanos = timeoutNanos;
+        this.maxContentLength = template.maxContentLength;
+        this.bulkConcurrency = template.bulkConcurrency;
+        this.context = template.context;
+    }
+
+    /**
+     * The view of this template with the given deadline for each operation, which shares the clients, in-flight
+     * window and read-your-writes window with this template. The queries of one operation share the deadline, and
+     * each query is evaluated by server within the remaining time.
+     *
+     * @param timeout the timeout of each operation, zero means no deadline.
+     */
+    public GremlinTemplate withTimeout(@NonNull Duration timeout) {
+        Assert.isTrue(!timeout.isNegative(), "timeout should not be negative");
+
+        return new GremlinTemplate(this, timeout.toNanos(), this.lastWriteNanos);
+    }
+
+    /**
+     * The view of this template whose reads are pinned to primary after the writes of the view, from whichever thread
+     * they are issued. The reads of this template are pinned after the writes of the same thread only, which fits
+     * blocking callers, the async and reactive callers hop threads and should use one session per logical caller,
+     * like one request or one reactive chain.
+     */
+    public GremlinTemplate withSession() {
+        final AtomicLong lastWrite = new AtomicLong(System.nanoTime() - this.readYourWritesNanos);
+
+        return new GremlinTemplate(this, this.timeoutNanos, () -> lastWrite);
+    }
+
+    /**
+     * The last write of each thread, which is never within the read-your-writes window until the thread writes.
+     */
+    private static Supplier<AtomicLong> createThreadLastWrite(long readYourWritesNanos) {
+        final ThreadLocal<AtomicLong> lastWrite = ThreadLocal.withInitial(() ->
+                new AtomicLong(System.nanoTime() - readYourWritesNanos));
+
+        return lastWrite::get;
+    }
+
+    /**
+     * The adaptive window ranges from the min capacity of connection pool, where no query waits for a connection,
+     * to maxInFlightQueries.
+     */
+    private static GremlinQueryWindow createQueryWindow(@NonNull GremlinConfig config, @NonNull Executor executor) {
+        if (!config.isAdaptivePool()) {
+            return new GremlinQueryWindow(config.getMaxInFlightQueries(), executor);
+        }
+
+        final int poolSize = config.getMinConnectionPoolSize() > 0 ? config.getMinConnectionPoolSize() :
+                Constants.DEFAULT_MIN_CONNECTION_POOL_SIZE;
+        final int usage = config.getMaxSimultaneousUsagePerConnection() > 0 ?
+                config.getMaxSimultaneousUsagePerConnection() : Constants.DEFAULT_MAX_SIMULTANEOUS_USAGE_PER_CONNECTION;
+
+        return new GremlinQueryWindow(poolSize * usage, config.getMaxInFlightQueries(), executor);
+    }
+
+    private static GremlinQueryResilience createQueryResilience(@NonNull GremlinConfig config,
+                                                                @NonNull Executor executor) {
+        return new GremlinQueryResilience(config.getMaxRetries(), config.getRetryBackoffMillis(),
+                config.getMaxRetryBackoffMillis(), config.getHedgePercentile(), executor);
+    }
+
+    /**
+     * The loader batches the vertex lookups of one domain class and read replica flag, null if disabled.
+     */
+    private GremlinBatchLoader<Map.Entry<Class<?>, Boolean>, List<Result>> createVertexLoader(
+            @NonNull GremlinConfig config) {
+        if (config.getBatchWindowMillis() <= 0) {
+            return null;
+        }
+
+        final int maxBatchSize = config.getMaxBatchSize() > 0 ? config.getMaxBatchSize() :
+                Constants.DEFAULT_MAX_BATCH_SIZE;
+
+        return new GremlinBatchLoader<>(TimeUnit.MILLISECONDS.toNanos(config.getBatchWindowMillis()), maxBatchSize,
+                this.executor, this::findVerticesById);
+    }
+
+    @Override
+    public MappingGremlinConverter getMappingConverter() {
+        return this.mappingConverter;
+    }
+
+    public ApplicationContext getApplicationContext() {
+        return this.context;
+    }
+
+    @Override
+    public void setApplicationContext(@NonNull ApplicationContext context) throws BeansException {
+        this.context = context;
+    }
+
+    public Client getGremlinClient() {
+        return this.factory.getGremlinClient();
+    }
+
+    public GraphTraversalSource getGraphTraversalSource() {
+        return this.factory.getGraphTraversalSource();
+    }
+
+    /**
+     * Start a write operation, which pins the reads of current thread, or of the session, to primary for the
+     * read-your-writes window. The window restarts as each query of the write completes, on whichever thread.
+     */
+    private GremlinQueryOptions startWrite() {
+        if (this.readYourWritesNanos <= 0) {
+            return GremlinQueryOptions.write(this.timeoutNanos);
+        }
+
+        final AtomicLong lastWrite = this.lastWriteNanos.get();
+
+        lastWrite.accumulateAndGet(System.nanoTime(), Math::max);
+
+        return GremlinQueryOptions.write(this.timeoutNanos, lastWrite);
+    }
+
+    /**
+     * Start a read operation, the deadline of which covers all of its queries.
+     */
+    GremlinQueryOptions startRead() {
+        final GremlinQueryOptions options = GremlinQueryOptions.read(this.isReadFromReplica(), this.timeoutNanos);
+
+        return this.isSingleFlightRead() ? options.toShared() : options;
+    }
+
+    /**
+     * The reads share the results of identical reads in flight if enabled, unless current thread, or the session,
+     * wrote within the read-your-writes window, as the read in flight may start before the write.
+     */
+    private boolean isSingleFlightRead() {
+        return this.singleFlightReads && !this.isWithinReadYourWrites();
+    }
+
+    private boolean isWithinReadYourWrites() {
+        if (this.readYourWritesNanos <= 0) {
+            return false;
+        }
+
+        final long lastWrite = this.lastWriteNanos.get().get();
+
+        return System.nanoTime() - lastWrite < this.readYourWritesNanos;
+    }
+
+    /**
+     * The number of read queries executed with single-flight, see {@link #getSingleFlightCoalescedCount()}.
+     */
+    public long getSingleFlightQueryCount() {
+        return this.coalescer.getQueryCount();
+    }
+
+    /**
+     * The number of read queries answered by an identical query in flight, instead of the server.
+     */
+    public long getSingleFlightCoalescedCount() {
+        return this.coalescer.getCoalescedCount();
+    }
+
+    /**
+     * The statistics of entity cache of domain class, empty if the class is not annotated with {@link GremlinCache}.
+     */
+    public Optional<GremlinCacheStats> getCacheStats(@NonNull Class<?> domainClass) {
+        return this.getEntityCache(domainClass).map(GremlinEntityCache::getStats);
+    }
+
+    private Optional<GremlinEntityCache<List<Result>>> getEntityCache(@NonNull Class<?> domainClass) {
+        return this.entityCaches.computeIfAbsent(domainClass, type -> {
+            final GremlinCache annotation = type.getAnnotation(GremlinCache.class);
+
+            if (annotation == null) {
+                return Optional.empty();
+            }
+
+            return Optional.of(new GremlinEntityCache<>(annotation.maxSize(), annotation.ttlMillis()));
+        });
+    }
+
+    /**
+     * The cache is invalidated both before the write and after it completes, so neither the reads before the write
+     * nor the reads during the write leave the stale entity in cache.
+     */
+    private <R> CompletableFuture<R> invalidateOnWrite(@NonNull Runnable invalidation,
+                                                       @NonNull Supplier<CompletableFuture<R>> write) {
+        invalidation.run();
+
+        return write.get().whenComplete((r, e) -> invalidation.run());
+    }
+
+    /**
+     * Invalidate the entity of source, the deletion of vertex invalidates all the edges as its edges are dropped too.
+     */
+    private Runnable getCacheInvalidation(@NonNull GremlinSource<?> source, boolean delete) {
+        return this.getCacheInvalidation(source, source.getId().map(Collections::singletonList)
+                .orElse(Collections.emptyList()), delete);
+    }
+
+    private Runnable getCacheInvalidation(@NonNull GremlinSource<?> source, @NonNull List<Object> ids,
+                                          boolean delete) {
+        if (source instanceof GremlinSourceGraph) {
+            return this::invalidateAllCaches;
+        }
+
+        final Optional<GremlinEntityCache<List<Result>>> cache = this.getEntityCache(source.getDomainClass());
+        final boolean edges = delete && source instanceof GremlinSourceVertex;
+
+        return () -> {
+            cache.ifPresent(c -> ids.forEach(c::invalidate));
+
+            if (delete) {
+                ids.forEach(id -> this.mappingConverter.evictSnapshot(source.getDomainClass(), id));
+            }
+
+            if (edges) {
+                this.entityCaches.forEach((type, c) -> {
+                    if (type.isAnnotationPresent(Edge.class)) {
+                        c.ifPresent(GremlinEntityCache::invalidateAll);
+                    }
+                });
+            }
+        };
+    }
+
+    private void invalidateAllCaches() {
+        this.entityCaches.values().forEach(c -> c.ifPresent(GremlinEntityCache::invalidateAll));
+        this.mappingConverter.clearSnapshots();
+    }
+
+    /**
+     * Reads go to the read replicas if any, unless current thread, or the session, wrote within the read-your-writes
+     * window, see {@link #withSession()}. The replicas may lag behind primary, and the reads within one write
+     * operation always go to primary.
+     */
+    boolean isReadFromReplica() {
+        return this.factory.hasReadReplicas() && !this.isWithinReadYourWrites();
+    }
+
+    /**
+     * Get the script literal of source, which generates templates with bindings if parameterized script is enabled.
+     */
+    <T> GremlinScriptLiteral getScriptLiteral(@NonNull GremlinSource<T> source) {
+        final GremlinScriptLiteral script = source.getGremlinScriptLiteral();
+
+        if (this.parameterizedScript) {
+            script.enableBindings();
+        }
+
+        return script;
+    }
+
+    /**
+     * Wait for the result of future, the exception raised by the composed stages is thrown as it is.
+     */
+    private static <R> R getResult(@NonNull CompletableFuture<R> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GremlinQueryException("unable to complete query from gremlin", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+
+            throw new GremlinQueryException("unable to complete query from gremlin", e.getCause());
+        }
+    }
+
+    @NonNull
+    private CompletableFuture<List<Result>> executeQueryAsync(@NonNull List<String> queries,
+                                                              @NonNull GremlinQueryOptions options) {
+        return executeQueryAsync(queries, Collections.emptyMap(), options);
+    }
+
+    @NonNull
+    private CompletableFuture<List<Result>> executeQueryAsync(@NonNull List<String> queries,
+                                                              @NonNull Map<String, Object> bindings,
+                                                              @NonNull GremlinQueryOptions options) {
+        return executeQueryAsync(queries, bindings, this.executionEngine, options);
+    }
+
+    /**
+     * The raw query is written by user and may be any groovy script, so it is always submitted as script to primary,
+     * and is never retried or hedged as it may write.
+     */
+    @NonNull
+    private List<Result> executeRawQuery(@NonNull String query) {
+        final List<String> queries = Collections.singletonList(query);
+
+        return getResult(executeQueryAsync(queries, Collections.emptyMap(), GremlinExecutionEngine.SCRIPT,
+                GremlinQueryOptions.of(false, false, this.timeoutNanos)));
+    }
+
+    /**
+     * The queries separated by barrier are executed group by group, and the queries of one group are submitted
+     * together without waiting for each other.
+     */
+    @NonNull
+    private CompletableFuture<List<Result>> executeQueryAsync(@NonNull List<String> queries,
+                                                              @NonNull Map<String, Object> bindings,
+                                                              GremlinExecutionEngine engine,
+                                                              @NonNull GremlinQueryOptions options) {
+        log.debug("Executing Gremlin queries: {} with bindings: {}", queries, bindings);
+
+        CompletableFuture<List<Result>> future = CompletableFuture.completedFuture(new ArrayList<>());
+
+        for (final List<String> parallelQuery : GremlinUtils.toParallelQueryList(queries)) {
+            future = future.thenCompose(results -> executeQueryParallel(parallelQuery, bindings, engine, options)
+                    .thenApply(r -> {
+                        results.addAll(r);
+                        return results;
+                    }));
+        }
+
+        return future;
+    }
+
+    @NonNull
+    private CompletableFuture<List<Result>> executeQueryParallel(@NonNull List<String> queries,
+                                                                 @NonNull Map<String, Object> bindings,
+                                                                 GremlinExecutionEngine engine,
+                                                                 @NonNull GremlinQueryOptions options) {
+        final List<CompletableFuture<List<Result>>> futures = queries.stream()
+                .map(q -> executeQuery(q, GremlinUtils.toQueryBindings(q, bindings), engine, options))
+                .map(f -> f.thenApplyAsync(GremlinUtils::toResultList, this.executor))
+                .collect(toList());
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> futures.stream().flatMap(f -> f.join().stream()).collect(toList()));
+    }
+
+    /**
+     * Execute one query without barrier, the idempotent query is retried and hedged if enabled, and the shared query
+     * joins the identical query in flight if any. Each caller keeps its own deadline on the joined query.
+     */
+    private CompletableFuture<List<Result>> executeQuery(@NonNull String query, @NonNull Map<String, Object> bindings,
+                                                         GremlinExecutionEngine engine,
+                                                         @NonNull GremlinQueryOptions options) {
+        final Supplier<CompletableFuture<List<Result>>> execution = () -> withServerDeadline(
+                this.submitQuery(query, bindings, engine, options).thenCompose(ResultSet::all), options);
+        final Supplier<CompletableFuture<List<Result>>> resilientExecution;
+        final CompletableFuture<List<Result>> future;
+
+        if (options.isIdempotent() && this.resilience.isEnabled()) {
+            resilientExecution = () -> this.resilience.execute(execution);
+        } else {
+            resilientExecution = execution;
+        }
+
+        if (options.isShared()) {
+            future = this.coalescer.execute(Arrays.asList(engine, options.isReplica(), query, bindings),
+                    resilientExecution);
+        } else {
+            future = resilientExecution.get();
+        }
+
+        if (options.getLastWriteNanos() != null) {
+            future.whenComplete((r, e) -> options.getLastWriteNanos().accumulateAndGet(System.nanoTime(), Math::max));
+        }
+
+        return options.hasDeadline() ? withDeadline(future, options) : future;
+    }
+
+    /**
+     * Fail the query with {@link GremlinQueryTimeoutException} if it is not answered before the deadline, without
+     * waiting for the server to abort its evaluation.
+     */
+    private static <R> CompletableFuture<R> withDeadline(@NonNull CompletableFuture<R> future,
+                                                         @NonNull GremlinQueryOptions options) {
+        final CompletableFuture<R> result = new CompletableFuture<>();
+
+        future.orTimeout(Math.max(1, options.getRemainingNanos()), TimeUnit.NANOSECONDS).whenComplete((r, e) -> {
+            if (e == null) {
+                result.complete(r);
+            } else if (e instanceof TimeoutException) {
+                result.completeExceptionally(createTimeoutException(options, e));
+            } else {
+                result.completeExceptionally(e);
+            }
+        });
+
+        return result;
+    }
+
+    /**
+     * The server aborts the query of deadline for its evaluationTimeout, which is the failure of the deadline instead
+     * of an overloaded server, so it is neither retried nor counted against the host.
+     */
+    private static <R> CompletableFuture<R> withServerDeadline(@NonNull CompletableFuture<R> future,
+                                                               @NonNull GremlinQueryOptions options) {
+        if (!options.hasDeadline()) {
+            return future;
+        }
+
+        final CompletableFuture<R> result = new CompletableFuture<>();
+
+        future.whenComplete((r, e) -> {
+            if (e == null) {
+                result.complete(r);
+            } else if (GremlinUtils.isServerTimeout(e)) {
+                result.completeExceptionally(createTimeoutException(options, e));
+            } else {
+                result.completeExceptionally(e);
+            }
+        });
+
+        return result;
+    }
+
+    private static GremlinQueryTimeoutException createTimeoutException(@NonNull GremlinQueryOptions options,
+                                                                       Throwable cause) {
+        final String message = String.format("gremlin operation exceeded its deadline of %d ms",
+                TimeUnit.NANOSECONDS.toMillis(options.getTimeoutNanos()));
+
+        return new GremlinQueryTimeoutException(message, cause);
+    }
+
+    /**
+     * Submit one query without barrier, the results can be consumed from ResultSet as they arrive. The results of
+     * bytecode are traversers, see {@link GremlinUtils#toResultList(List)}.
+     * <p>
+     * The query holds one slot of the in-flight window until all of its results arrive, queries beyond the window
+     * wait for a slot without holding any thread. The query is sent to read replicas if replica, see
+     * {@link #isReadFromReplica()}, and evaluated by server within the remaining time of deadline if any.
+     */
+    CompletableFuture<ResultSet> submitQuery(@NonNull String query, @NonNull Map<String, Object> bindings,
+                                             GremlinExecutionEngine engine, @NonNull GremlinQueryOptions options) {
+        return this.window.acquire().thenCompose(ignored -> {
+            final long start = System.nanoTime();
+            final CompletableFuture<ResultSet> future;
+
+            try {
+                future = this.submitQueryInWindow(query, bindings, engine, options);
+            } catch (RuntimeException e) {
+                this.window.release(GremlinUtils.isOverloaded(e));
+                throw e;
+            }
+
+            return future.whenComplete((resultSet, e) -> {
+                if (e == null) {
+                    resultSet.allItemsAvailableAsync().whenComplete((r, ex) -> {
+                        if (isDeadlineExceeded(ex, options)) {
+                            this.window.release(false);
+                        } else {
+                            this.window.release(GremlinUtils.isOverloaded(ex));
+                            this.recordResponse(resultSet.getHost(), System.nanoTime() - start, ex,
+                                    options.isReplica());
+                        }
+                    });
+                } else {
+                    this.window.release(!isDeadlineExceeded(e, options) && GremlinUtils.isOverloaded(e));
+                }
+            });
+        });
+    }
+
+    /**
+     * The query of deadline is aborted by server within the remaining time, which says nothing about the host.
+     */
+    private static boolean isDeadlineExceeded(Throwable e, @NonNull GremlinQueryOptions options) {
+        return options.hasDeadline() && GremlinUtils.isServerTimeout(e);
+    }
+
+    /**
+     * Feed the response time of host to the load balancing, the failures of query itself are not counted.
+     */
+    private void recordResponse(Host host, long elapsedNanos, Throwable e, boolean replica) {
+        final GremlinLoadBalancingStrategy strategy = replica ? this.factory.getReadLoadBalancingStrategy() :
+                this.factory.getLoadBalancingStrategy();
+
+        if (host == null) {
+            return;
+        } else if (GremlinUtils.isHostFailure(e)) {
+            strategy.recordFailure(host, elapsedNanos);
+        } else {
+            strategy.recordSuccess(host, elapsedNanos);
+        }
+    }
+
+    private CompletableFuture<ResultSet> submitQueryInWindow(@NonNull String query,
+                                                             @NonNull Map<String, Object> bindings,
+                                                             GremlinExecutionEngine engine,
+                                                             @NonNull GremlinQueryOptions options) {
+        final boolean replica = options.isReplica();
+
+        log.debug("Submitting Gremlin query: {}, to read replica: {}", query, replica);
+
+        if (options.hasDeadline() && options.getRemainingNanos() <= 0) {
+            throw createTimeoutException(options, null);
+        }
+
+        if (engine == GremlinExecutionEngine.BYTECODE) {
+            final GraphTraversal<?, ?> traversal = GremlinUtils.toGraphTraversal(getGraphTraversalSource(), query,
+                    bindings);
+            final Client client = replica ? this.factory.getReadTraversalClient() : this.factory.getTraversalClient();
+
+            if (options.hasDeadline()) {
+                return client.submitAsync(traversal.asAdmin().getBytecode(), createRequestOptions(bindings, options));
+            }
+
+            return client.submitAsync(traversal.asAdmin().getBytecode());
+        }
+
+        final Client client = replica ? this.factory.getReadClient() : getGremlinClient();
+
+        if (options.hasDeadline()) {
+            return client.submitAsync(query, createRequestOptions(bindings, options));
+        }
+
+        return client.submitAsync(query, bindings);
+    }
+
+    /**
+     * The evaluationTimeout of server is the remaining time of deadline, so the query is aborted by server as well.
+     */
+    private static RequestOptions createRequestOptions(@NonNull Map<String, Object> bindings,
+                                                       @NonNull GremlinQueryOptions options) {
+        final RequestOptions.Builder builder = RequestOptions.build().timeout(options.getRemainingMillis());
+
+        bindings.forEach(builder::addParameter);
+
+        return builder.create();
+    }
+
+    GremlinExecutionEngine getExecutionEngine(@NonNull GremlinQuery query) {
+        return query.isRaw() ? GremlinExecutionEngine.SCRIPT : this.executionEngine;
+    }
+
+    /**
+     * The raw query may be any script, so it is sent to primary and retried only if marked idempotent.
+     */
+    GremlinQueryOptions getQueryOptions(@NonNull GremlinQuery query) {
+        if (query.isRaw()) {
+            final GremlinQueryOptions options = GremlinQueryOptions.of(false, query.isIdempotent(), this.timeoutNanos);
+
+            return query.isIdempotent() && this.isSingleFlightRead() ? options.toShared() : options;
+        }
+
+        return this.startRead();
+    }
+
+    GremlinExecutionEngine getExecutionEngine() {
+        return this.executionEngine;
+    }
+
+    /**
+     * Generate the queries of find, with the bindings collected by generator if parameterized script is enabled.
+     */
+    List<String> generateFindQuery(@NonNull GremlinQuery query, @NonNull QueryFindScriptGenerator generator) {
+        if (this.parameterizedScript) {
+            generator.enableBindings();
+        }
+
+        return generator.generate(query);
+    }
+
+    @Override
+    public void deleteAll() {
+        getResult(deleteAllAsync());
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteAllAsync() {
+        final GremlinScriptLiteral script = new GremlinScriptLiteralGraph();
+        final List<String> queryList = script.generateDeleteAllScript();
+
+        return invalidateOnWrite(this::invalidateAllCaches, () -> executeQueryAsync(queryList, this.startWrite()))
+                .thenAccept(results -> {});
+    }
+
+    @Override
+    public void deleteAll(GremlinEntityType type) {
+        getResult(deleteAllAsync(type));
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteAllAsync(GremlinEntityType type) {
+        final GremlinSource source = type.createGremlinSource();
+
+        final List<String> queryList = source.getGremlinScriptLiteral().generateDeleteAllScript();
+
+        return invalidateOnWrite(this::invalidateAllCaches, () -> executeQueryAsync(queryList, this.startWrite()))
+                .thenAccept(results -> {});
+    }
+
+    @Override
+    public <T> void deleteAll(GremlinSource<T> source) {
+        getResult(deleteAllAsync(source));
+    }
+
+    @Override
+    public <T> CompletableFuture<Void> deleteAllAsync(GremlinSource<T> source) {
+        final GremlinScriptLiteral script = getScriptLiteral(source);
+
+        final List<String> queryList = script.generateDeleteAllByClassScript(source);
+
+        return invalidateOnWrite(this::invalidateAllCaches, () -> executeQueryAsync(queryList, script.getBindings(),
+                this.startWrite())).thenAccept(results -> {});
+    }
+
+    private <T> CompletableFuture<List<Result>> insertInternal(@NonNull T object, @NonNull GremlinSource<T> source,
+                                                               @NonNull GremlinQueryOptions options) {
+        this.mappingConverter.write(object, source);
+
+        final GremlinScriptLiteral script = getScriptLiteral(source);
+        final List<String> queryList = script.generateInsertScript(source);
+
+        return invalidateOnWrite(this.getCacheInvalidation(source, false),
+                () -> executeQueryAsync(queryList, script.getBindings(), options));
+    }
+
+    @Override
+    public <T> T insert(@NonNull T object, GremlinSource<T> source) {
+        return getResult(insertAsync(object, source));
+    }
+
+    @Override
+    public <T> CompletableFuture<T> insertAsync(@NonNull T object, GremlinSource<T> source) {
+        return this.insertAsync(object, source, this.startWrite());
+    }
+
+    private <T> CompletableFuture<T> insertAsync(@NonNull T object, @NonNull GremlinSource<T> source,
+                                                 @NonNull GremlinQueryOptions options) {
+        final boolean entityGraph = source instanceof GremlinSourceGraph;
+
+        if (!entityGraph && source.getIdField().isAnnotationPresent(GeneratedValue.class)
+                && source.getId().isPresent()) {
+            throw new GremlinInvalidEntityIdFieldException("The entity meant to be created has a non-null id "
+                    + "that is marked as @GeneratedValue");
+        }
+
+        // The current implementation doesn't support creating graphs that contain both edges
+        // and vertices that have null (generated) ids. In this case, vertex and edge creation 
+        // need to be performed in two consecutive steps.
+        // TODO(SOON) Add this verification in the GremlinSourceGraphWriter
+
+        return insertInternal(object, source, options).thenCompose(results -> {
+            if (results.isEmpty()) {
+                return CompletableFuture.completedFuture(null);
+            } else if (entityGraph) {
+                return CompletableFuture.completedFuture(recoverGraphDomain((GremlinSourceGraph<T>) source, results));
+            } else {
+                return recoverDomain(source, results, options.toPrimaryRead());
+            }
+        });
+    }
+
+    @Override
+    public <T> GremlinBulkResult<T> insertEdges(@NonNull Collection<T> edges, @NonNull GremlinSource<T> source) {
+        return getResult(insertEdgesAsync(edges, source));
+    }
+
+    /**
+     * Insert the edges in bulk by chunks of one query each, sized by the max content length, with at most
+     * bulkConcurrency chunks in flight. The edges whose vertex from or to doesn't exist are not inserted and reported
+     * as failed, instead of failing the others. The ids generated are set to the edges inserted.
+     */
+    @Override
+    public <T> CompletableFuture<GremlinBulkResult<T>> insertEdgesAsync(@NonNull Collection<T> edges,
+                                                                      @NonNull GremlinSource<T> source) {
+        if (!(source instanceof GremlinSourceEdge)) {
+            throw new GremlinUnexpectedEntityTypeException("should be edge domain for insertEdges");
+        }
+
+        final List<T> objects = new ArrayList<>(edges);
+        final List<Map.Entry<Integer, GremlinSource<T>>> sources = new ArrayList<>();
+        final Set<Integer> inserted = ConcurrentHashMap.newKeySet();
+
+        for (int i = 0; i < objects.size(); i++) {
+            final GremlinSource<T> edgeSource = GremlinUtils.toGremlinSource(source.getDomainClass());
+
+            this.mappingConverter.write(objects.get(i), edgeSource);
+
+            if (edgeSource.getIdField().isAnnotationPresent(GeneratedValue.class) && edgeSource.getId().isPresent()) {
+                throw new GremlinInvalidEntityIdFieldException("The entity meant to be created has a non-null id "
+                        + "that is marked as @GeneratedValue");
+            }
+
+            sources.add(Map.entry(i, edgeSource));
+        }
+
+        final List<Supplier<CompletableFuture<Void>>> tasks = GremlinUtils.toChunks(sources,
+                e -> GremlinUtils.getContentLength(e.getValue()), this.maxContentLength).stream()
+                .map(chunk -> (Supplier<CompletableFuture<Void>>) () -> this.insertEdgesInternal(chunk, objects,
+                        inserted))
+                .collect(toList());
+
+        return this.executeBounded(tasks, this.bulkConcurrency).thenApply(ignored -> {
+            final List<T> written = new ArrayList<>();
+            final List<T> failed = new ArrayList<>();
+
+            for (int i = 0; i < objects.size(); i++) {
+                (inserted.contains(i) ? written : failed).add(objects.get(i));
+            }
+
+            return new GremlinBulkResult<>(written, failed);
+        });
+    }
+
+    /**
+     * Insert the chunk of edges by one query, the indexes of the edges inserted are added to inserted.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<Void> insertEdgesInternal(@NonNull List<Map.Entry<Integer, GremlinSource<T>>> chunk,
+                                                            @NonNull List<T> objects, @NonNull Set<Integer> inserted) {
+        final List<GremlinSource> sources = chunk.stream().map(Map.Entry::getValue).collect(toList());
+        final List<Object> ids = new ArrayList<>();
+        final GremlinSource<T> first = chunk.get(0).getValue();
+
+        chunk.forEach(e -> e.getValue().getId().ifPresent(ids::add));
+
+        final GremlinScriptLiteral script = getScriptLiteral(first);
+        final List<String> queryList = script.generateInsertAllScript(sources);
+
+        return invalidateOnWrite(this.getCacheInvalidation(first, ids, false),
+                () -> executeQueryAsync(queryList, script.getBindings(), this.startWrite())).thenAccept(results -> {
+                    if (results.isEmpty()) {
+                        return;
+                    }
+
+                    final Map<String, Object> edges = (Map<String, Object>) results.get(0).getObject();
+
+                    for (int i = 0; i < chunk.size(); i++) {
+                        final Object added = edges.get(GremlinScriptLiteral.getInsertAllKey(i));
+
+                        if (added instanceof List && !((List<?>) added).isEmpty()) {
+                            final int index = chunk.get(i).getKey();
+                            final Object id = GremlinUtils.getResultId(new Result(((List<?>) added).get(0)));
+
+                            this.setDomainId(objects.get(index), id);
+                            inserted.add(index);
+                        }
+                    }
+                });
+    }
+
+    private void setDomainId(@NonNull Object domain, Object id) {
+        final GremlinPersistentEntity<?> persistentEntity = this.mappingConverter.getPersistentEntity(domain.getClass());
+        final PersistentProperty<?> idProperty = persistentEntity.getIdProperty();
+
+        if (id != null && idProperty != null) {
+            this.mappingConverter.getPropertyAccessor(domain).setProperty(idProperty, id);
+        }
+    }
+
+    @Override
+    public <T> T findVertexById(@NonNull Object id, GremlinSource<T> source) {
+        return getResult(findVertexByIdAsync(id, source));
+    }
+
+    @Override
+    public <T> CompletableFuture<T> findVertexByIdAsync(@NonNull Object id, GremlinSource<T> source) {
+        if (source instanceof GremlinSourceVertex) {
+            source.setId(id);
+            return this.findByIdInternal(source, this.startRead(), true);
+        }
+
+        throw new GremlinUnexpectedEntityTypeException("should be vertex domain for findVertexById");
+    }
+
+    private CompletableFuture<?> getEdgeAnnotatedFieldValue(@NonNull Field field, @NonNull Object vertexId,
+                                                            @NonNull GremlinQueryOptions options) {
+        if (field.getType() == String.class || field.getType() == Long.class || field.getType() == Integer.class) {
+            return CompletableFuture.completedFuture(vertexId);
+        } else if (field.getType().isPrimitive()) {
+            throw new GremlinUnexpectedEntityTypeException("only String/Long/Integer type of Id Field is allowed");
+        } else {
+            final GremlinSource<?> source = GremlinUtils.toGremlinSource(field.getType());
+
+            source.setId(vertexId);
+
+            return this.findByIdInternal(source, options, true);
+        }
+    }
+
+    @NonNull
+    private Field getEdgeAnnotatedField(@NonNull Class<?> domainClass,
+                                        @NonNull Class<? extends Annotation> annotationClass) {
+        final List<Field> fields = FieldUtils.getFieldsListWithAnnotation(domainClass, annotationClass);
+
+        if (fields.size() != 1) {
+            throw new GremlinEntityInformationException("should be only one Annotation");
+        }
+
+        return fields.get(0);
+    }
+
+    /**
+     * Find Edge need another two query to obtain edgeFrom and edgeTo.
+     * This function will do that and make edge domain completion.
+     */
+    private <T> CompletableFuture<T> completeEdge(@NonNull T domain, @NonNull GremlinSourceEdge source,
+                                                  @NonNull GremlinQueryOptions options) {
+        final ConvertingPropertyAccessor accessor = this.mappingConverter.getPropertyAccessor(domain);
+        final GremlinPersistentEntity persistentEntity = this.mappingConverter.getPersistentEntity(domain.getClass());
+
+        final Field fromField = this.getEdgeAnnotatedField(domain.getClass(), EdgeFrom.class);
+        final Field toField = this.getEdgeAnnotatedField(domain.getClass(), EdgeTo.class);
+
+        final PersistentProperty propertyFrom = persistentEntity.getPersistentProperty(fromField.getName());
+        final PersistentProperty propertyTo = persistentEntity.getPersistentProperty(toField.getName());
+
+        Assert.notNull(propertyFrom, "persistence property should not be null");
+        Assert.notNull(propertyTo, "persistence property should not be null");
+
+        final CompletableFuture<?> from = this.getEdgeAnnotatedFieldValue(fromField, source.getVertexIdFrom(), options);
+        final CompletableFuture<?> to = this.getEdgeAnnotatedFieldValue(toField, source.getVertexIdTo(), options);
+
+        return from.thenCombine(to, (vertexFrom, vertexTo) -> {
+            accessor.setProperty(propertyFrom, vertexFrom);
+            accessor.setProperty(propertyTo, vertexTo);
+
+            return domain;
+        });
+    }
+
+    @Override
+    public <T> T findEdgeById(@NonNull Object id, @NonNull GremlinSource<T> source) {
+        return getResult(findEdgeByIdAsync(id, source));
+    }
+
+    @Override
+    public <T> CompletableFuture<T> findEdgeByIdAsync(@NonNull Object id, @NonNull GremlinSource<T> source) {
+        if (source instanceof GremlinSourceEdge) {
+            return this.findByIdAsync(id, source);
+        }
+
+        throw new GremlinUnexpectedEntityTypeException("should be edge domain for findEdge");
+    }
+
+    /**
+     * Find the entity of source by its id. The lookup of caller is read from entity cache if the class opts in, or
+     * batched with the concurrent lookups of vertex if enabled.
+     */
+    private <T> CompletableFuture<T> findByIdInternal(@NonNull GremlinSource<T> source,
+                                                      @NonNull GremlinQueryOptions options, boolean lookup) {
+        final Optional<GremlinEntityCache<List<Result>>> cache = lookup ?
+                this.getEntityCache(source.getDomainClass()) : Optional.empty();
+        final Optional<Object> id = source.getId();
+        final CompletableFuture<List<Result>> future;
+
+        if (cache.isPresent() && id.isPresent()) {
+            final List<Result> cachedResults = cache.get().get(id.get());
+            final long version = cache.get().getVersion();
+
+            if (cachedResults != null) {
+                future = CompletableFuture.completedFuture(cachedResults);
+            } else {
+                future = this.executeFindById(source, options, lookup).thenApply(results -> {
+                    if (!results.isEmpty()) {
+                        cache.get().put(id.get(), Collections.unmodifiableList(results), version);
+                    }
+
+                    return results;
+                });
+            }
+        } else {
+            future = this.executeFindById(source, options, lookup);
+        }
+
+        return future.thenCompose(results -> {
+            if (results.isEmpty()) {
+                return CompletableFuture.completedFuture(null);
+            }
+
+            return recoverDomain(source, results, options);
+        });
+    }
+
+    private <T> CompletableFuture<List<Result>> executeFindById(@NonNull GremlinSource<T> source,
+                                                                @NonNull GremlinQueryOptions options, boolean lookup) {
+        final Optional<Object> id = source.getId();
+
+        if (lookup && this.vertexLoader != null && source instanceof GremlinSourceVertex && id.isPresent()) {
+            final CompletableFuture<List<Result>> future = this.vertexLoader
+                    .load(Map.entry(source.getDomainClass(), options.isReplica()), id.get())
+                    .thenApply(results -> results == null ? Collections.emptyList() : results);
+
+            return options.hasDeadline() ? withDeadline(future, options) : future;
+        }
+
+        final GremlinScriptLiteral script = getScriptLiteral(source);
+        final List<String> queryList = script.generateFindByIdScript(source);
+
+        return this.executeQueryAsync(queryList, script.getBindings(), options);
+    }
+
+    /**
+     * Find the vertices of domain class by ids in one query, the batch shares no deadline as each of its callers
+     * keeps its own.
+     */
+    private CompletableFuture<Map<Object, List<Result>>> findVerticesById(@NonNull Map.Entry<Class<?>, Boolean> key,
+                                                                         @NonNull List<Object> ids) {
+        final GremlinSource<?> source = GremlinUtils.toGremlinSource(key.getKey());
+        final GremlinScriptLiteral script = getScriptLiteral(source);
+        final List<String> queryList = script.generateFindByIdsScript(source, ids);
+
+        return this.executeQueryAsync(queryList, script.getBindings(), GremlinQueryOptions.read(key.getValue(), 0))
+                .thenApply(results -> groupResultsById(ids, results));
+    }
+
+    /**
+     * Group the results by the ids looked up, the id of result may be typed differently from the id looked up, like
+     * Long of the generated id looked up by Integer.
+     */
+    private static Map<Object, List<Result>> groupResultsById(@NonNull List<Object> ids,
+                                                              @NonNull List<Result> results) {
+        final Map<String, Result> resultsById = new HashMap<>();
+        final Map<Object, List<Result>> grouped = new HashMap<>();
+
+        results.forEach(r -> resultsById.putIfAbsent(String.valueOf(GremlinUtils.getResultId(r)), r));
+        ids.forEach(id -> {
+            final Result result = resultsById.get(String.valueOf(id));
+
+            if (result != null) {
+                grouped.put(id, Collections.singletonList(result));
+            }
+        });
+
+        return grouped;
+    }
+
+    @Override
+    public <T> T findById(@NonNull Object id, @NonNull GremlinSource<T> source) {
+        return getResult(findByIdAsync(id, source));
     }
 
     @Override
-    public MappingGremlinConverter getMappingConverter() {
-        return this.mappingConverter;
+    public <T> CompletableFuture<T> findByIdAsync(@NonNull Object id, @NonNull GremlinSource<T> source) {
+        if (source instanceof GremlinSourceGraph) {
+            throw new UnsupportedOperationException("Gremlin graph cannot be findById.");
+        }
+
+        source.setId(id);
+
+        return findByIdInternal(source, this.startRead(), true);
     }
 
-    public ApplicationContext getApplicationContext() {
-        return this.context;
+    @Override
+    public <T> List<T> findAllById(@NonNull Collection<?> ids, @NonNull GremlinSource<T> source) {
+        return getResult(findAllByIdAsync(ids, source));
     }
 
+    /**
+     * Find the entities by ids in as few queries as the max content length allows, the entities are in the order of
+     * ids and the ids not found are skipped. The entities in entity cache are not queried again.
+     */
     @Override
-    public void setApplicationContext(@NonNull ApplicationContext context) throws BeansException {
-        this.context = context;
+    public <T> CompletableFuture<List<T>> findAllByIdAsync(@NonNull Collection<?> ids,
+                                                           @NonNull GremlinSource<T> source) {
+        if (source instanceof GremlinSourceGraph) {
+            throw new UnsupportedOperationException("Gremlin graph cannot be findAllById.");
+        }
+
+        final List<Object> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        final Optional<GremlinEntityCache<List<Result>>> cache = this.getEntityCache(source.getDomainClass());
+        final long version = cache.map(GremlinEntityCache::getVersion).orElse(0L);
+        final Map<Object, List<Result>> found = new HashMap<>();
+        final List<Object> missed = new ArrayList<>();
+
+        distinctIds.forEach(id -> {
+            final List<Result> cachedResults = cache.map(c -> c.get(id)).orElse(null);
+
+            if (cachedResults == null) {
+                missed.add(id);
+            } else {
+                found.put(id, cachedResults);
+            }
+        });
+
+        final GremlinQueryOptions options = this.startRead();
+        final List<CompletableFuture<Map<Object, List<Result>>>> futures = GremlinUtils.toIdChunks(missed,
+                this.maxContentLength).stream().map(chunk -> {
+                    final GremlinScriptLiteral script = getScriptLiteral(source);
+                    final List<String> queryList = script.generateFindByIdsScript(source, chunk);
+
+                    return executeQueryAsync(queryList, script.getBindings(), options)
+                            .thenApply(results -> groupResultsById(chunk, results));
+                }).collect(toList());
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).thenCompose(ignored -> {
+            futures.forEach(f -> f.join().forEach((id, results) -> {
+                found.put(id, results);
+                cache.ifPresent(c -> c.put(id, Collections.unmodifiableList(results), version));
+            }));
+
+            final List<Result> results = distinctIds.stream()
+                    .map(found::get)
+                    .filter(Objects::nonNull)
+                    .map(r -> r.get(0))
+                    .collect(toList());
+
+            return recoverDomainList(source, results, options);
+        });
     }
 
-    public Client getGremlinClient() {
-        if (this.gremlinClient == null) {
-            this.gremlinClient = this.factory.getGremlinClient();
+    private <T> CompletableFuture<T> updateInternal(@NonNull T object, @NonNull GremlinSource<T> source,
+                                                    @NonNull GremlinQueryOptions options) {
+        this.mappingConverter.write(object, source);
+
+        final Optional<GremlinPropertyDelta> delta = this.getPropertyDelta(object, source);
+
+        if (delta.isPresent()) {
+            return delta.get().isEmpty() ? CompletableFuture.completedFuture(object) :
+                    this.updateDeltaInternal(object, source, delta.get(), options).thenApply(results -> object);
         }
 
-        return this.gremlinClient;
+        final GremlinScriptLiteral script = getScriptLiteral(source);
+        final List<String> queryList = script.generateUpdateScript(source);
+
+        return invalidateOnWrite(this.getCacheInvalidation(source, false),
+                () -> executeQueryAsync(queryList, script.getBindings(), options)).thenApply(results -> {
+                    if (!(source instanceof GremlinSourceGraph)) {
+                        this.mappingConverter.snapshot(object, source);
+                    }
+
+                    return object;
+                });
     }
 
-    @NonNull
-    private List<Result> executeQuery(@NonNull List<String> queries) {
-        log.debug("Executing Gremlin queries: {}", queries);
-        
-        final List<List<String>> parallelQueries = GremlinUtils.toParallelQueryList(queries);
+    /**
+     * The properties written to source which changed since the snapshot of entity, empty for graph or the entity
+     * without snapshot.
+     */
+    private Optional<GremlinPropertyDelta> getPropertyDelta(@NonNull Object object, @NonNull GremlinSource<?> source) {
+        if (source instanceof GremlinSourceGraph) {
+            return Optional.empty();
+        }
 
-        return parallelQueries.stream().flatMap(q -> executeQueryParallel(q).stream()).collect(toList());
+        return this.mappingConverter.getPropertyDelta(object, source);
     }
 
-    @NonNull
-    private List<Result> executeQueryParallel(@NonNull List<String> queries) {
-        return queries.parallelStream()
-                .map(q -> {
-                    log.debug("Submitting Gremlin query: {}", q);
-                    return getGremlinClient().submit(q).all();
-                })
-                .toList().parallelStream().flatMap(f -> {
-                    try {
-                        return f.get().stream();
-                    } catch (InterruptedException | ExecutionException e) {
-                        throw new GremlinQueryException("unable to complete query from gremlin", e);
+    /**
+     * Update the changed properties of entity only, the results are empty if the entity doesn't exist any more.
+     */
+    private <T> CompletableFuture<List<Result>> updateDeltaInternal(@NonNull T object,
+                                                                    @NonNull GremlinSource<T> source,
+                                                                    @NonNull GremlinPropertyDelta delta,
+                                                                    @NonNull GremlinQueryOptions options) {
+        final GremlinScriptLiteral script = getScriptLiteral(source);
+        final List<String> queryList = script.generateUpdateDeltaScript(source, delta);
+
+        return invalidateOnWrite(this.getCacheInvalidation(source, false),
+                () -> executeQueryAsync(queryList, script.getBindings(), options)).thenApply(results -> {
+                    if (!results.isEmpty()) {
+                        this.mappingConverter.snapshot(object, source);
                     }
-                })
-                .collect(toList());
+
+                    return results;
+                });
     }
 
     @Override
-    public void deleteAll() {
-        final GremlinScriptLiteral script = new GremlinScriptLiteralGraph();
-        final List<String> queryList = script.generateDeleteAllScript();
-
-        executeQuery(queryList);
+    public <T> T update(@NonNull T object, @NonNull GremlinSource<T> source) {
+        return getResult(updateAsync(object, source));
     }
 
     @Override
-    public void deleteAll(GremlinEntityType type) {
-        final GremlinSource source = type.createGremlinSource();
+    public <T> CompletableFuture<T> updateAsync(@NonNull T object, @NonNull GremlinSource<T> source) {
+        final Optional<Object> optional = source.getId();
 
-        executeQuery(source.getGremlinScriptLiteral().generateDeleteAllScript());
-    }
+        if (source instanceof GremlinSourceGraph) {
+            return this.updateInternal(object, source, this.startWrite());
+        } else if (!optional.isPresent()) {
+            throw new GremlinQueryException("cannot update the object doesn't exist");
+        }
 
-    @Override
-    public <T> void deleteAll(GremlinSource<T> source) {
-        executeQuery(source.getGremlinScriptLiteral().generateDeleteAllByClassScript(source));
+        final GremlinQueryOptions options = this.startWrite();
+
+        return existsByIdInternal(optional.get(), source, options).thenCompose(exists -> {
+            if (!exists) {
+                throw new GremlinQueryException("cannot update the object doesn't exist");
+            }
+
+            return this.updateInternal(object, source, options);
+        });
     }
 
-    private <T> List<Result> insertInternal(@NonNull T object, @NonNull GremlinSource<T> source) {
+    /**
+     * Insert the entity or update the existing one in one traversal, instead of checking its existence ahead.
+     */
+    private <T> CompletableFuture<T> upsertInternal(@NonNull T object, @NonNull GremlinSource<T> source,
+                                                    @NonNull GremlinQueryOptions options) {
         this.mappingConverter.write(object, source);
 
-        return executeQuery(source.getGremlinScriptLiteral().generateInsertScript(source));
+        final GremlinScriptLiteral script = getScriptLiteral(source);
+        final List<String> queryList = script.generateUpsertScript(source);
+
+        return invalidateOnWrite(this.getCacheInvalidation(source, false),
+                () -> executeQueryAsync(queryList, script.getBindings(), options)).thenCompose(results -> {
+                    if (results.isEmpty()) {
+                        return CompletableFuture.completedFuture(null);
+                    }
+
+                    return recoverDomain(source, results, options.toPrimaryRead());
+                });
     }
 
     @Override
-    public <T> T insert(@NonNull T object, GremlinSource<T> source) {
-        final boolean entityGraph = source instanceof GremlinSourceGraph;
+    public <T> T save(@NonNull T object, @NonNull GremlinSource<T> source) {
+        return getResult(saveAsync(object, source));
+    }
 
-        if (!entityGraph && source.getIdField().isAnnotationPresent(GeneratedValue.class)
-                && source.getId().isPresent()) {
-            throw new GremlinInvalidEntityIdFieldException("The entity meant to be created has a non-null id "
-                    + "that is marked as @GeneratedValue");
+    @Override
+    public <T> CompletableFuture<T> saveAsync(@NonNull T object, @NonNull GremlinSource<T> source) {
+        final Optional<Object> optional = source.getId();
+        final GremlinQueryOptions options = this.startWrite();
+
+        if (source instanceof GremlinSourceGraph) {
+            return isEmptyGraphInternal(source, options.toPrimaryRead()).thenCompose(empty -> empty ?
+                    insertAsync(object, source, options) : updateInternal(object, source, options));
+        } else if (!optional.isPresent()) {
+            return insertAsync(object, source, options);
         }
 
-        // The current implementation doesn't support creating graphs that contain both edges
-        // and vertices that have null (generated) ids. In this case, vertex and edge creation 
-        // need to be performed in two consecutive steps.
-        // TODO(SOON) Add this verification in the GremlinSourceGraphWriter
+        this.mappingConverter.write(object, source);
 
-        final List<Result> results = insertInternal(object, source);
+        final Optional<GremlinPropertyDelta> delta = this.getPropertyDelta(object, source);
 
-        if (!results.isEmpty()) {
-            if (entityGraph) {
-                return recoverGraphDomain((GremlinSourceGraph<T>) source, results);
-            } else {
-                return recoverDomain(source, results);
-            }
+        // The entity deleted by others since its snapshot is saved in full.
+        if (delta.isPresent() && delta.get().isEmpty()) {
+            return existsByIdInternal(optional.get(), source, options).thenCompose(exists -> exists ?
+                    CompletableFuture.completedFuture(object) : this.saveInFull(object, source, options));
+        } else if (delta.isPresent()) {
+            return this.updateDeltaInternal(object, source, delta.get(), options).thenCompose(results ->
+                    results.isEmpty() ? this.saveInFull(object, source, options) :
+                            CompletableFuture.completedFuture(object));
         }
 
-        return null;
+        return this.saveInFull(object, source, options);
     }
 
-    @Override
-    public <T> T findVertexById(@NonNull Object id, GremlinSource<T> source) {
-        if (source instanceof GremlinSourceVertex) {
-            source.setId(id);
-            return this.findByIdInternal(source);
+    private <T> CompletableFuture<T> saveInFull(@NonNull T object, @NonNull GremlinSource<T> source,
+                                                @NonNull GremlinQueryOptions options) {
+        if (!source.getIdField().isAnnotationPresent(GeneratedValue.class)) {
+            return upsertInternal(object, source, options);
         }
 
-        throw new GremlinUnexpectedEntityTypeException("should be vertex domain for findVertexById");
+        return existsByIdInternal(source.getId().get(), source, options).thenCompose(exists -> exists ?
+                updateInternal(object, source, options) : insertAsync(object, source, options));
     }
 
-    private Object getEdgeAnnotatedFieldValue(@NonNull Field field, @NonNull Object vertexId) {
-        if (field.getType() == String.class || field.getType() == Long.class || field.getType() == Integer.class) {
-            return vertexId;
-        } else if (field.getType().isPrimitive()) {
-            throw new GremlinUnexpectedEntityTypeException("only String/Long/Integer type of Id Field is allowed");
-        } else {
-            return this.findVertexById(vertexId, GremlinUtils.toGremlinSource(field.getType()));
-        }
+    @Override
+    public <T> List<T> saveAll(@NonNull Collection<T> objects, @NonNull GremlinSource<T> source) {
+        return getResult(saveAllAsync(objects, source));
     }
 
-    @NonNull
-    private Field getEdgeAnnotatedField(@NonNull Class<?> domainClass,
-                                        @NonNull Class<? extends Annotation> annotationClass) {
-        final List<Field> fields = FieldUtils.getFieldsListWithAnnotation(domainClass, annotationClass);
-
-        if (fields.size() != 1) {
-            throw new GremlinEntityInformationException("should be only one Annotation");
+    /**
+     * Save the entities in bulk, the vertices with assigned ids are upserted by chunks of one query each, sized by the
+     * max content length, and the others are saved one by one. At most bulkConcurrency of them are in flight, and
+     * each of them has its own deadline. The saved entities are in the order of objects.
+     */
+    @Override
+    public <T> CompletableFuture<List<T>> saveAllAsync(@NonNull Collection<T> objects,
+                                                       @NonNull GremlinSource<T> source) {
+        final AtomicReferenceArray<T> saved = new AtomicReferenceArray<>(objects.size());
+        final List<Map.Entry<Integer, GremlinSource<T>>> upserts = new ArrayList<>();
+        final List<Supplier<CompletableFuture<Void>>> tasks = new ArrayList<>();
+        int index = 0;
+
+        for (final T object : objects) {
+            final int i = index++;
+            final GremlinSource<T> entitySource = GremlinUtils.toGremlinSource(source.getDomainClass());
+
+            this.mappingConverter.write(object, entitySource);
+
+            if (entitySource instanceof GremlinSourceVertex && entitySource.getId().isPresent()
+                    && !entitySource.getIdField().isAnnotationPresent(GeneratedValue.class)) {
+                upserts.add(Map.entry(i, entitySource));
+            } else {
+                tasks.add(() -> this.saveAsync(object, entitySource).thenAccept(domain -> saved.set(i, domain)));
+            }
         }
 
-        return fields.get(0);
+        GremlinUtils.toChunks(upserts, e -> GremlinUtils.getContentLength(e.getValue()), this.maxContentLength)
+                .forEach(chunk -> tasks.add(() -> this.upsertAllInternal(chunk, saved)));
+
+        return this.executeBounded(tasks, this.bulkConcurrency).thenApply(ignored -> IntStream.range(0, saved.length())
+                .mapToObj(saved::get).collect(toList()));
     }
 
     /**
-     * Find Edge need another two query to obtain edgeFrom and edgeTo.
-     * This function will do that and make edge domain completion.
+     * Upsert the chunk of vertices by one union query, the saved entities are set by the index of each.
      */
-    private <T> void completeEdge(@NonNull T domain, @NonNull GremlinSourceEdge source) {
-        final ConvertingPropertyAccessor accessor = this.mappingConverter.getPropertyAccessor(domain);
-        final GremlinPersistentEntity persistentEntity = this.mappingConverter.getPersistentEntity(domain.getClass());
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<Void> upsertAllInternal(@NonNull List<Map.Entry<Integer, GremlinSource<T>>> chunk,
+                                                          @NonNull AtomicReferenceArray<T> saved) {
+        final List<GremlinSource> sources = chunk.stream().map(Map.Entry::getValue).collect(toList());
+        final List<Object> ids = sources.stream().map(s -> s.getId().get()).collect(toList());
+        final GremlinSource<T> first = chunk.get(0).getValue();
+        final GremlinScriptLiteral script = getScriptLiteral(first);
+        final List<String> queryList = script.generateUpsertAllScript(sources);
+        final GremlinQueryOptions options = this.startWrite();
+
+        return invalidateOnWrite(this.getCacheInvalidation(first, ids, false),
+                () -> executeQueryAsync(queryList, script.getBindings(), options)).thenCompose(results -> {
+                    final Map<Object, List<Result>> found = groupResultsById(ids, results);
+                    final List<CompletableFuture<Void>> domains = new ArrayList<>();
+
+                    chunk.forEach(e -> {
+                        final List<Result> entityResults = found.get(e.getValue().getId().get());
+
+                        // The same id upserted twice within the chunk is mapped from the element stored last.
+                        if (entityResults != null) {
+                            domains.add(recoverDomain(e.getValue(), Collections.singletonList(entityResults.get(0)),
+                                    options.toPrimaryRead()).thenAccept(domain -> saved.set(e.getKey(), domain)));
+                        }
+                    });
+
+                    return CompletableFuture.allOf(domains.toArray(new CompletableFuture[0]));
+                });
+    }
 
-        final Field fromField = this.getEdgeAnnotatedField(domain.getClass(), EdgeFrom.class);
-        final Field toField = this.getEdgeAnnotatedField(domain.getClass(), EdgeTo.class);
+    /**
+     * Execute the tasks with at most the concurrency of them in flight, the next task starts as soon as one completes.
+     * No more tasks start after any of them fails.
+     */
+    private CompletableFuture<Void> executeBounded(@NonNull List<Supplier<CompletableFuture<Void>>> tasks,
+                                                   int concurrency) {
+        final AtomicInteger next = new AtomicInteger();
+        final CompletableFuture<?>[] lanes = IntStream.range(0, Math.min(concurrency, tasks.size()))
+                .mapToObj(i -> this.executeLane(tasks, next))
+                .toArray(CompletableFuture[]::new);
+
+        return CompletableFuture.allOf(lanes);
+    }
 
-        final PersistentProperty propertyFrom = persistentEntity.getPersistentProperty(fromField.getName());
-        final PersistentProperty propertyTo = persistentEntity.getPersistentProperty(toField.getName());
+    private CompletableFuture<Void> executeLane(@NonNull List<Supplier<CompletableFuture<Void>>> tasks,
+                                                @NonNull AtomicInteger next) {
+        final int index = next.getAndIncrement();
 
-        Assert.notNull(propertyFrom, "persistence property should not be null");
-        Assert.notNull(propertyTo, "persistence property should not be null");
+        if (index >= tasks.size()) {
+            return CompletableFuture.completedFuture(null);
+        }
 
-        accessor.setProperty(propertyFrom, this.getEdgeAnnotatedFieldValue(fromField, source.getVertexIdFrom()));
-        accessor.setProperty(propertyTo, this.getEdgeAnnotatedFieldValue(toField, source.getVertexIdTo()));
-    }
+        CompletableFuture<Void> task;
 
-    @Override
-    public <T> T findEdgeById(@NonNull Object id, @NonNull GremlinSource<T> source) {
-        if (source instanceof GremlinSourceEdge) {
-            return this.findById(id, source);
+        try {
+            task = tasks.get(index).get();
+        } catch (RuntimeException e) {
+            task = CompletableFuture.failedFuture(e);
         }
 
-        throw new GremlinUnexpectedEntityTypeException("should be edge domain for findEdge");
+        return task.whenComplete((r, e) -> {
+            if (e != null) {
+                next.set(tasks.size());
+            }
+        }).thenCompose(ignored -> this.executeLane(tasks, next));
     }
 
-    private <T> T findByIdInternal(@NonNull GremlinSource<T> source) {
-        final List<String> queryList = source.getGremlinScriptLiteral().generateFindByIdScript(source);
-        final List<Result> results = this.executeQuery(queryList);
-
-        if (results.isEmpty()) {
-            return null;
-        }
-
-        return recoverDomain(source, results);
+    @Override
+    public <T> List<T> findAll(@NonNull GremlinSource<T> source) {
+        return getResult(findAllAsync(source));
     }
 
     @Override
-    public <T> T findById(@NonNull Object id, @NonNull GremlinSource<T> source) {
+    public <T> CompletableFuture<List<T>> findAllAsync(@NonNull GremlinSource<T> source) {
         if (source instanceof GremlinSourceGraph) {
-            throw new UnsupportedOperationException("Gremlin graph cannot be findById.");
+            throw new UnsupportedOperationException("Gremlin graph cannot be findAll.");
         }
 
-        source.setId(id);
+        final GremlinScriptLiteral script = getScriptLiteral(source);
+        final List<String> queryList = script.generateFindAllScript(source);
 
-        return findByIdInternal(source);
-    }
+        final GremlinQueryOptions options = this.startRead();
 
-    private <T> T updateInternal(@NonNull T object, @NonNull GremlinSource<T> source) {
-        this.mappingConverter.write(object, source);
+        return executeQueryAsync(queryList, script.getBindings(), options)
+                .thenCompose(results -> recoverDomainList(source, results, options));
+    }
 
-        final List<String> queryList = source.getGremlinScriptLiteral().generateUpdateScript(source);
+    @Override
+    public <T> List<T> findAll(@NonNull Sort sort, @NonNull GremlinSource<T> source) {
+        return getResult(findAllAsync(sort, source));
+    }
 
-        executeQuery(queryList);
+    @Override
+    public <T> CompletableFuture<List<T>> findAllAsync(@NonNull Sort sort, @NonNull GremlinSource<T> source) {
+        return findAllAsync(Pageable.unpaged(sort), source).thenApply(Page::getContent);
+    }
 
-        return object;
+    @Override
+    public <T> Page<T> findAll(@NonNull Pageable pageable, @NonNull GremlinSource<T> source) {
+        return getResult(findAllAsync(pageable, source));
     }
 
+    /**
+     * Find one page of the entities, ordered and ranged by the server. The total is counted by another query in
+     * parallel, unless the page is unpaged.
+     */
     @Override
-    public <T> T update(@NonNull T object, @NonNull GremlinSource<T> source) {
-        final Optional<Object> optional = source.getId();
+    public <T> CompletableFuture<Page<T>> findAllAsync(@NonNull Pageable pageable, @NonNull GremlinSource<T> source) {
+        if (source instanceof GremlinSourceGraph) {
+            throw new UnsupportedOperationException("Gremlin graph cannot be findAll.");
+        }
 
-        if (!(source instanceof GremlinSourceGraph)
-                && (!optional.isPresent() || notExistsById(optional.get(), source))) {
-            throw new GremlinQueryException("cannot update the object doesn't exist");
+        final Sort sort = this.toPropertySort(pageable.getSort(), source);
+        final GremlinScriptLiteral script = getScriptLiteral(source);
+        final List<String> queryList = script.generateFindAllScript(source, pageable.isPaged() ?
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort) : Pageable.unpaged(sort));
+        final Map<String, Object> bindings = script.getBindings();
+
+        final GremlinQueryOptions options = this.startRead();
+        final CompletableFuture<List<T>> content = executeQueryAsync(queryList, bindings, options)
+                .thenCompose(results -> recoverDomainList(source, results, options));
+
+        if (pageable.isUnpaged()) {
+            return content.thenApply(domains -> new PageImpl<>(domains, pageable, domains.size()));
         }
 
-        return this.updateInternal(object, source);
+        final GremlinScriptLiteral countScript = getScriptLiteral(source);
+        final List<String> countList = countScript.generateCountAllScript(source);
+        final CompletableFuture<Long> total = executeQueryAsync(countList, countScript.getBindings(), options)
+                .thenApply(results -> results.isEmpty() ? 0 : results.get(0).getLong());
+
+        return content.thenCombine(total, (domains, count) -> new PageImpl<>(domains, pageable, count));
     }
 
     @Override
-    public <T> T save(@NonNull T object, @NonNull GremlinSource<T> source) {
-        final Optional<Object> optional = source.getId();
-        final boolean entityGraph = source instanceof GremlinSourceGraph;
-
-        if (entityGraph && this.isEmptyGraph(source)) {
-            return insert(object, source);
-        } else if (!entityGraph && (!optional.isPresent() || notExistsById(optional.get(), source))) {
-            return insert(object, source);
-        } else {
-            return updateInternal(object, source);
-        }
+    public <T> Window<T> scan(@NonNull ScrollPosition position, @NonNull Sort sort, int limit,
+                              @NonNull GremlinSource<T> source) {
+        return getResult(scanAsync(position, sort, limit, source));
     }
 
+    /**
+     * Scan the entities after the keyset position, in the order of sort followed by id. Each window continues from
+     * the keys of the last entity scanned instead of skipping the former ones, so the deep windows are as fast as the
+     * first one if the sort properties are indexed. The null property is not stored, so the entities with null value
+     * of any sort property are never scanned, sort by the properties which are never null to scan all of them.
+     */
     @Override
-    public <T> List<T> findAll(@NonNull GremlinSource<T> source) {
+    public <T> CompletableFuture<Window<T>> scanAsync(@NonNull ScrollPosition position, @NonNull Sort sort, int limit,
+                                                      @NonNull GremlinSource<T> source) {
         if (source instanceof GremlinSourceGraph) {
-            throw new UnsupportedOperationException("Gremlin graph cannot be findAll.");
+            throw new UnsupportedOperationException("Gremlin graph cannot be scanned.");
+        } else if (!(position instanceof KeysetScrollPosition) || ((KeysetScrollPosition) position).scrollsBackward()) {
+            throw new UnsupportedOperationException("Only forward keyset scroll position is supported.");
         }
 
-        final List<String> queryList = source.getGremlinScriptLiteral().generateFindAllScript(source);
-        final List<Result> results = executeQuery(queryList);
+        Assert.isTrue(limit > 0, "limit of scan should be positive");
 
-        if (results.isEmpty()) {
-            return Collections.emptyList();
-        }
+        final Sort keys = toKeysetSort(this.toPropertySort(sort, source), source);
+        final Map<String, Object> keyset = ((KeysetScrollPosition) position).getKeys();
+        final GremlinScriptLiteral script = getScriptLiteral(source);
+        final List<String> queryList = script.generateScanScript(source, keys, keyset, limit + 1); // One to look ahead
+
+        final GremlinQueryOptions options = this.startRead();
+
+        return executeQueryAsync(queryList, script.getBindings(), options)
+                .thenCompose(results -> recoverDomainList(source, results, options))
+                .thenApply(domains -> {
+                    final List<T> window = domains.subList(0, Math.min(limit, domains.size()));
+
+                    return Window.from(window, i -> ScrollPosition.forward(getKeyset(window.get(i), keys, source)),
+                            domains.size() > limit);
+                });
+    }
+
+    /**
+     * Resolve the properties of sort by the mapping context, as they are written into the script.
+     */
+    private Sort toPropertySort(@NonNull Sort sort, @NonNull GremlinSource<?> source) {
+        return GremlinUtils.toPropertySort(this.mappingConverter.getMappingContext(), sort, source.getDomainClass());
+    }
+
+    /**
+     * The sort of keyset, which ends with the id so that the entities with the same values of sort are in order.
+     */
+    private static Sort toKeysetSort(@NonNull Sort sort, @NonNull GremlinSource<?> source) {
+        final String idName = source.getIdField().getName();
 
-        return recoverDomainList(source, results);
+        return sort.getOrderFor(idName) == null ? sort.and(Sort.by(idName)) : sort;
+    }
+
+    private static Map<String, Object> getKeyset(@NonNull Object domain, @NonNull Sort keys,
+                                                 @NonNull GremlinSource<?> source) {
+        final Map<String, Object> keyset = new LinkedHashMap<>();
+
+        keys.forEach(order -> {
+            final String property = order.getProperty();
+            final Field field = property.equals(source.getIdField().getName()) ? source.getIdField() :
+                    FieldUtils.getField(domain.getClass(), property, true);
+
+            Assert.notNull(field, "sort property should be a field of domain: " + property);
+
+            try {
+                keyset.put(property, FieldUtils.readField(field, domain, true));
+            } catch (IllegalAccessException e) {
+                throw new GremlinQueryException("Failed to read sort property: " + property, e);
+            }
+        });
+
+        return keyset;
     }
 
     @Override
     public <T> void deleteById(@NonNull Object id, @NonNull GremlinSource<T> source) {
+        getResult(deleteByIdAsync(id, source));
+    }
+
+    @Override
+    public <T> CompletableFuture<Void> deleteByIdAsync(@NonNull Object id, @NonNull GremlinSource<T> source) {
         source.setId(id);
 
-        final List<String> queryList = source.getGremlinScriptLiteral().generateDeleteByIdScript(source);
+        final GremlinScriptLiteral script = getScriptLiteral(source);
+        final List<String> queryList = script.generateDeleteByIdScript(source);
+
+        return invalidateOnWrite(this.getCacheInvalidation(source, true),
+                () -> executeQueryAsync(queryList, script.getBindings(), this.startWrite())).thenAccept(results -> {});
+    }
+
+    @Override
+    public <T> void deleteAllById(@NonNull Collection<?> ids, @NonNull GremlinSource<T> source) {
+        getResult(deleteAllByIdAsync(ids, source));
+    }
+
+    /**
+     * Delete the entities by ids in as few queries as the max content length allows, which are executed in parallel.
+     */
+    @Override
+    public <T> CompletableFuture<Void> deleteAllByIdAsync(@NonNull Collection<?> ids,
+                                                          @NonNull GremlinSource<T> source) {
+        final List<Object> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+
+        if (distinctIds.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        final GremlinQueryOptions options = this.startWrite();
+
+        return invalidateOnWrite(this.getCacheInvalidation(source, distinctIds, true), () -> {
+            final List<CompletableFuture<List<Result>>> futures = GremlinUtils.toIdChunks(distinctIds,
+                    this.maxContentLength).stream().map(chunk -> {
+                        final GremlinScriptLiteral script = getScriptLiteral(source);
+                        final List<String> queryList = script.generateDeleteByIdsScript(source, chunk);
+
+                        return executeQueryAsync(queryList, script.getBindings(), options);
+                    }).collect(toList());
 
-        executeQuery(queryList);
+            return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+        });
     }
 
     @Override
     public <T> boolean isEmptyGraph(@NonNull GremlinSource<T> source) {
+        return getResult(isEmptyGraphAsync(source));
+    }
+
+    @Override
+    public <T> CompletableFuture<Boolean> isEmptyGraphAsync(@NonNull GremlinSource<T> source) {
+        return this.isEmptyGraphInternal(source, this.startRead());
+    }
+
+    private <T> CompletableFuture<Boolean> isEmptyGraphInternal(@NonNull GremlinSource<T> source,
+                                                                @NonNull GremlinQueryOptions options) {
         if (source instanceof GremlinSourceGraph) {
             final GremlinScriptLiteralGraph literalGraph = (GremlinScriptLiteralGraph) source.getGremlinScriptLiteral();
             final List<String> queryList = literalGraph.generateIsEmptyScript();
-            final List<Result> results = this.executeQuery(queryList);
 
-            return results.isEmpty();
+            return this.executeCountQuery(queryList, options).thenApply(count -> count == 0);
         }
 
         throw new GremlinQueryException("only graph domain is allowed.");
@@ -328,23 +1616,60 @@ public class GremlinTemplate implements GremlinOperations, ApplicationContextAwa
 
     @Override
     public long vertexCount() {
+        return getResult(vertexCountAsync());
+    }
+
+    @Override
+    public CompletableFuture<Long> vertexCountAsync() {
         final GremlinScriptLiteral script = new GremlinScriptLiteralVertex();
         final List<String> queryList = script.generateCountScript(new GremlinSourceVertex());
-        final List<Result> results = this.executeQuery(queryList);
 
-        return results.size();
+        return this.executeCountQuery(queryList, this.startRead());
     }
 
     @Override
     public long edgeCount() {
+        return getResult(edgeCountAsync());
+    }
+
+    @Override
+    public CompletableFuture<Long> edgeCountAsync() {
         final GremlinScriptLiteral script = new GremlinScriptLiteralEdge();
         final List<String> queryList = script.generateCountScript(new GremlinSourceEdge());
-        final List<Result> results = this.executeQuery(queryList);
 
-        return results.size();
+        return this.executeCountQuery(queryList, this.startRead());
+    }
+
+    @Override
+    public <T> long countByLabel(@NonNull GremlinSource<T> source) {
+        return getResult(countByLabelAsync(source));
+    }
+
+    @Override
+    public <T> CompletableFuture<Long> countByLabelAsync(@NonNull GremlinSource<T> source) {
+        if (source instanceof GremlinSourceGraph) {
+            throw new UnsupportedOperationException("Gremlin graph cannot be countByLabel.");
+        }
+
+        final List<String> queryList = source.getGremlinScriptLiteral().generateCountByLabelScript(source);
+
+        return this.executeCountQuery(queryList, this.startRead());
+    }
+
+    /**
+     * Count queries are answered by the server with one scalar, instead of all the elements.
+     */
+    private CompletableFuture<Long> executeCountQuery(@NonNull List<String> queryList,
+                                                      @NonNull GremlinQueryOptions options) {
+        return this.executeQueryAsync(queryList, options)
+                .thenApply(results -> results.isEmpty() ? 0 : results.get(0).getLong());
     }
 
-    private <T> T recoverDomain(@NonNull GremlinSource<T> source, @NonNull List<Result> results) {
+    /**
+     * Recover the domain from results, the vertices of edge domain are read from read replicas if replica.
+     */
+    <T> CompletableFuture<T> recoverDomain(@NonNull GremlinSource<T> source, @NonNull List<Result> results,
+                                           @NonNull GremlinQueryOptions options) {
         final T domain;
         final Class<T> domainClass = source.getDomainClass();
 
@@ -352,14 +1677,32 @@ public class GremlinTemplate implements GremlinOperations, ApplicationContextAwa
         domain = this.mappingConverter.read(domainClass, source);
 
         if (source instanceof GremlinSourceEdge) {
-            this.completeEdge(domain, (GremlinSourceEdge) source);
+            return this.completeEdge(domain, (GremlinSourceEdge) source, options).thenApply(this::snapshot);
+        }
+
+        return CompletableFuture.completedFuture(this.snapshot(domain));
+    }
+
+    /**
+     * Take the snapshot of domain loaded for delta updates, if dirty tracking is enabled.
+     */
+    private <T> T snapshot(T domain) {
+        if (domain != null && this.mappingConverter.isSnapshotEnabled()) {
+            this.mappingConverter.snapshot(domain);
         }
 
         return domain;
     }
 
-    private <T> List<T> recoverDomainList(@NonNull GremlinSource<T> source, @NonNull List<Result> results) {
-        return results.stream().map(r -> recoverDomain(source, Collections.singletonList(r))).collect(toList());
+    private <T> CompletableFuture<List<T>> recoverDomainList(@NonNull GremlinSource<T> source,
+                                                             @NonNull List<Result> results,
+                                                             @NonNull GremlinQueryOptions options) {
+        final List<CompletableFuture<T>> domains = results.stream()
+                .map(r -> recoverDomain(source, Collections.singletonList(r), options))
+                .collect(toList());
+
+        return CompletableFuture.allOf(domains.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> domains.stream().map(CompletableFuture::join).collect(toList()));
     }
 
     private <T> T recoverGraphDomain(@NonNull GremlinSourceGraph<T> source, @NonNull List<Result> results) {
@@ -371,26 +1714,40 @@ public class GremlinTemplate implements GremlinOperations, ApplicationContextAwa
         return domain;
     }
 
-    private <T> boolean notExistsById(@NonNull Object id, @NonNull GremlinSource<T> source) {
-        return !existsById(id, source);
+    @Override
+    public <T> boolean existsById(@NonNull Object id, @NonNull GremlinSource<T> source) {
+        return getResult(existsByIdAsync(id, source));
     }
 
     @Override
-    public <T> boolean existsById(@NonNull Object id, @NonNull GremlinSource<T> source) {
-        return findById(id, source) != null;
+    public <T> CompletableFuture<Boolean> existsByIdAsync(@NonNull Object id, @NonNull GremlinSource<T> source) {
+        return findByIdAsync(id, source).thenApply(Objects::nonNull);
+    }
+
+    /**
+     * The existence checked within write is always read from primary, instead of entity cache.
+     */
+    private <T> CompletableFuture<Boolean> existsByIdInternal(@NonNull Object id, @NonNull GremlinSource<T> source,
+                                                              @NonNull GremlinQueryOptions options) {
+        source.setId(id);
+
+        return findByIdInternal(source, options.toPrimaryRead(), false).thenApply(Objects::nonNull);
     }
 
     @Override
     public <T> List<T> find(@NonNull GremlinQuery query, @NonNull GremlinSource<T> source) {
-        final QueryScriptGenerator generator = new QueryFindScriptGenerator(source);
-        final List<String> queryList = generator.generate(query);
-        final List<Result> results = this.executeQuery(queryList);
+        return getResult(findAsync(query, source));
+    }
 
-        if (results.isEmpty()) {
-            return Collections.emptyList();
-        }
+    @Override
+    public <T> CompletableFuture<List<T>> findAsync(@NonNull GremlinQuery query, @NonNull GremlinSource<T> source) {
+        final QueryFindScriptGenerator generator = new QueryFindScriptGenerator(source);
+        final List<String> queryList = this.generateFindQuery(query, generator);
+
+        final GremlinQueryOptions options = this.getQueryOptions(query);
 
-        return this.recoverDomainList(source, results);
+        return this.executeQueryAsync(queryList, generator.getBindings(), this.getExecutionEngine(query), options)
+                .thenCompose(results -> this.recoverDomainList(source, results, options));
     }
 
     @Override
@@ -398,7 +1755,7 @@ public class GremlinTemplate implements GremlinOperations, ApplicationContextAwa
         log.debug("Executing raw Gremlin query for single result: {}", query);
         
         try {
-            List<Result> results = executeQuery(Collections.singletonList(query));
+            List<Result> results = executeRawQuery(query);
             
             if (results.isEmpty()) {
                 return null;
@@ -417,7 +1774,7 @@ public class GremlinTemplate implements GremlinOperations, ApplicationContextAwa
         log.debug("Executing raw Gremlin query for list results: {}", query);
         
         try {
-            List<Result> results = executeQuery(Collections.singletonList(query));
+            List<Result> results = executeRawQuery(query);
             
             return results.stream()
                     .map(Result::getObject)
@@ -435,7 +1792,7 @@ public class GremlinTemplate implements GremlinOperations, ApplicationContextAwa
         try {
             // Add pagination to the query
             String paginatedQuery = query + ".range(" + offset + "," + (offset + limit) + ")";
-            List<Result> results = executeQuery(Collections.singletonList(paginatedQuery));
+            List<Result> results = executeRawQuery(paginatedQuery);
             
             return results.stream()
                     .map(Result::getObject)
@@ -476,7 +1833,7 @@ public class GremlinTemplate implements GremlinOperations, ApplicationContextAwa
         log.debug("Executing raw Gremlin query for single typed result: {} (type: {})", query, requiredType.getSimpleName());
         
         try {
-            List<Result> results = executeQuery(Collections.singletonList(query));
+            List<Result> results = executeRawQuery(query);
             
             if (results.isEmpty()) {
                 return null;
@@ -495,7 +1852,7 @@ public class GremlinTemplate implements GremlinOperations, ApplicationContextAwa
         log.debug("Executing raw Gremlin query for typed list results: {} (type: {})", query, requiredType.getSimpleName());
         
         try {
-            List<Result> results = executeQuery(Collections.singletonList(query));
+            List<Result> results = executeRawQuery(query);
             
             return results.stream()
                     .map(Result::getObject)
@@ -515,7 +1872,7 @@ public class GremlinTemplate implements GremlinOperations, ApplicationContextAwa
         try {
             // Add pagination to the query
             String paginatedQuery = query + ".range(" + offset + "," + (offset + limit) + ")";
-            List<Result> results = executeQuery(Collections.singletonList(paginatedQuery));
+            List<Result> results = executeRawQuery(paginatedQuery);
             
             return results.stream()
                     .map(Result::getObject)
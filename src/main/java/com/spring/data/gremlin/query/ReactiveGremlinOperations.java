@@ -0,0 +1,52 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.spring.data.gremlin.query;
+
+import com.spring.data.gremlin.common.GremlinEntityType;
+import com.spring.data.gremlin.conversion.MappingGremlinConverter;
+import com.spring.data.gremlin.conversion.source.GremlinSource;
+import com.spring.data.gremlin.query.query.GremlinQuery;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * The reactive counterpart of {@link GremlinOperations}. Nothing is submitted to gremlin server until subscribed, and
+ * the elements of Flux are mapped to domain one by one as the results arrive.
+ */
+public interface ReactiveGremlinOperations {
+
+    Mono<Void> deleteAll();
+
+    Mono<Void> deleteAll(GremlinEntityType type);
+
+    <T> Mono<Void> deleteAll(GremlinSource<T> source);
+
+    <T> Mono<Boolean> isEmptyGraph(GremlinSource<T> source);
+
+    <T> Mono<Boolean> existsById(Object id, GremlinSource<T> source);
+
+    <T> Mono<Void> deleteById(Object id, GremlinSource<T> source);
+
+    <T> Mono<T> insert(T object, GremlinSource<T> source);
+
+    <T> Mono<T> findById(Object id, GremlinSource<T> source);
+
+    <T> Mono<T> update(T object, GremlinSource<T> source);
+
+    <T> Mono<T> save(T object, GremlinSource<T> source);
+
+    <T> Flux<T> findAll(GremlinSource<T> source);
+
+    Mono<Long> vertexCount();
+
+    Mono<Long> edgeCount();
+
+    <T> Mono<Long> countByLabel(GremlinSource<T> source);
+
+    <T> Flux<T> find(GremlinQuery query, GremlinSource<T> source);
+
+    MappingGremlinConverter getMappingConverter();
+}
@@ -0,0 +1,175 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.spring.data.gremlin.query;
+
+import com.spring.data.gremlin.common.GremlinEntityType;
+import com.spring.data.gremlin.common.GremlinExecutionEngine;
+import com.spring.data.gremlin.common.GremlinUtils;
+import com.spring.data.gremlin.conversion.MappingGremlinConverter;
+import com.spring.data.gremlin.conversion.script.GremlinScriptLiteral;
+import com.spring.data.gremlin.conversion.source.GremlinSource;
+import com.spring.data.gremlin.conversion.source.GremlinSourceGraph;
+import com.spring.data.gremlin.query.query.GremlinQuery;
+import com.spring.data.gremlin.query.query.QueryFindScriptGenerator;
+import lombok.NonNull;
+import org.apache.tinkerpop.gremlin.driver.Result;
+import org.apache.tinkerpop.gremlin.driver.ResultSet;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reactive operations on top of {@link GremlinTemplate}. The results of find are pulled from the ResultSet of gremlin
+ * driver in batches of {@link #RESULT_BATCH_SIZE} when requested by the subscriber, and each of them is mapped to
+ * domain when it arrives instead of waiting for the whole list.
+ * <p>
+ * Gremlin server streams the results of one request without flow control, so the demand of subscriber only bounds
+ * the results held by the driver side until they are consumed, not the results sent by the server.
+ */
+public class ReactiveGremlinTemplate implements ReactiveGremlinOperations {
+
+    private static final int RESULT_BATCH_SIZE = 64;
+
+    private final GremlinTemplate template;
+
+    public ReactiveGremlinTemplate(@NonNull GremlinTemplate template) {
+        this.template = template;
+    }
+
+    @Override
+    public MappingGremlinConverter getMappingConverter() {
+        return this.template.getMappingConverter();
+    }
+
+    @Override
+    public Mono<Void> deleteAll() {
+        return Mono.fromFuture(this.template::deleteAllAsync);
+    }
+
+    @Override
+    public Mono<Void> deleteAll(@NonNull GremlinEntityType type) {
+        return Mono.fromFuture(() -> this.template.deleteAllAsync(type));
+    }
+
+    @Override
+    public <T> Mono<Void> deleteAll(@NonNull GremlinSource<T> source) {
+        return Mono.fromFuture(() -> this.template.deleteAllAsync(source));
+    }
+
+    @Override
+    public <T> Mono<Boolean> isEmptyGraph(@NonNull GremlinSource<T> source) {
+        return Mono.fromFuture(() -> this.template.isEmptyGraphAsync(source));
+    }
+
+    @Override
+    public <T> Mono<Boolean> existsById(@NonNull Object id, @NonNull GremlinSource<T> source) {
+        return Mono.fromFuture(() -> this.template.existsByIdAsync(id, source));
+    }
+
+    @Override
+    public <T> Mono<Void> deleteById(@NonNull Object id, @NonNull GremlinSource<T> source) {
+        return Mono.fromFuture(() -> this.template.deleteByIdAsync(id, source));
+    }
+
+    @Override
+    public <T> Mono<T> insert(@NonNull T object, @NonNull GremlinSource<T> source) {
+        return Mono.fromFuture(() -> this.template.insertAsync(object, source));
+    }
+
+    @Override
+    public <T> Mono<T> findById(@NonNull Object id, @NonNull GremlinSource<T> source) {
+        return Mono.fromFuture(() -> this.template.findByIdAsync(id, source));
+    }
+
+    @Override
+    public <T> Mono<T> update(@NonNull T object, @NonNull GremlinSource<T> source) {
+        return Mono.fromFuture(() -> this.template.updateAsync(object, source));
+    }
+
+    @Override
+    public <T> Mono<T> save(@NonNull T object, @NonNull GremlinSource<T> source) {
+        return Mono.fromFuture(() -> this.template.saveAsync(object, source));
+    }
+
+    @Override
+    public Mono<Long> vertexCount() {
+        return Mono.fromFuture(this.template::vertexCountAsync);
+    }
+
+    @Override
+    public Mono<Long> edgeCount() {
+        return Mono.fromFuture(this.template::edgeCountAsync);
+    }
+
+    @Override
+    public <T> Mono<Long> countByLabel(@NonNull GremlinSource<T> source) {
+        return Mono.fromFuture(() -> this.template.countByLabelAsync(source));
+    }
+
+    @Override
+    public <T> Flux<T> findAll(@NonNull GremlinSource<T> source) {
+        if (source instanceof GremlinSourceGraph) {
+            return Flux.error(new UnsupportedOperationException("Gremlin graph cannot be findAll."));
+        }
+
+        return Flux.defer(() -> {
+            final GremlinScriptLiteral script = this.template.getScriptLiteral(source);
+            final List<String> queryList = script.generateFindAllScript(source);
+            final GremlinQueryOptions options = this.template.startRead();
+
+            return this.recoverDomain(source, this.executeQuery(queryList, script.getBindings(),
+                    this.template.getExecutionEngine(), options), options);
+        });
+    }
+
+    @Override
+    public <T> Flux<T> find(@NonNull GremlinQuery query, @NonNull GremlinSource<T> source) {
+        return Flux.defer(() -> {
+            final QueryFindScriptGenerator generator = new QueryFindScriptGenerator(source);
+            final List<String> queryList = this.template.generateFindQuery(query, generator);
+            final GremlinQueryOptions options = this.template.getQueryOptions(query);
+
+            return this.recoverDomain(source, this.executeQuery(queryList, generator.getBindings(),
+                    this.template.getExecutionEngine(query), options), options);
+        });
+    }
+
+    /**
+     * The source is shared by the results, so they are mapped to domain one after another.
+     */
+    private <T> Flux<T> recoverDomain(@NonNull GremlinSource<T> source, @NonNull Flux<Result> results,
+                                      @NonNull GremlinQueryOptions options) {
+        return results.concatMap(r -> Mono.fromFuture(() -> this.template.recoverDomain(source,
+                Collections.singletonList(r), options)));
+    }
+
+    /**
+     * The queries separated by barrier are executed group by group, the queries of one group are submitted together
+     * and their results are emitted in order.
+     */
+    private Flux<Result> executeQuery(@NonNull List<String> queries, @NonNull Map<String, Object> bindings,
+                                      GremlinExecutionEngine engine, @NonNull GremlinQueryOptions options) {
+        return Flux.fromIterable(GremlinUtils.toParallelQueryList(queries))
+                .concatMap(group -> Flux.fromIterable(group).flatMapSequential(q -> this.submitQuery(q,
+                        GremlinUtils.toQueryBindings(q, bindings), engine, options)));
+    }
+
+    private Flux<Result> submitQuery(@NonNull String query, @NonNull Map<String, Object> bindings,
+                                     GremlinExecutionEngine engine, @NonNull GremlinQueryOptions options) {
+        return Mono.fromFuture(() -> this.template.submitQuery(query, bindings, engine, options))
+                .flatMapMany(this::readResultSet);
+    }
+
+    private Flux<Result> readResultSet(@NonNull ResultSet resultSet) {
+        return Mono.defer(() -> Mono.fromFuture(resultSet.some(RESULT_BATCH_SIZE)))
+                .repeat()
+                .takeWhile(results -> !results.isEmpty())
+                .concatMapIterable(GremlinUtils::toResultList);
+    }
+}
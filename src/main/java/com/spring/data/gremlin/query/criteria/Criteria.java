@@ -42,6 +42,21 @@ public class Criteria {
             case BEFORE:
             case BETWEEN:
             case IS_EQUAL:
+            case GREATER_THAN:
+            case GREATER_THAN_EQUAL:
+            case LESS_THAN:
+            case LESS_THAN_EQUAL:
+            case NOT_EQUAL:
+            case IN:
+            case NOT_IN:
+            case STARTING_WITH:
+            case ENDING_WITH:
+            case CONTAINING:
+            case NOT_CONTAINING:
+            case IS_NULL:
+            case IS_NOT_NULL:
+            case TRUE:
+            case FALSE:
                 return true;
             default:
                 return false;
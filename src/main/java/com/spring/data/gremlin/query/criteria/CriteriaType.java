@@ -14,7 +14,22 @@ public enum CriteriaType {
     EXISTS,
     AFTER,
     BEFORE,
-    BETWEEN;
+    BETWEEN,
+    GREATER_THAN,
+    GREATER_THAN_EQUAL,
+    LESS_THAN,
+    LESS_THAN_EQUAL,
+    NOT_EQUAL,
+    IN,
+    NOT_IN,
+    STARTING_WITH,
+    ENDING_WITH,
+    CONTAINING,
+    NOT_CONTAINING,
+    IS_NULL,
+    IS_NOT_NULL,
+    TRUE,
+    FALSE;
 
     public static String criteriaTypeToGremlin(CriteriaType type) {
         switch (type) {
@@ -28,6 +43,28 @@ public enum CriteriaType {
                 return GREMLIN_PRIMITIVE_IS_LT;
             case BETWEEN:
                 return GREMLIN_PRIMITIVE_IS_BETWEEN;
+            case GREATER_THAN:
+                return GREMLIN_PRIMITIVE_GT;
+            case GREATER_THAN_EQUAL:
+                return GREMLIN_PRIMITIVE_GTE;
+            case LESS_THAN:
+                return GREMLIN_PRIMITIVE_LT;
+            case LESS_THAN_EQUAL:
+                return GREMLIN_PRIMITIVE_LTE;
+            case NOT_EQUAL:
+                return GREMLIN_PRIMITIVE_NEQ;
+            case IN:
+                return GREMLIN_PRIMITIVE_WITHIN;
+            case NOT_IN:
+                return GREMLIN_PRIMITIVE_WITHOUT;
+            case STARTING_WITH:
+                return GREMLIN_PRIMITIVE_STARTING_WITH;
+            case ENDING_WITH:
+                return GREMLIN_PRIMITIVE_ENDING_WITH;
+            case CONTAINING:
+                return GREMLIN_PRIMITIVE_CONTAINING;
+            case NOT_CONTAINING:
+                return GREMLIN_PRIMITIVE_NOT_CONTAINING;
             default:
                 throw new UnsupportedOperationException("Unsupported criteria type.");
         }
@@ -5,13 +5,20 @@
  */
 package com.spring.data.gremlin.query.query;
 
+import com.spring.data.gremlin.annotation.GremlinTimeout;
+import com.spring.data.gremlin.query.GremlinAsyncOperations;
 import com.spring.data.gremlin.query.GremlinOperations;
+import com.spring.data.gremlin.query.GremlinTemplate;
+import com.spring.data.gremlin.query.ReactiveGremlinTemplate;
 import com.spring.data.gremlin.query.paramerter.GremlinParameterAccessor;
 import com.spring.data.gremlin.query.paramerter.GremlinParametersParameterAccessor;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.lang.NonNull;
 
+import java.time.Duration;
+import java.util.Optional;
+
 public abstract class AbstractGremlinQuery implements RepositoryQuery {
 
     private final GremlinQueryMethod method;
@@ -19,7 +26,21 @@ public abstract class AbstractGremlinQuery implements RepositoryQuery {
 
     public AbstractGremlinQuery(@NonNull GremlinQueryMethod method, @NonNull GremlinOperations operations) {
         this.method = method;
-        this.operations = operations;
+        this.operations = withTimeout(method, operations);
+    }
+
+    /**
+     * The query method annotated with {@link GremlinTimeout} is executed by the template view with its deadline.
+     */
+    private static GremlinOperations withTimeout(@NonNull GremlinQueryMethod method,
+                                                 @NonNull GremlinOperations operations) {
+        final Optional<Duration> timeout = method.getTimeout();
+
+        if (timeout.isPresent() && operations instanceof GremlinTemplate) {
+            return ((GremlinTemplate) operations).withTimeout(timeout.get());
+        }
+
+        return operations;
     }
 
     protected abstract GremlinQuery createQuery(GremlinParameterAccessor accessor);
@@ -50,6 +71,23 @@ public abstract class AbstractGremlinQuery implements RepositoryQuery {
     private GremlinQueryExecution getExecution() {
         if (this.isDeleteQuery()) {
             throw new UnsupportedOperationException("Not implemented yet");
+        } else if (this.method.isReactiveQuery()) {
+            if (!(this.operations instanceof GremlinTemplate)) {
+                throw new UnsupportedOperationException("Reactive query requires GremlinTemplate");
+            }
+
+            final GremlinTemplate template = (GremlinTemplate) this.operations;
+
+            return new GremlinQueryExecution.ReactiveFindExecution(new ReactiveGremlinTemplate(template),
+                    this.method.isCollectionQuery());
+        } else if (this.method.isAsyncQuery()) {
+            if (!(this.operations instanceof GremlinAsyncOperations)) {
+                throw new UnsupportedOperationException("Async query requires GremlinAsyncOperations");
+            }
+
+            final GremlinAsyncOperations asyncOperations = (GremlinAsyncOperations) this.operations;
+
+            return new GremlinQueryExecution.AsyncFindExecution(asyncOperations, this.method.isCollectionQuery());
         } else {
             return new GremlinQueryExecution.FindExecution(this.operations);
         }
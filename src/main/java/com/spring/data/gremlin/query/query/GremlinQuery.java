@@ -8,6 +8,8 @@ package com.spring.data.gremlin.query.query;
 import com.spring.data.gremlin.query.criteria.Criteria;
 import lombok.Getter;
 import lombok.NonNull;
+import org.springframework.data.domain.Sort;
+import org.springframework.lang.Nullable;
 
 public class GremlinQuery {
 
@@ -17,17 +19,48 @@ public class GremlinQuery {
     @Getter
     private final String rawQuery;
 
-    private GremlinQuery(Criteria criteria, String rawQuery) {
+    @Getter
+    private final boolean idempotent;
+
+    @Getter
+    private final Sort sort;
+
+    /**
+     * The max results of query, null if not limited.
+     */
+    @Getter
+    private final Integer limit;
+
+    @Getter
+    private final boolean distinct;
+
+    private GremlinQuery(Criteria criteria, String rawQuery, boolean idempotent, Sort sort, Integer limit,
+                         boolean distinct) {
         this.criteria = criteria;
         this.rawQuery = rawQuery;
+        this.idempotent = idempotent;
+        this.sort = sort;
+        this.limit = limit;
+        this.distinct = distinct;
     }
 
     public GremlinQuery(@NonNull Criteria criteria) {
-        this(criteria, null);
+        this(criteria, Sort.unsorted(), null, false);
+    }
+
+    public GremlinQuery(@NonNull Criteria criteria, @NonNull Sort sort, @Nullable Integer limit, boolean distinct) {
+        this(criteria, null, true, sort, limit, distinct);
     }
 
     public static GremlinQuery raw(@NonNull String rawQuery) {
-        return new GremlinQuery(null, rawQuery);
+        return raw(rawQuery, false);
+    }
+
+    /**
+     * The raw query may write, it is retried and hedged only if marked idempotent.
+     */
+    public static GremlinQuery raw(@NonNull String rawQuery, boolean idempotent) {
+        return new GremlinQuery(null, rawQuery, idempotent, Sort.unsorted(), null, false);
     }
 
     public boolean isRaw() {
@@ -5,6 +5,7 @@
  */
 package com.spring.data.gremlin.query.query;
 
+import com.spring.data.gremlin.common.GremlinUtils;
 import com.spring.data.gremlin.mapping.GremlinPersistentProperty;
 import com.spring.data.gremlin.query.criteria.Criteria;
 import com.spring.data.gremlin.query.criteria.CriteriaType;
@@ -22,6 +23,9 @@ import java.util.*;
 public class GremlinQueryCreator extends AbstractQueryCreator<GremlinQuery, Criteria> {
 
     private final MappingContext<?, GremlinPersistentProperty> mappingContext;
+    private final Integer maxResults;
+    private final boolean distinct;
+    private final Class<?> domainClass;
     private static final Map<Part.Type, CriteriaType> criteriaMap;
 
     static {
@@ -32,15 +36,34 @@ public class GremlinQueryCreator extends AbstractQueryCreator<GremlinQuery, Crit
         map.put(Part.Type.BETWEEN, CriteriaType.BETWEEN);
         map.put(Part.Type.SIMPLE_PROPERTY, CriteriaType.IS_EQUAL);
         map.put(Part.Type.EXISTS, CriteriaType.EXISTS);
+        map.put(Part.Type.GREATER_THAN, CriteriaType.GREATER_THAN);
+        map.put(Part.Type.GREATER_THAN_EQUAL, CriteriaType.GREATER_THAN_EQUAL);
+        map.put(Part.Type.LESS_THAN, CriteriaType.LESS_THAN);
+        map.put(Part.Type.LESS_THAN_EQUAL, CriteriaType.LESS_THAN_EQUAL);
+        map.put(Part.Type.NEGATING_SIMPLE_PROPERTY, CriteriaType.NOT_EQUAL);
+        map.put(Part.Type.IN, CriteriaType.IN);
+        map.put(Part.Type.NOT_IN, CriteriaType.NOT_IN);
+        map.put(Part.Type.STARTING_WITH, CriteriaType.STARTING_WITH);
+        map.put(Part.Type.ENDING_WITH, CriteriaType.ENDING_WITH);
+        map.put(Part.Type.CONTAINING, CriteriaType.CONTAINING);
+        map.put(Part.Type.NOT_CONTAINING, CriteriaType.NOT_CONTAINING);
+        map.put(Part.Type.IS_NULL, CriteriaType.IS_NULL);
+        map.put(Part.Type.IS_NOT_NULL, CriteriaType.IS_NOT_NULL);
+        map.put(Part.Type.TRUE, CriteriaType.TRUE);
+        map.put(Part.Type.FALSE, CriteriaType.FALSE);
 
         criteriaMap = Collections.unmodifiableMap(map);
     }
 
     public GremlinQueryCreator(@NonNull PartTree partTree, @NonNull GremlinParameterAccessor accessor,
-                               @NonNull MappingContext<?, GremlinPersistentProperty> mappingContext) {
+                               @NonNull MappingContext<?, GremlinPersistentProperty> mappingContext,
+                               @NonNull Class<?> domainClass) {
         super(partTree, accessor);
 
         this.mappingContext = mappingContext;
+        this.maxResults = partTree.getMaxResults();
+        this.distinct = partTree.isDistinct();
+        this.domainClass = domainClass;
     }
 
     @Override // Note (panli): side effect here, this method will change the iterator status of parameters.
@@ -73,8 +96,14 @@ public class GremlinQueryCreator extends AbstractQueryCreator<GremlinQuery, Crit
         return Criteria.getBinaryInstance(CriteriaType.OR, base, criteria);
     }
 
+    /**
+     * The sort is the one of method name followed by the dynamic Sort parameter if any.
+     */
     @Override
     protected GremlinQuery complete(@NonNull Criteria criteria, @NonNull Sort sort) {
-        return new GremlinQuery(criteria);
+        // The dynamic Sort parameter is given by caller and not validated by part tree.
+        final Sort propertySort = GremlinUtils.toPropertySort(this.mappingContext, sort, this.domainClass);
+
+        return new GremlinQuery(criteria, propertySort, this.maxResults, this.distinct);
     }
 }
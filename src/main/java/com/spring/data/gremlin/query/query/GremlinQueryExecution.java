@@ -7,9 +7,14 @@ package com.spring.data.gremlin.query.query;
 
 import com.spring.data.gremlin.common.GremlinUtils;
 import com.spring.data.gremlin.conversion.source.GremlinSource;
+import com.spring.data.gremlin.query.GremlinAsyncOperations;
 import com.spring.data.gremlin.query.GremlinOperations;
+import com.spring.data.gremlin.query.ReactiveGremlinOperations;
 import org.springframework.lang.NonNull;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 public interface GremlinQueryExecution {
     Object execute(GremlinQuery query, Class<?> type);
 
@@ -28,4 +33,55 @@ public interface GremlinQueryExecution {
             return this.operations.find(query, source);
         }
     }
+
+    /**
+     * Execute the query without blocking, the returned future contains the first domain if not collection query.
+     */
+    final class AsyncFindExecution implements GremlinQueryExecution {
+
+        private final GremlinAsyncOperations operations;
+        private final boolean collectionQuery;
+
+        public AsyncFindExecution(@NonNull GremlinAsyncOperations operations, boolean collectionQuery) {
+            this.operations = operations;
+            this.collectionQuery = collectionQuery;
+        }
+
+        @Override
+        public Object execute(@NonNull GremlinQuery query, @NonNull Class<?> domainClass) {
+            final GremlinSource<?> source = GremlinUtils.toGremlinSource(domainClass);
+            final CompletableFuture<? extends List<?>> future = this.operations.findAsync(query, source);
+
+            if (this.collectionQuery) {
+                return future;
+            }
+
+            return future.thenApply(domains -> domains.isEmpty() ? null : domains.get(0));
+        }
+    }
+
+    /**
+     * Execute the query reactively, the returned Mono contains the first domain if not collection query.
+     */
+    final class ReactiveFindExecution implements GremlinQueryExecution {
+
+        private final ReactiveGremlinOperations operations;
+        private final boolean collectionQuery;
+
+        public ReactiveFindExecution(@NonNull ReactiveGremlinOperations operations, boolean collectionQuery) {
+            this.operations = operations;
+            this.collectionQuery = collectionQuery;
+        }
+
+        @Override
+        public Object execute(@NonNull GremlinQuery query, @NonNull Class<?> domainClass) {
+            final GremlinSource<?> source = GremlinUtils.toGremlinSource(domainClass);
+
+            if (this.collectionQuery) {
+                return this.operations.find(query, source);
+            }
+
+            return this.operations.find(query, source).next();
+        }
+    }
 }
@@ -6,15 +6,21 @@
 package com.spring.data.gremlin.query.query;
 
 import com.spring.data.gremlin.annotation.GremlinQuery;
+import com.spring.data.gremlin.annotation.GremlinTimeout;
 import com.spring.data.gremlin.query.GremlinEntityMetadata;
 import com.spring.data.gremlin.query.SimpleGremlinEntityMetadata;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.repository.core.EntityMetadata;
 import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.util.ReactiveWrappers;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Future;
 
 public class GremlinQueryMethod extends QueryMethod {
 
@@ -39,10 +45,42 @@ public class GremlinQueryMethod extends QueryMethod {
         return this.sourceMethod;
     }
 
+    /**
+     * The query method returns CompletableFuture, or Future/CompletionStage which CompletableFuture can be assigned to.
+     */
+    public boolean isAsyncQuery() {
+        final Class<?> returnType = this.sourceMethod.getReturnType();
+
+        return returnType == CompletableFuture.class || returnType == Future.class
+                || returnType == CompletionStage.class;
+    }
+
+    /**
+     * The query method returns reactive wrapper like Flux or Mono.
+     */
+    public boolean isReactiveQuery() {
+        return ReactiveWrappers.supports(this.sourceMethod.getReturnType());
+    }
+
     public boolean hasAnnotatedQuery() {
         return getAnnotatedQuery().isPresent();
     }
 
+    public boolean isIdempotentQuery() {
+        final GremlinQuery annotation = this.sourceMethod.getAnnotation(GremlinQuery.class);
+
+        return annotation == null || annotation.idempotent();
+    }
+
+    /**
+     * The timeout declared by {@link GremlinTimeout}, empty if the global timeout applies.
+     */
+    public Optional<Duration> getTimeout() {
+        final GremlinTimeout annotation = this.sourceMethod.getAnnotation(GremlinTimeout.class);
+
+        return annotation == null ? Optional.empty() : Optional.of(Duration.ofMillis(annotation.value()));
+    }
+
     public Optional<String> getAnnotatedQuery() {
         GremlinQuery annotation = this.sourceMethod.getAnnotation(GremlinQuery.class);
         return annotation == null ? Optional.empty() : Optional.of(annotation.value());
@@ -29,11 +29,9 @@ public class PartTreeGremlinQuery extends AbstractGremlinQuery {
 
     @Override
     protected GremlinQuery createQuery(@NonNull GremlinParameterAccessor accessor) {
-        final GremlinQueryCreator creator = new GremlinQueryCreator(this.partTree, accessor, this.mappingContext);
-
-        if (this.partTree.isLimiting()) {
-            throw new UnsupportedOperationException("Limitation is not supported yet");
-        }
+        final Class<?> domainClass = this.processor.getReturnedType().getDomainType();
+        final GremlinQueryCreator creator = new GremlinQueryCreator(this.partTree, accessor, this.mappingContext,
+                domainClass);
 
         return creator.createQuery();
     }
@@ -11,11 +11,18 @@ import com.spring.data.gremlin.conversion.source.GremlinSourceEdge;
 import com.spring.data.gremlin.conversion.source.GremlinSourceVertex;
 import com.spring.data.gremlin.query.criteria.Criteria;
 import com.spring.data.gremlin.query.criteria.CriteriaType;
+import org.springframework.data.domain.Sort;
 import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import static com.spring.data.gremlin.common.Constants.*;
 import static com.spring.data.gremlin.conversion.script.AbstractGremlinScriptLiteral.*;
@@ -24,15 +31,40 @@ public class QueryFindScriptGenerator implements QueryScriptGenerator {
 
     private final GremlinSource source;
 
+    /**
+     * The bindings of values referenced by generated script, null when values are inlined into script.
+     */
+    private Map<String, Object> bindings;
+
     public QueryFindScriptGenerator(@NonNull GremlinSource source) {
         this.source = source;
     }
 
+    /**
+     * Generate script as template from now on, the values are collected into bindings instead.
+     */
+    public void enableBindings() {
+        this.bindings = new HashMap<>();
+    }
+
+    public Map<String, Object> getBindings() {
+        return this.bindings == null ? Collections.emptyMap() : Collections.unmodifiableMap(this.bindings);
+    }
+
+    /**
+     * Convert the value to script, as the binding name if bindings are enabled.
+     */
+    private String toScriptValue(@NonNull Object value) {
+        return this.bindings == null ? String.valueOf(value) : bind(this.bindings, value);
+    }
+
     private String getCriteriaSubject(@NonNull Criteria criteria) {
-        String subject = criteria.getSubject();
+        return this.getSubject(criteria.getSubject());
+    }
 
+    private String getSubject(@NonNull String subject) {
         if (subject.equals(this.source.getIdField().getName())) {
-            subject = PROPERTY_ID; // If subject is @Id/id field, use id property in database.
+            return PROPERTY_ID; // If subject is @Id/id field, use id property in database.
         }
 
         return subject;
@@ -41,10 +73,12 @@ public class QueryFindScriptGenerator implements QueryScriptGenerator {
     private String generateIsEqual(@NonNull Criteria criteria) {
         final String subject = getCriteriaSubject(criteria);
 
+        final Object value = criteria.getSubValues().get(0);
+
         if (subject.equals(PROPERTY_ID)) {
-            return String.format(GREMLIN_PRIMITIVE_WHERE, generateHasId(criteria.getSubValues().get(0)));
+            return String.format(GREMLIN_PRIMITIVE_WHERE, generateHasId(value, this.bindings));
         } else {
-            return String.format(GREMLIN_PRIMITIVE_WHERE, generateHas(subject, criteria.getSubValues().get(0)));
+            return String.format(GREMLIN_PRIMITIVE_WHERE, generateHas(subject, value, this.bindings));
         }
     }
 
@@ -56,7 +90,7 @@ public class QueryFindScriptGenerator implements QueryScriptGenerator {
      */
     private String generateEmptyScript(@NonNull Criteria criteria) {
         final String subject = this.getCriteriaSubject(criteria);
-        final String has = generateHas(subject, true);
+        final String has = generateHas(subject, true, this.bindings);
 
         return String.format(GREMLIN_PRIMITIVE_WHERE, has);
     }
@@ -73,7 +107,7 @@ public class QueryFindScriptGenerator implements QueryScriptGenerator {
         final long milliSeconds = GremlinUtils.timeToMilliSeconds(criteria.getSubValues().get(0));
 
         final String values = String.format(GREMLIN_PRIMITIVE_VALUES, subject);
-        final String query = String.format(CriteriaType.criteriaTypeToGremlin(type), milliSeconds);
+        final String query = String.format(CriteriaType.criteriaTypeToGremlin(type), toScriptValue(milliSeconds));
         final String content = String.join(GREMLIN_PRIMITIVE_INVOKE, values, query);
 
         return String.format(GREMLIN_PRIMITIVE_WHERE, content);
@@ -92,12 +126,107 @@ public class QueryFindScriptGenerator implements QueryScriptGenerator {
         final long end = GremlinUtils.toPrimitiveLong(criteria.getSubValues().get(1));
 
         final String values = String.format(GREMLIN_PRIMITIVE_VALUES, subject);
-        final String query = String.format(CriteriaType.criteriaTypeToGremlin(type), start, end);
+        final String query = String.format(CriteriaType.criteriaTypeToGremlin(type),
+                toScriptValue(start), toScriptValue(end));
         final String content = String.join(GREMLIN_PRIMITIVE_INVOKE, values, query);
 
         return String.format(GREMLIN_PRIMITIVE_WHERE, content);
     }
 
+    /**
+     * Generate script with one subject and the predicate of subValues, like findByAgeGreaterThan(int age) or
+     * findByNameIn(Collection names).
+     *
+     * @param criteria given query represent a query subject
+     * @return simple script of has with predicate
+     */
+    private String generatePredicateScript(@NonNull Criteria criteria) {
+        final String subject = this.getCriteriaSubject(criteria);
+
+        if (isComparison(criteria.getType())) {
+            criteria.getSubValues().forEach(QueryFindScriptGenerator::validateComparisonValue);
+        }
+
+        final String values = this.generatePredicateValues(subject, criteria.getSubValues());
+        final String predicate = String.format(CriteriaType.criteriaTypeToGremlin(criteria.getType()), values);
+
+        if (subject.equals(PROPERTY_ID)) {
+            return String.format(GREMLIN_PRIMITIVE_WHERE, String.format(GREMLIN_PRIMITIVE_HAS_ID, predicate));
+        }
+
+        return String.format(GREMLIN_PRIMITIVE_WHERE, String.format(GREMLIN_PRIMITIVE_HAS_BINDING, subject, predicate));
+    }
+
+    private static boolean isComparison(@NonNull CriteriaType type) {
+        return type == CriteriaType.GREATER_THAN || type == CriteriaType.GREATER_THAN_EQUAL
+                || type == CriteriaType.LESS_THAN || type == CriteriaType.LESS_THAN_EQUAL;
+    }
+
+    /**
+     * Numbers other than Integer are stored as String in gremlin server, comparing them would be lexicographic.
+     */
+    private static void validateComparisonValue(Object value) {
+        if (value instanceof Number && !(value instanceof Integer)) {
+            throw new UnsupportedOperationException("Only Integer of numeric value is supported to compare, but got: "
+                    + value.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * Convert the subValues to the values of predicate, the collection or array of In/NotIn is expanded. With bindings
+     * enabled, the expanded values are bound as one List, as gremlin-language only accepts a single variable there.
+     */
+    private String generatePredicateValues(@NonNull String subject, @NonNull List<Object> subValues) {
+        final List<Object> values = new ArrayList<>();
+        boolean expanded = false;
+
+        for (final Object value : subValues) {
+            if (value instanceof Collection) {
+                values.addAll((Collection<?>) value);
+                expanded = true;
+            } else if (value instanceof Object[]) {
+                values.addAll(Arrays.asList((Object[]) value));
+                expanded = true;
+            } else {
+                values.add(value);
+            }
+        }
+
+        values.forEach(value -> Assert.notNull(value, "value of criteria should not be null: " + subject));
+
+        if (expanded && this.bindings != null) {
+            return bind(this.bindings, values.stream().map(value -> subject.equals(PROPERTY_ID)
+                    ? toIdValue(value, this.source.getIdField()) : toHasValue(value)).collect(Collectors.toList()));
+        }
+
+        return values.stream().map(value -> subject.equals(PROPERTY_ID)
+                ? generateIdValue(value, this.source.getIdField(), this.bindings)
+                : generateHasValue(value, this.bindings)).collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Generate script with only one subject and no subValue, like findByNameIsNull() or findByActiveTrue().
+     *
+     * @param criteria given query represent a query subject
+     * @return simple script of has or hasNot
+     */
+    private String generateKeyScript(@NonNull Criteria criteria) {
+        final String subject = this.getCriteriaSubject(criteria);
+
+        switch (criteria.getType()) {
+            case IS_NULL:
+                return String.format(GREMLIN_PRIMITIVE_WHERE, String.format(GREMLIN_PRIMITIVE_HAS_NOT, subject));
+            case IS_NOT_NULL:
+                return String.format(GREMLIN_PRIMITIVE_WHERE, String.format(GREMLIN_PRIMITIVE_HAS_KEY, subject));
+            case TRUE:
+                return String.format(GREMLIN_PRIMITIVE_WHERE, generateHas(subject, true, this.bindings));
+            case FALSE:
+                return String.format(GREMLIN_PRIMITIVE_WHERE, generateHas(subject, false, this.bindings));
+            default:
+                throw new UnsupportedOperationException("unsupported Criteria type");
+        }
+    }
+
     /**
      * Generate script combined by AND/OR keyword.
      *
@@ -133,11 +262,68 @@ public class QueryFindScriptGenerator implements QueryScriptGenerator {
                 return this.generateDoubleScript(criteria);
             case EXISTS:
                 return this.generateEmptyScript(criteria);
+            case GREATER_THAN:
+            case GREATER_THAN_EQUAL:
+            case LESS_THAN:
+            case LESS_THAN_EQUAL:
+            case NOT_EQUAL:
+            case IN:
+            case NOT_IN:
+            case STARTING_WITH:
+            case ENDING_WITH:
+            case CONTAINING:
+            case NOT_CONTAINING:
+                return this.generatePredicateScript(criteria);
+            case IS_NULL:
+            case IS_NOT_NULL:
+            case TRUE:
+            case FALSE:
+                return this.generateKeyScript(criteria);
             default:
                 throw new UnsupportedOperationException("unsupported Criteria type");
         }
     }
 
+    /**
+     * Generate the dedup of distinct, the order of sort and the limit of max results, so that the server stops
+     * iterating early.
+     *
+     * @param query given query with distinct, sort and limit
+     * @return the dedup, order and limit steps, empty if none of them
+     */
+    private List<String> generateOrderAndLimit(@NonNull GremlinQuery query) {
+        final List<String> scriptList = new ArrayList<>();
+        final Sort sort = query.getSort();
+
+        if (query.isDistinct()) {
+            scriptList.add(GREMLIN_PRIMITIVE_DEDUP);
+        }
+
+        if (sort.isSorted()) {
+            scriptList.add(GREMLIN_PRIMITIVE_ORDER);
+            sort.forEach(order -> scriptList.add(this.generateOrderBy(order)));
+        }
+
+        if (query.getLimit() != null) {
+            scriptList.add(String.format(GREMLIN_PRIMITIVE_LIMIT, query.getLimit()));
+        }
+
+        return scriptList;
+    }
+
+    private String generateOrderBy(@NonNull Sort.Order order) {
+        final String subject = this.getSubject(order.getProperty());
+        final String direction = order.isAscending() ? "asc" : "desc";
+
+        if (order.isIgnoreCase()) {
+            throw new UnsupportedOperationException("Ignore case of sort is not supported: " + subject);
+        } else if (subject.equals(PROPERTY_ID)) {
+            return String.format(GREMLIN_PRIMITIVE_ORDER_BY, PROPERTY_ID, direction);
+        }
+
+        return String.format(GREMLIN_PRIMITIVE_ORDER_BY, String.format("'%s'", subject), direction);
+    }
+
     private List<String> generateScript(@NonNull GremlinQuery query) {
         final Criteria criteria = query.getCriteria();
         final List<String> scriptList = new ArrayList<>();
@@ -154,6 +340,7 @@ public class QueryFindScriptGenerator implements QueryScriptGenerator {
 
         scriptList.add(generateHasLabel(this.source.getLabel()));
         scriptList.add(this.generateScriptTraversal(criteria));
+        scriptList.addAll(this.generateOrderAndLimit(query));
 
         return scriptList;
     }
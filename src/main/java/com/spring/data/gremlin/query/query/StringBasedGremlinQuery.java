@@ -31,7 +31,7 @@ public class StringBasedGremlinQuery extends AbstractGremlinQuery {
     @Override
     protected GremlinQuery createQuery(@NonNull GremlinParameterAccessor accessor) {
         String bound = bindParameters(rawQueryTemplate, getQueryMethod(), accessor);
-        return GremlinQuery.raw(bound);
+        return GremlinQuery.raw(bound, getQueryMethod().isIdempotentQuery());
     }
 
     static String bindParameters(String template, GremlinQueryMethod method, GremlinParameterAccessor accessor) {
@@ -6,13 +6,18 @@
 package com.spring.data.gremlin.repository;
 
 import com.spring.data.gremlin.common.GremlinEntityType;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.PagingAndSortingRepository;
 
 import java.io.Serializable;
 
 @NoRepositoryBean
-public interface GremlinRepository<T, ID extends Serializable> extends CrudRepository<T, ID> {
+public interface GremlinRepository<T, ID extends Serializable> extends CrudRepository<T, ID>,
+        PagingAndSortingRepository<T, ID> {
 
     Iterable<T> findAll(Class<T> domainClass);
 
@@ -23,4 +28,17 @@ public interface GremlinRepository<T, ID extends Serializable> extends CrudRepos
     long vertexCount();
 
     long edgeCount();
+
+    long countByLabel();
+
+    /**
+     * Scan the entities after the position in the order of id, the position of next window continues from the last.
+     */
+    Window<T> scan(ScrollPosition position, int limit);
+
+    /**
+     * Scan the entities after the position in the order of sort followed by id. The entities with null value of any
+     * sort property are not scanned.
+     */
+    Window<T> scan(ScrollPosition position, Sort sort, int limit);
 }
@@ -0,0 +1,30 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.spring.data.gremlin.repository;
+
+import com.spring.data.gremlin.common.GremlinEntityType;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.Serializable;
+
+@NoRepositoryBean
+public interface ReactiveGremlinRepository<T, ID extends Serializable> extends ReactiveCrudRepository<T, ID> {
+
+    Flux<T> findAll(Class<T> domainClass);
+
+    Mono<Void> deleteAll(GremlinEntityType type);
+
+    Mono<Void> deleteAll(Class<T> domainClass);
+
+    Mono<Long> vertexCount();
+
+    Mono<Long> edgeCount();
+
+    Mono<Long> countByLabel();
+}
@@ -15,6 +15,7 @@ import org.springframework.beans.factory.support.BeanDefinitionRegistry;
 import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.data.repository.config.RepositoryConfigurationExtensionSupport;
 import org.springframework.data.repository.config.RepositoryConfigurationSource;
+import org.springframework.data.repository.core.RepositoryMetadata;
 
 import java.lang.annotation.Annotation;
 import java.util.Collection;
@@ -42,6 +43,14 @@ public class GremlinRepositoryConfigurationExtension extends RepositoryConfigura
         return Collections.singleton(GremlinRepository.class);
     }
 
+    /**
+     * Both blocking and reactive repositories are backed by GremlinRepositoryFactory.
+     */
+    @Override
+    protected boolean useRepositoryConfiguration(RepositoryMetadata metadata) {
+        return true;
+    }
+
     @Override
     public Collection<Class <? extends Annotation>> getIdentifyingAnnotations() {
         return Collections.emptyList();
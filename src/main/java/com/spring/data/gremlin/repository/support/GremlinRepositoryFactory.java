@@ -38,6 +38,10 @@ public class GremlinRepositoryFactory extends RepositoryFactorySupport {
 
     @Override
     protected Class<?> getRepositoryBaseClass(RepositoryMetadata metadata) {
+        if (metadata.isReactiveRepository()) {
+            return SimpleReactiveGremlinRepository.class;
+        }
+
         return SimpleGremlinRepository.class;
     }
 
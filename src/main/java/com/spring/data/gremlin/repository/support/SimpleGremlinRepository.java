@@ -11,9 +11,15 @@ import com.spring.data.gremlin.conversion.source.GremlinSourceGraph;
 import com.spring.data.gremlin.query.GremlinOperations;
 import com.spring.data.gremlin.repository.GremlinRepository;
 import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.lang.NonNull;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.StreamSupport;
@@ -46,8 +52,13 @@ public class SimpleGremlinRepository<T, ID extends Serializable> implements Grem
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <S extends T> Iterable<S> saveAll(@NonNull Iterable<S> domains) {
-        return StreamSupport.stream(domains.spliterator(), true).map(this::save).collect(toList());
+        final List<T> domainList = new ArrayList<>();
+
+        domains.forEach(domainList::add);
+
+        return (List<S>) this.operations.saveAll(domainList, this.information.createGremlinSource());
     }
 
     @Override
@@ -61,10 +72,49 @@ public class SimpleGremlinRepository<T, ID extends Serializable> implements Grem
         return this.operations.findAll(source);
     }
 
+    @Override
+    public Iterable<T> findAll(@NonNull Sort sort) {
+        final GremlinSource<T> source = this.information.createGremlinSource();
+
+        if (source instanceof GremlinSourceGraph) {
+            throw new UnsupportedOperationException("findAll of Graph is not supported");
+        }
+
+        return this.operations.findAll(sort, source);
+    }
+
+    @Override
+    public Page<T> findAll(@NonNull Pageable pageable) {
+        final GremlinSource<T> source = this.information.createGremlinSource();
+
+        if (source instanceof GremlinSourceGraph) {
+            throw new UnsupportedOperationException("findAll of Graph is not supported");
+        }
+
+        return this.operations.findAll(pageable, source);
+    }
+
+    @Override
+    public Window<T> scan(@NonNull ScrollPosition position, int limit) {
+        return this.scan(position, Sort.unsorted(), limit);
+    }
+
+    @Override
+    public Window<T> scan(@NonNull ScrollPosition position, @NonNull Sort sort, int limit) {
+        final GremlinSource<T> source = this.information.createGremlinSource();
+
+        if (source instanceof GremlinSourceGraph) {
+            throw new UnsupportedOperationException("scan of Graph is not supported");
+        }
+
+        return this.operations.scan(position, sort, limit, source);
+    }
+
     @Override
     public List<T> findAllById(@NonNull Iterable<ID> ids) {
-        return StreamSupport.stream(ids.spliterator(), true).map(this::findById)
-                .filter(Optional::isPresent).map(Optional::get).collect(toList());
+        final List<ID> idList = StreamSupport.stream(ids.spliterator(), false).collect(toList());
+
+        return this.operations.findAllById(idList, this.information.createGremlinSource());
     }
 
     @Override
@@ -89,6 +139,22 @@ public class SimpleGremlinRepository<T, ID extends Serializable> implements Grem
         return this.operations.edgeCount();
     }
 
+    /**
+     * The number of vertex or edge with the label of domain, counted by gremlin server.
+     *
+     * @return the count of vertex or edge with the same label.
+     */
+    @Override
+    public long countByLabel() {
+        final GremlinSource<T> source = this.information.createGremlinSource();
+
+        if (source instanceof GremlinSourceGraph) {
+            throw new UnsupportedOperationException("countByLabel of Graph is not supported");
+        }
+
+        return this.operations.countByLabel(source);
+    }
+
     /**
      * The total number of vertex and edge, vertexCount and edgeCount is also available.
      *
@@ -105,10 +171,10 @@ public class SimpleGremlinRepository<T, ID extends Serializable> implements Grem
     }
 
     @Override
-    public void deleteAllById(Iterable<? extends ID> ids) {
-        for (ID id : ids){
-            this.operations.deleteById(id, this.information.createGremlinSource());
-        }
+    public void deleteAllById(@NonNull Iterable<? extends ID> ids) {
+        final List<ID> idList = StreamSupport.stream(ids.spliterator(), false).collect(toList());
+
+        this.operations.deleteAllById(idList, this.information.createGremlinSource());
     }
 
     @Override
@@ -128,7 +194,10 @@ public class SimpleGremlinRepository<T, ID extends Serializable> implements Grem
 
     @Override
     public void deleteAll(@NonNull Iterable<? extends T> domains) {
-        domains.forEach(this::delete);
+        final List<ID> idList = StreamSupport.stream(domains.spliterator(), false)
+                .map(this.information::getId).collect(toList());
+
+        this.operations.deleteAllById(idList, this.information.createGremlinSource());
     }
 
     @Override
@@ -8,6 +8,7 @@ package com.spring.data.gremlin.common;
 import com.spring.data.gremlin.exception.GremlinIllegalConfigurationException;
 import lombok.NoArgsConstructor;
 import org.apache.tinkerpop.gremlin.driver.Client;
+import org.apache.tinkerpop.gremlin.driver.Cluster;
 import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -17,6 +18,14 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
 import static com.spring.data.gremlin.common.TestConstants.EMPTY_STRING;
 import static com.spring.data.gremlin.common.TestConstants.ILLEGAL_ENDPOINT_PORT;
 
@@ -43,6 +52,115 @@ public class GremlinFactoryUnitTest {
         Assert.assertFalse(client.getSettings().getSession().isPresent());
     }
 
+    @Test
+    public void testGremlinFactorySharedClient() throws InterruptedException {
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        final Set<Client> clients = ConcurrentHashMap.newKeySet();
+
+        for (int i = 0; i < 64; i++) {
+            executor.execute(() -> clients.add(factory.getGremlinClient()));
+        }
+
+        executor.shutdown();
+
+        Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        Assert.assertEquals(1, clients.size());
+        Assert.assertSame(factory.getTraversalClient(), factory.getTraversalClient());
+    }
+
+    @Test
+    public void testGremlinFactoryWarmUpFailure() {
+        final GremlinConfig config = GremlinConfig.builder(EMPTY_STRING, EMPTY_STRING, EMPTY_STRING)
+                .port(1)
+                .sslEnabled(false)
+                .warmUpQueries(2)
+                .build();
+        final GremlinFactory factory = new GremlinFactory(config);
+
+        factory.afterPropertiesSet();
+        factory.destroy();
+
+        Assert.assertTrue(factory.getGremlinClient().isClosing());
+    }
+
+    @Test
+    public void testGremlinFactoryConnectionPool() {
+        final GremlinConfig config = GremlinConfig.builder(EMPTY_STRING, EMPTY_STRING, EMPTY_STRING)
+                .minConnectionPoolSize(4)
+                .maxConnectionPoolSize(32)
+                .maxInProcessPerConnection(8)
+                .maxSimultaneousUsagePerConnection(24)
+                .resultIterationBatchSize(128)
+                .build();
+        final Cluster cluster = new GremlinFactory(config).getGremlinClient().getCluster();
+
+        Assert.assertEquals(4, cluster.minConnectionPoolSize());
+        Assert.assertEquals(32, cluster.maxConnectionPoolSize());
+        Assert.assertEquals(8, cluster.getMaxInProcessPerConnection());
+        Assert.assertEquals(24, cluster.maxSimultaneousUsagePerConnection());
+        Assert.assertEquals(128, cluster.getResultIterationBatchSize());
+        Assert.assertEquals(factory.getGremlinClient().getCluster().getWorkerPoolSize(), cluster.getWorkerPoolSize());
+    }
+
+    @Test(expected = GremlinIllegalConfigurationException.class)
+    public void testGremlinFactoryConnectionPoolException() {
+        final GremlinConfig config = GremlinConfig.builder(EMPTY_STRING, EMPTY_STRING, EMPTY_STRING)
+                .minConnectionPoolSize(16)
+                .maxConnectionPoolSize(8)
+                .build();
+
+        new GremlinFactory(config).getGremlinClient();
+    }
+
+    @Test(expected = GremlinIllegalConfigurationException.class)
+    public void testGremlinFactoryBytecodeException() {
+        final GremlinConfig config = GremlinConfig.builder(EMPTY_STRING, EMPTY_STRING, EMPTY_STRING)
+                .executionEngine(GremlinExecutionEngine.BYTECODE)
+                .build();
+
+        new GremlinFactory(config);
+    }
+
+    @Test
+    public void testGremlinFactoryReadClientWithoutReplica() {
+        Assert.assertFalse(factory.hasReadReplicas());
+        Assert.assertSame(factory.getGremlinClient(), factory.getReadClient());
+        Assert.assertSame(factory.getTraversalClient(), factory.getReadTraversalClient());
+    }
+
+    @Test
+    public void testGremlinFactoryReadClientWithReplicas() {
+        final GremlinConfig config = GremlinConfig.builder(EMPTY_STRING, EMPTY_STRING, EMPTY_STRING)
+                .readEndpoints(Arrays.asList("localhost", "127.0.0.1"))
+                .maxConnectionPoolSize(4)
+                .build();
+        final GremlinFactory replicaFactory = new GremlinFactory(config);
+        final Cluster readCluster = replicaFactory.getReadClient().getCluster();
+
+        Assert.assertTrue(replicaFactory.hasReadReplicas());
+        Assert.assertNotSame(replicaFactory.getGremlinClient().getCluster(), readCluster);
+        Assert.assertSame(readCluster, replicaFactory.getReadTraversalClient().getCluster());
+        Assert.assertEquals(4, readCluster.maxConnectionPoolSize());
+
+        replicaFactory.destroy();
+
+        Assert.assertTrue(readCluster.isClosing());
+    }
+
+    @Test
+    public void testGremlinFactoryLoadBalancingStrategy() {
+        final GremlinConfig config = GremlinConfig.builder(EMPTY_STRING, EMPTY_STRING, EMPTY_STRING)
+                .endpoints(Arrays.asList("127.0.0.1", "127.0.0.2"))
+                .readEndpoints(Collections.singletonList("127.0.0.3"))
+                .build();
+        final GremlinFactory balancedFactory = new GremlinFactory(config);
+
+        Assert.assertEquals(Constants.DEFAULT_HOST_FAILURE_THRESHOLD, config.getHostFailureThreshold());
+        Assert.assertNotSame(balancedFactory.getLoadBalancingStrategy(),
+                balancedFactory.getReadLoadBalancingStrategy());
+        Assert.assertSame(factory.getLoadBalancingStrategy(), factory.getReadLoadBalancingStrategy());
+    }
+
     @Configuration
     @NoArgsConstructor
     static class TestConfiguration {
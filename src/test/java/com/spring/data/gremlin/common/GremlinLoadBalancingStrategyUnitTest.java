@@ -0,0 +1,157 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.spring.data.gremlin.common;
+
+import org.apache.tinkerpop.gremlin.driver.Cluster;
+import org.apache.tinkerpop.gremlin.driver.Host;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class GremlinLoadBalancingStrategyUnitTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(500);
+
+    private GremlinLoadBalancingStrategy strategy;
+    private Cluster cluster;
+    private List<Host> hosts;
+
+    @Before
+    public void setup() {
+        this.strategy = new GremlinLoadBalancingStrategy(10000, 3, 30000);
+        this.cluster = Cluster.build("127.0.0.1")
+                .addContactPoints("127.0.0.2", "127.0.0.3")
+                .port(1)
+                .loadBalancingStrategy(this.strategy)
+                .create();
+        this.cluster.init();
+        this.hosts = new ArrayList<>(this.cluster.allHosts());
+        this.hosts.forEach(this.strategy::onNew); // As the hosts are connected by client
+    }
+
+    @After
+    public void cleanup() {
+        this.cluster.close();
+    }
+
+    private List<Host> select() {
+        final List<Host> selected = new ArrayList<>();
+        final Iterator<Host> iterator = this.strategy.select(null);
+
+        iterator.forEachRemaining(selected::add);
+
+        return selected;
+    }
+
+    @Test
+    public void testSelectAllHostsForFailover() {
+        final List<Host> selected = this.select();
+
+        Assert.assertEquals(3, selected.size());
+        Assert.assertTrue(selected.containsAll(this.hosts));
+    }
+
+    @Test
+    public void testSelectAvoidSlowHost() {
+        final Host slow = this.hosts.get(0);
+
+        this.strategy.recordSuccess(slow, SLOW);
+        this.strategy.recordSuccess(this.hosts.get(1), FAST);
+        this.strategy.recordSuccess(this.hosts.get(2), FAST);
+
+        for (int i = 0; i < 1000; i++) {
+            Assert.assertNotSame(slow, this.select().get(0));
+        }
+    }
+
+    @Test
+    public void testSelectSpreadAcrossFastHosts() {
+        this.strategy.recordSuccess(this.hosts.get(0), SLOW);
+        this.strategy.recordSuccess(this.hosts.get(1), FAST);
+        this.strategy.recordSuccess(this.hosts.get(2), FAST);
+
+        int selectedFirst = 0;
+
+        for (int i = 0; i < 1000; i++) {
+            if (this.select().get(0) == this.hosts.get(1)) {
+                selectedFirst++;
+            }
+        }
+
+        Assert.assertTrue(selectedFirst > 100 && selectedFirst < 900);
+    }
+
+    @Test
+    public void testEjectAfterConsecutiveFailures() {
+        final Host failed = this.hosts.get(0);
+
+        this.strategy.recordFailure(failed, FAST);
+        this.strategy.recordFailure(failed, FAST);
+        this.strategy.recordFailure(failed, FAST);
+
+        for (int i = 0; i < 100; i++) {
+            final List<Host> selected = this.select();
+
+            Assert.assertSame(failed, selected.get(selected.size() - 1));
+        }
+    }
+
+    @Test
+    public void testSelectWithoutUnavailableHost() {
+        final Host unavailable = this.hosts.get(0);
+
+        this.strategy.onUnavailable(unavailable);
+
+        Assert.assertFalse(this.select().contains(unavailable));
+
+        this.strategy.onAvailable(unavailable);
+
+        Assert.assertTrue(this.select().contains(unavailable));
+    }
+
+    @Test
+    public void testSuccessResetFailures() {
+        final Host host = this.hosts.get(0);
+
+        this.strategy.recordSuccess(this.hosts.get(1), SLOW);
+        this.strategy.recordSuccess(this.hosts.get(2), SLOW);
+        this.strategy.recordFailure(host, FAST);
+        this.strategy.recordFailure(host, FAST);
+        this.strategy.recordSuccess(host, FAST);
+        this.strategy.recordFailure(host, FAST);
+        this.strategy.recordFailure(host, FAST);
+
+        boolean selectedFirst = false;
+
+        for (int i = 0; i < 1000 && !selectedFirst; i++) {
+            selectedFirst = this.select().get(0) == host;
+        }
+
+        Assert.assertTrue(selectedFirst);
+    }
+
+    @Test
+    public void testAverageDecay() throws InterruptedException {
+        final GremlinLoadBalancingStrategy decaying = new GremlinLoadBalancingStrategy(1, 3, 30000);
+        final Host host = this.hosts.get(0);
+
+        decaying.onNew(host);
+        decaying.recordSuccess(host, SLOW);
+
+        Assert.assertTrue(decaying.getCost(host, System.nanoTime()) > 0);
+
+        Thread.sleep(50);
+
+        Assert.assertTrue(decaying.getCost(host, System.nanoTime()) < FAST);
+    }
+}
@@ -7,9 +7,32 @@ package com.spring.data.gremlin.common;
 
 import com.spring.data.gremlin.common.domain.Service;
 import com.spring.data.gremlin.conversion.source.AbstractGremlinSource;
+import com.spring.data.gremlin.exception.GremlinQueryException;
+import com.spring.data.gremlin.exception.GremlinQueryTimeoutException;
+import org.apache.tinkerpop.gremlin.driver.Result;
+import org.apache.tinkerpop.gremlin.driver.exception.NoHostAvailableException;
+import org.apache.tinkerpop.gremlin.driver.exception.ResponseException;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.apache.tinkerpop.gremlin.util.message.ResponseStatusCode;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.net.ConnectException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+
+import static java.util.Collections.singletonList;
+
 public class GremlinUtilsUnitTest {
 
     @Test(expected = IllegalArgumentException.class)
@@ -41,4 +64,149 @@ public class GremlinUtilsUnitTest {
     public void testToPrimitiveLong() {
         Assert.assertEquals((long) 3, GremlinUtils.toPrimitiveLong(3L));
     }
+
+    @Test
+    public void testToQueryBindings() {
+        final Map<String, Object> bindings = new HashMap<>();
+
+        bindings.put("_p0", "123");
+        bindings.put("_p1", "bill");
+        bindings.put("_p10", 10);
+
+        final Map<String, Object> queryBindings = GremlinUtils.toQueryBindings("g.V(_p0).property('name', _p1)",
+                bindings);
+
+        Assert.assertEquals(2, queryBindings.size());
+        Assert.assertEquals("123", queryBindings.get("_p0"));
+        Assert.assertEquals("bill", queryBindings.get("_p1"));
+        Assert.assertTrue(GremlinUtils.toQueryBindings("g.V().drop()", bindings).isEmpty());
+    }
+
+    @Test
+    public void testToGraphTraversal() {
+        final GraphTraversalSource g = EmptyGraph.instance().traversal();
+        final Map<String, Object> bindings = Collections.singletonMap("_p0", "bill");
+
+        final GraphTraversal<?, ?> traversal = GremlinUtils.toGraphTraversal(g,
+                "g.V().has(label, 'label-person').has('name', _p0).hasId(123L)", bindings);
+
+        Assert.assertEquals(g.V().has(T.label, "label-person").has("name", "bill").hasId(123L).asAdmin().getBytecode(),
+                traversal.asAdmin().getBytecode());
+    }
+
+    @Test
+    public void testToGraphTraversalOfCriteria() {
+        final GraphTraversalSource g = EmptyGraph.instance().traversal();
+        final GraphTraversal<?, ?> traversal = GremlinUtils.toGraphTraversal(g,
+                "g.V().where(where(values('age').is(gt(3))).and().where(has('name', 'bill')))", Collections.emptyMap());
+
+        Assert.assertEquals(g.V().where(__.where(__.values("age").is(P.gt(3))).and().where(__.has("name", "bill")))
+                .asAdmin().getBytecode(), traversal.asAdmin().getBytecode());
+    }
+
+    @Test
+    public void testToGraphTraversalOfParseTree() {
+        final GraphTraversalSource g = EmptyGraph.instance().traversal();
+        final String query = "g.V().has(label, 'label-person').has('name', _p0).range(_p1, _p2)";
+
+        for (final String name : Arrays.asList("bill", "jack")) {
+            final Map<String, Object> bindings = new HashMap<>();
+
+            bindings.put("_p0", name);
+            bindings.put("_p1", 0L);
+            bindings.put("_p2", 10L);
+
+            Assert.assertEquals(g.V().has(T.label, "label-person").has("name", name).range(0L, 10L).asAdmin()
+                    .getBytecode(), GremlinUtils.toGraphTraversal(g, query, bindings).asAdmin().getBytecode());
+        }
+    }
+
+    @Test(expected = GremlinQueryException.class)
+    public void testToGraphTraversalOfParseTreeException() {
+        GremlinUtils.toGraphTraversal(EmptyGraph.instance().traversal(), "g.V().has('name', _p0",
+                Collections.singletonMap("_p0", "bill"));
+    }
+
+    @Test(expected = GremlinQueryException.class)
+    public void testToGraphTraversalException() {
+        GremlinUtils.toGraphTraversal(EmptyGraph.instance().traversal(), "g.V().has('name', _p0)",
+                Collections.emptyMap());
+    }
+
+    @Test
+    public void testIsOverloaded() {
+        final ResponseException tooManyRequests = new ResponseException(ResponseStatusCode.TOO_MANY_REQUESTS, "busy");
+        final ResponseException invalid = new ResponseException(ResponseStatusCode.SERVER_ERROR_EVALUATION, "invalid");
+
+        Assert.assertTrue(GremlinUtils.isOverloaded(new CompletionException(tooManyRequests)));
+        Assert.assertTrue(GremlinUtils.isOverloaded(new CompletionException(new TimeoutException())));
+        Assert.assertFalse(GremlinUtils.isOverloaded(new CompletionException(invalid)));
+        Assert.assertFalse(GremlinUtils.isOverloaded(new IllegalStateException()));
+        Assert.assertFalse(GremlinUtils.isOverloaded(null));
+    }
+
+    @Test
+    public void testIsHostFailure() {
+        final ResponseException invalid = new ResponseException(ResponseStatusCode.SERVER_ERROR_EVALUATION, "invalid");
+        final ResponseException temporary = new ResponseException(ResponseStatusCode.SERVER_ERROR_TEMPORARY, "busy");
+
+        Assert.assertTrue(GremlinUtils.isHostFailure(new CompletionException(new ConnectException("refused"))));
+        Assert.assertTrue(GremlinUtils.isHostFailure(new CompletionException(new TimeoutException())));
+        Assert.assertTrue(GremlinUtils.isHostFailure(new NoHostAvailableException()));
+        Assert.assertTrue(GremlinUtils.isHostFailure(new CompletionException(temporary)));
+        Assert.assertFalse(GremlinUtils.isHostFailure(new CompletionException(invalid)));
+        Assert.assertFalse(GremlinUtils.isHostFailure(new CompletionException(new IllegalStateException("closed"))));
+        Assert.assertFalse(GremlinUtils.isHostFailure(new GremlinQueryException("failed to parse")));
+        Assert.assertFalse(GremlinUtils.isHostFailure(null));
+    }
+
+    @Test
+    public void testIsHostFailureWithDeadline() {
+        final GremlinQueryTimeoutException timeout = new GremlinQueryTimeoutException("deadline",
+                new TimeoutException());
+
+        Assert.assertTrue(GremlinUtils.isOverloaded(new CompletionException(new TimeoutException())));
+        Assert.assertFalse(GremlinUtils.isOverloaded(new CompletionException(timeout)));
+        Assert.assertFalse(GremlinUtils.isHostFailure(new CompletionException(timeout)));
+    }
+
+    @Test
+    public void testIsServerTimeout() {
+        final ResponseException timeout = new ResponseException(ResponseStatusCode.SERVER_ERROR_TIMEOUT, "timeout");
+        final ResponseException temporary = new ResponseException(ResponseStatusCode.SERVER_ERROR_TEMPORARY, "busy");
+
+        Assert.assertTrue(GremlinUtils.isServerTimeout(new CompletionException(timeout)));
+        Assert.assertFalse(GremlinUtils.isServerTimeout(new CompletionException(temporary)));
+        Assert.assertFalse(GremlinUtils.isServerTimeout(new CompletionException(new TimeoutException())));
+        Assert.assertFalse(GremlinUtils.isServerTimeout(null));
+    }
+
+    @Test
+    public void testGetResultId() {
+        final Map<String, Object> vertex = new HashMap<>();
+
+        vertex.put(Constants.PROPERTY_ID, "vertex-id");
+
+        Assert.assertEquals("vertex-id", GremlinUtils.getResultId(new Result(vertex)));
+        Assert.assertNull(GremlinUtils.getResultId(new Result(1L)));
+    }
+
+    @Test
+    public void testToIdChunks() {
+        final List<Object> ids = Arrays.asList("a", "b", "c", "d", "e");
+
+        Assert.assertEquals(singletonList(ids), GremlinUtils.toIdChunks(ids, 65536));
+        Assert.assertEquals(Arrays.asList(Arrays.asList("a", "b"), Arrays.asList("c", "d"), singletonList("e")),
+                GremlinUtils.toIdChunks(ids, 200));
+        Assert.assertEquals(5, GremlinUtils.toIdChunks(ids, 1).size());
+        Assert.assertTrue(GremlinUtils.toIdChunks(Collections.emptyList(), 65536).isEmpty());
+    }
+
+    @Test
+    public void testToChunks() {
+        final List<String> elements = Arrays.asList("a", "bb", "ccccc", "d");
+
+        Assert.assertEquals(Arrays.asList(Arrays.asList("a", "bb"), singletonList("ccccc"), singletonList("d")),
+                GremlinUtils.toChunks(elements, String::length, 8));
+    }
 }
@@ -26,6 +26,10 @@ public class TestGremlinProperties {
 
     private String serializer = Serializers.GRAPHSON.toString();
 
+    private boolean parameterizedScript;
+
+    private GremlinExecutionEngine executionEngine = GremlinExecutionEngine.SCRIPT;
+
     public TestGremlinProperties() {
     }
 
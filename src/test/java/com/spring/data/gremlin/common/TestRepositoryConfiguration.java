@@ -28,6 +28,8 @@ public class TestRepositoryConfiguration extends AbstractGremlinConfiguration {
                 .port(testProps.getPort())
                 .sslEnabled(testProps.isSslEnabled())
                 .serializer(testProps.getSerializer())
+                .parameterizedScript(testProps.isParameterizedScript())
+                .executionEngine(testProps.getExecutionEngine())
                 .build();
     }
 }
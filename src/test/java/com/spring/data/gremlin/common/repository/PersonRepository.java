@@ -9,6 +9,13 @@ import com.spring.data.gremlin.common.domain.Person;
 import com.spring.data.gremlin.repository.GremlinRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 @Repository
 public interface PersonRepository extends GremlinRepository<Person, String> {
+
+    CompletableFuture<List<Person>> findByName(String name);
+
+    CompletableFuture<Person> findOneByName(String name);
 }
@@ -0,0 +1,20 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.spring.data.gremlin.common.repository;
+
+import com.spring.data.gremlin.common.domain.Person;
+import com.spring.data.gremlin.repository.ReactiveGremlinRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface ReactivePersonRepository extends ReactiveGremlinRepository<Person, String> {
+
+    Flux<Person> findByName(String name);
+
+    Mono<Person> findOneByName(String name);
+}
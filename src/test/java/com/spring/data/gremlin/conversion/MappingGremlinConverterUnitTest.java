@@ -22,6 +22,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.context.ApplicationContext;
 
 import java.lang.reflect.Field;
+import java.util.Collections;
 
 @RunWith(MockitoJUnitRunner.class)
 public class MappingGremlinConverterUnitTest {
@@ -84,5 +85,70 @@ public class MappingGremlinConverterUnitTest {
         Assert.assertEquals(source.getId().get(), relationship.getId());
         Assert.assertEquals(source.getProperties().get(TestConstants.PROPERTY_NAME), relationship.getName());
     }
-}
 
+    private GremlinSource<Person> writePerson(Person person) {
+        final GremlinSource<Person> source = new GremlinEntityInformation<Person, String>(Person.class)
+                .createGremlinSource();
+
+        this.converter.write(person, source);
+
+        return source;
+    }
+
+    @Test
+    public void testPropertyDelta() {
+        final Person person = new Person("id-1", TestConstants.VERTEX_PERSON_NAME);
+
+        this.converter.setSnapshotCapacity(10);
+        this.converter.snapshot(person);
+
+        Assert.assertTrue(this.converter.getPropertyDelta(person, this.writePerson(person)).get().isEmpty());
+
+        person.setName("new-name");
+
+        final GremlinPropertyDelta changed = this.converter.getPropertyDelta(person, this.writePerson(person)).get();
+
+        Assert.assertEquals(Collections.singletonMap("name", "new-name"), changed.getChanged());
+        Assert.assertTrue(changed.getDropped().isEmpty());
+
+        person.setName(null);
+
+        final GremlinPropertyDelta dropped = this.converter.getPropertyDelta(person, this.writePerson(person)).get();
+
+        Assert.assertTrue(dropped.getChanged().isEmpty());
+        Assert.assertEquals(Collections.singleton("name"), dropped.getDropped());
+    }
+
+    @Test
+    public void testPropertyDeltaWithoutSnapshot() {
+        final Person person = new Person("id-1", TestConstants.VERTEX_PERSON_NAME);
+
+        Assert.assertFalse(this.converter.getPropertyDelta(person, this.writePerson(person)).isPresent());
+
+        this.converter.setSnapshotCapacity(1);
+        this.converter.snapshot(person);
+        this.converter.snapshot(new Person("id-2", TestConstants.VERTEX_PERSON_NAME));
+
+        Assert.assertFalse(this.converter.getPropertyDelta(person, this.writePerson(person)).isPresent());
+
+        this.converter.snapshot(person);
+        this.converter.evictSnapshot(Person.class, "id-1");
+
+        Assert.assertFalse(this.converter.getPropertyDelta(person, this.writePerson(person)).isPresent());
+    }
+
+    @Test
+    public void testPropertyDeltaOfOtherInstance() {
+        final Person person = new Person("id-1", TestConstants.VERTEX_PERSON_NAME);
+        final Person other = new Person("id-1", TestConstants.VERTEX_PERSON_NAME);
+
+        this.converter.setSnapshotCapacity(10);
+        this.converter.snapshot(person);
+
+        Assert.assertFalse(this.converter.getPropertyDelta(other, this.writePerson(other)).isPresent());
+
+        person.setId("id-2");
+
+        Assert.assertFalse(this.converter.getPropertyDelta(person, this.writePerson(person)).isPresent());
+    }
+}
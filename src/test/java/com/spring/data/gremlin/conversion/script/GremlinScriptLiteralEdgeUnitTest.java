@@ -57,7 +57,13 @@ public class GremlinScriptLiteralEdgeUnitTest {
     @Test
     public void testGenerateCountScript() {
         final List<String> queryList = new GremlinScriptLiteralEdge().generateCountScript(gremlinSource);
-        assertEquals(queryList.get(0), "g.E()");
+        assertEquals(queryList.get(0), "g.E().count()");
+    }
+
+    @Test
+    public void testGenerateCountByLabelScript() {
+        final List<String> queryList = new GremlinScriptLiteralEdge().generateCountByLabelScript(gremlinSource);
+        assertEquals(queryList.get(0), "g.E().has(label, 'label-relationship').count()");
     }
 
     @Test
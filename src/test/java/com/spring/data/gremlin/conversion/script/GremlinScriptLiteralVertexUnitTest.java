@@ -20,6 +20,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.context.ApplicationContext;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
 
@@ -50,7 +51,13 @@ public class GremlinScriptLiteralVertexUnitTest {
     @Test
     public void testGenerateCountScript() {
         final List<String> queryList = new GremlinScriptLiteralVertex().generateCountScript(gremlinSource);
-        assertEquals(queryList.get(0), "g.V()");
+        assertEquals(queryList.get(0), "g.V().count()");
+    }
+
+    @Test
+    public void testGenerateCountByLabelScript() {
+        final List<String> queryList = new GremlinScriptLiteralVertex().generateCountByLabelScript(gremlinSource);
+        assertEquals(queryList.get(0), "g.V().has(label, 'label-person').count()");
     }
 
     @Test
@@ -98,6 +105,50 @@ public class GremlinScriptLiteralVertexUnitTest {
         assertEquals(queryList.get(0), "g.V().has(label, 'label-person').drop()");
     }
 
+    @Test
+    public void testGenerateFindByIdScriptWithBindings() {
+        final GremlinScriptLiteral script = new GremlinScriptLiteralVertex();
+        script.enableBindings();
+
+        final List<String> queryList = script.generateFindByIdScript(gremlinSource);
+        final Map<String, Object> bindings = script.getBindings();
+
+        assertEquals(queryList.get(0), "g.V().hasId(_p0)");
+        assertEquals(bindings.size(), 1);
+        assertEquals(bindings.get("_p0"), 123L);
+    }
+
+    @Test
+    public void testGenerateInsertScriptWithBindings() {
+        final GremlinScriptLiteral script = new GremlinScriptLiteralVertex();
+        script.enableBindings();
+
+        final List<String> queryList = script.generateInsertScript(gremlinSource);
+        final Map<String, Object> bindings = script.getBindings();
+
+        assertEquals(queryList.get(0), "g.addV('label-person').property('name', _p0)" +
+                ".property('_classname', _p1)");
+        assertEquals(bindings.get("_p0"), "bill");
+        assertEquals(bindings.get("_p1"), Person.class.getName());
+    }
+
+    @Test
+    public void testScriptTemplateStableWithBindings() {
+        final GremlinScriptLiteral script = new GremlinScriptLiteralVertex();
+        final GremlinSource otherSource = new GremlinEntityInformation(Person.class).createGremlinSource();
+
+        this.converter.write(new Person("456", "bob"), otherSource);
+
+        script.enableBindings();
+        final String query = script.generateUpdateScript(gremlinSource).get(0);
+
+        script.enableBindings();
+        final String otherQuery = script.generateUpdateScript(otherSource).get(0);
+
+        assertEquals(query, otherQuery);
+        assertEquals(script.getBindings().get("_p0"), 456L);
+    }
+
     @Test(expected = GremlinUnexpectedSourceTypeException.class)
     public void testInvalidDeleteAllByClassScript() {
         new GremlinScriptLiteralVertex().generateDeleteAllByClassScript(new GremlinSourceEdge());
@@ -112,4 +163,9 @@ public class GremlinScriptLiteralVertexUnitTest {
     public void testInvalidDeleteById() {
         new GremlinScriptLiteralVertex().generateDeleteByIdScript(new GremlinSourceEdge());
     }
+
+    @Test(expected = GremlinUnexpectedSourceTypeException.class)
+    public void testInvalidCountByLabel() {
+        new GremlinScriptLiteralVertex().generateCountByLabelScript(new GremlinSourceEdge());
+    }
 }
@@ -0,0 +1,146 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.spring.data.gremlin.conversion.script;
+
+import com.spring.data.gremlin.common.GremlinUtils;
+import com.spring.data.gremlin.common.domain.Group;
+import com.spring.data.gremlin.common.domain.Neighbor;
+import com.spring.data.gremlin.common.domain.Service;
+import com.spring.data.gremlin.common.domain.ServiceType;
+import com.spring.data.gremlin.conversion.GremlinPropertyDelta;
+import com.spring.data.gremlin.conversion.source.GremlinSource;
+import com.spring.data.gremlin.conversion.source.GremlinSourceEdge;
+import com.spring.data.gremlin.conversion.source.GremlinSourceGraph;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Every script generated by literals can be parsed to the traversal of bytecode engine, with values either inlined or
+ * bound.
+ */
+public class GremlinScriptTraversalUnitTest {
+
+    private final GraphTraversalSource traversalSource = EmptyGraph.instance().traversal();
+
+    private GremlinSource<Service> vertex;
+    private GremlinSourceEdge<Neighbor> edge;
+    private GremlinSourceEdge<Group> generatedEdge;
+    private GremlinPropertyDelta delta;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        this.vertex = GremlinUtils.toGremlinSource(Service.class);
+        this.vertex.setId("service-id");
+        this.vertex.setProperty("name", "service");
+        this.vertex.setProperty("instanceCount", 3);
+        this.vertex.setProperty("active", true);
+        this.vertex.setProperty("type", ServiceType.BOTH);
+        this.vertex.setProperty("createAt", new Date());
+        this.vertex.setProperty("properties", Collections.singletonMap("key", "value"));
+
+        this.edge = (GremlinSourceEdge<Neighbor>) GremlinUtils.toGremlinSource(Neighbor.class);
+        this.edge.setId(5L);
+        this.edge.setVertexIdFrom(1L);
+        this.edge.setVertexIdTo(2L);
+        this.edge.setProperty("distance", 7L);
+
+        this.generatedEdge = (GremlinSourceEdge<Group>) GremlinUtils.toGremlinSource(Group.class);
+        this.generatedEdge.setVertexIdFrom("from-id");
+        this.generatedEdge.setVertexIdTo("to-id");
+
+        this.delta = new GremlinPropertyDelta(Collections.singletonMap("name", "renamed"),
+                new HashSet<>(Collections.singletonList("type")));
+    }
+
+    private void assertTraversal(Supplier<GremlinScriptLiteral> literal,
+                                 Function<GremlinScriptLiteral, List<String>> generator) {
+        for (final boolean parameterized : Arrays.asList(false, true)) {
+            final GremlinScriptLiteral script = literal.get();
+
+            if (parameterized) {
+                script.enableBindings();
+            }
+
+            for (final List<String> queries : GremlinUtils.toParallelQueryList(generator.apply(script))) {
+                queries.forEach(query -> Assert.assertNotNull(query, GremlinUtils.toGraphTraversal(
+                        this.traversalSource, query, GremlinUtils.toQueryBindings(query, script.getBindings()))));
+            }
+        }
+    }
+
+    private void assertCommonTraversal(Supplier<GremlinScriptLiteral> literal, GremlinSource<?> source,
+                                       List<?> ids) {
+        assertTraversal(literal, s -> s.generateInsertScript(source));
+        assertTraversal(literal, GremlinScriptLiteral::generateDeleteAllScript);
+        assertTraversal(literal, s -> s.generateDeleteAllByClassScript(source));
+        assertTraversal(literal, s -> s.generateFindByIdsScript(source, ids));
+        assertTraversal(literal, s -> s.generateFindAllScript(source));
+        assertTraversal(literal, s -> s.generateFindAllScript(source, PageRequest.of(1, 5, Sort.by("id").descending())));
+        assertTraversal(literal, s -> s.generateCountAllScript(source));
+        assertTraversal(literal, s -> s.generateDeleteByIdsScript(source, ids));
+        assertTraversal(literal, s -> s.generateCountScript(source));
+        assertTraversal(literal, s -> s.generateCountByLabelScript(source));
+    }
+
+    private void assertEntityTraversal(Supplier<GremlinScriptLiteral> literal, GremlinSource<?> source) {
+        assertTraversal(literal, s -> s.generateFindByIdScript(source));
+        assertTraversal(literal, s -> s.generateUpdateScript(source));
+        assertTraversal(literal, s -> s.generateUpdateDeltaScript(source, this.delta));
+        assertTraversal(literal, s -> s.generateUpsertScript(source));
+        assertTraversal(literal, s -> s.generateDeleteByIdScript(source));
+    }
+
+    @Test
+    public void testVertexScriptTraversal() {
+        final Map<String, Object> keyset = new LinkedHashMap<>();
+
+        keyset.put("name", "service");
+        keyset.put("id", "service-id");
+
+        assertCommonTraversal(GremlinScriptLiteralVertex::new, this.vertex, Arrays.asList("a", "b"));
+        assertEntityTraversal(GremlinScriptLiteralVertex::new, this.vertex);
+        assertTraversal(GremlinScriptLiteralVertex::new, s -> s.generateUpsertAllScript(
+                Arrays.asList(this.vertex, this.vertex)));
+        assertTraversal(GremlinScriptLiteralVertex::new, s -> s.generateScanScript(this.vertex,
+                Sort.by("name", "id"), keyset, 10));
+    }
+
+    @Test
+    public void testEdgeScriptTraversal() {
+        assertCommonTraversal(GremlinScriptLiteralEdge::new, this.edge, Arrays.asList(1L, 2L));
+        assertEntityTraversal(GremlinScriptLiteralEdge::new, this.edge);
+        assertTraversal(GremlinScriptLiteralEdge::new, s -> s.generateInsertAllScript(
+                Arrays.asList(this.edge, this.edge)));
+
+        assertCommonTraversal(GremlinScriptLiteralEdge::new, this.generatedEdge, Arrays.asList(1, 2L));
+        assertTraversal(GremlinScriptLiteralEdge::new, s -> s.generateInsertAllScript(
+                Arrays.asList(this.generatedEdge, this.generatedEdge)));
+    }
+
+    @Test
+    public void testGraphScriptTraversal() {
+        assertTraversal(GremlinScriptLiteralGraph::new, GremlinScriptLiteral::generateDeleteAllScript);
+        assertTraversal(GremlinScriptLiteralGraph::new, s -> ((GremlinScriptLiteralGraph) s).generateIsEmptyScript());
+        assertTraversal(GremlinScriptLiteralGraph::new, s -> s.generateDeleteAllByClassScript(
+                new GremlinSourceGraph<>()));
+    }
+}
@@ -5,19 +5,31 @@
  */
 package com.spring.data.gremlin.conversion.script;
 
+import com.spring.data.gremlin.common.GremlinUtils;
+import com.spring.data.gremlin.common.domain.Group;
 import com.spring.data.gremlin.common.domain.Person;
+import com.spring.data.gremlin.common.domain.Service;
+import com.spring.data.gremlin.conversion.GremlinPropertyDelta;
 import com.spring.data.gremlin.conversion.result.GremlinResultEdgeReader;
 import com.spring.data.gremlin.conversion.result.GremlinResultVertexReader;
 import com.spring.data.gremlin.conversion.source.GremlinSource;
 import com.spring.data.gremlin.conversion.source.GremlinSourceEdge;
+import com.spring.data.gremlin.conversion.source.GremlinSourceGraph;
 import com.spring.data.gremlin.conversion.source.GremlinSourceVertex;
 import com.spring.data.gremlin.exception.GremlinUnexpectedEntityTypeException;
 import com.spring.data.gremlin.exception.GremlinUnexpectedSourceTypeException;
 import org.apache.tinkerpop.gremlin.driver.Result;
 import org.junit.Assert;
 import org.junit.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import static java.util.Collections.singletonList;
@@ -71,6 +83,16 @@ public class GremlinScriptUnitTest {
         new GremlinScriptLiteralGraph().generateCountScript(new GremlinSourceVertex());
     }
 
+    @Test(expected = UnsupportedOperationException.class)
+    public void testGraphCountByLabelException() {
+        new GremlinScriptLiteralGraph().generateCountByLabelScript(new GremlinSourceGraph());
+    }
+
+    @Test
+    public void testGraphIsEmptyScript() {
+        Assert.assertEquals(new GremlinScriptLiteralGraph().generateIsEmptyScript().get(0), "g.V().limit(1).count()");
+    }
+
     @Test(expected = GremlinUnexpectedSourceTypeException.class)
     public void testEdgeCountScriptException() {
         new GremlinScriptLiteralEdge().generateCountScript(new GremlinSourceVertex());
@@ -101,4 +123,186 @@ public class GremlinScriptUnitTest {
         Assert.assertEquals(source.getProperties().size(), 3); // one predefined property _classname
         Assert.assertNull(source.getProperties().get(fakeName));
     }
+
+    @Test
+    public void testGenerateFindByIdsScript() {
+        final GremlinSource<Service> vertex = GremlinUtils.toGremlinSource(Service.class);
+        final GremlinSource<Group> edge = GremlinUtils.toGremlinSource(Group.class);
+
+        Assert.assertEquals(singletonList("g.V().hasId('a', 'b')"),
+                new GremlinScriptLiteralVertex().generateFindByIdsScript(vertex, Arrays.asList("a", "b")));
+        Assert.assertEquals(singletonList("g.E().hasId(1L, 2L)"),
+                new GremlinScriptLiteralEdge().generateFindByIdsScript(edge, Arrays.asList(1, 2L)));
+    }
+
+    @Test
+    public void testGenerateFindByIdsScriptWithBindings() {
+        final GremlinSource<Group> source = GremlinUtils.toGremlinSource(Group.class);
+        final GremlinScriptLiteralEdge script = new GremlinScriptLiteralEdge();
+
+        script.enableBindings();
+
+        Assert.assertEquals(singletonList("g.E().hasId(_p0, _p1)"),
+                script.generateFindByIdsScript(source, Arrays.asList(1, 2L)));
+        Assert.assertEquals(1L, script.getBindings().get("_p0"));
+        Assert.assertEquals(2L, script.getBindings().get("_p1"));
+    }
+
+    @Test
+    public void testGenerateUpdateDeltaScript() {
+        final GremlinSource<Service> source = GremlinUtils.toGremlinSource(Service.class);
+        final GremlinPropertyDelta delta = new GremlinPropertyDelta(Collections.singletonMap("name", "new-name"),
+                new HashSet<>(Arrays.asList("b", "a")));
+
+        source.setId("id-1");
+
+        Assert.assertEquals(singletonList("g.V('id-1').property('name', 'new-name')"
+                        + ".sideEffect(properties('a', 'b').drop())"),
+                new GremlinScriptLiteralVertex().generateUpdateDeltaScript(source, delta));
+    }
+
+    @Test
+    public void testGenerateFindAllPageScript() {
+        final GremlinSource<Person> source = GremlinUtils.toGremlinSource(Person.class);
+        final GremlinScriptLiteralVertex script = new GremlinScriptLiteralVertex();
+        final Sort sort = Sort.by(Sort.Order.desc("name"), Sort.Order.asc("id"));
+        final String prefix = String.format("g.V().has(label, '%s').has('_classname', '%s')", source.getLabel(),
+                Person.class.getName());
+
+        Assert.assertEquals(singletonList(prefix + ".order().by('name', desc).by(id, asc).range(20, 30)"),
+                script.generateFindAllScript(source, PageRequest.of(2, 10, sort)));
+        Assert.assertEquals(singletonList(prefix), script.generateFindAllScript(source, Pageable.unpaged()));
+        Assert.assertEquals(singletonList(prefix + ".count()"), script.generateCountAllScript(source));
+
+        script.enableBindings();
+
+        final String query = script.generateFindAllScript(source, PageRequest.of(1, 5)).get(0);
+
+        Assert.assertTrue(query, query.endsWith(".range(_p1, _p2)"));
+        Assert.assertEquals(5L, script.getBindings().get("_p1"));
+        Assert.assertEquals(10L, script.getBindings().get("_p2"));
+    }
+
+    @Test
+    public void testGenerateScanScript() {
+        final GremlinSource<Person> source = GremlinUtils.toGremlinSource(Person.class);
+        final GremlinScriptLiteralVertex script = new GremlinScriptLiteralVertex();
+        final Sort sort = Sort.by(Sort.Order.desc("name"), Sort.Order.asc("id"));
+        final Map<String, Object> keyset = new LinkedHashMap<>();
+        final String prefix = String.format("g.V().has(label, '%s').has('_classname', '%s')", source.getLabel(),
+                Person.class.getName());
+
+        keyset.put("name", "n");
+        keyset.put("id", "x");
+
+        Assert.assertEquals(singletonList(prefix + ".order().by('name', desc).by(id, asc).limit(10)"),
+                script.generateScanScript(source, sort, Collections.emptyMap(), 10));
+        Assert.assertEquals(singletonList(prefix + ".or(has('name', lt('n')), and(has('name', 'n'), hasId(gt('x'))))"
+                        + ".order().by('name', desc).by(id, asc).limit(10)"),
+                script.generateScanScript(source, sort, keyset, 10));
+
+        script.enableBindings();
+
+        final String query = script.generateScanScript(source, Sort.by("id"), keyset, 10).get(0);
+
+        Assert.assertTrue(query, query.endsWith(".hasId(gt(_p1)).order().by(id, asc).limit(10)"));
+        Assert.assertEquals("x", script.getBindings().get("_p1"));
+    }
+
+    @Test
+    public void testGenerateUpsertScript() {
+        final GremlinSource<Service> source = GremlinUtils.toGremlinSource(Service.class);
+
+        source.setId("a");
+
+        final String query = new GremlinScriptLiteralVertex().generateUpsertScript(source).get(0);
+        final String expected = String.format("g.V().hasId('a').fold().coalesce(unfold(), addV('%s')"
+                + ".property(id, 'a')).property('_classname', ", source.getLabel());
+
+        Assert.assertTrue(query, query.startsWith(expected));
+    }
+
+    @Test
+    public void testGenerateUpsertAllScript() {
+        final GremlinSource<Service> first = GremlinUtils.toGremlinSource(Service.class);
+        final GremlinSource<Service> second = GremlinUtils.toGremlinSource(Service.class);
+        final GremlinScriptLiteralVertex script = new GremlinScriptLiteralVertex();
+
+        first.setId("a");
+        second.setId("b");
+        script.enableBindings();
+
+        final String query = script.generateUpsertAllScript(Arrays.asList(first, second)).get(0);
+
+        Assert.assertTrue(query, query.startsWith("g.inject(0).union(V().hasId(_p0).fold().coalesce(unfold(), "));
+        Assert.assertTrue(query, query.contains("), V().hasId(_p3).fold().coalesce(unfold(), "));
+        Assert.assertEquals("b", script.getBindings().get("_p3"));
+    }
+
+    @Test
+    public void testGenerateInsertAllScript() {
+        final GremlinSourceEdge<Group> first = (GremlinSourceEdge<Group>) GremlinUtils.toGremlinSource(Group.class);
+        final GremlinSourceEdge<Group> second = (GremlinSourceEdge<Group>) GremlinUtils.toGremlinSource(Group.class);
+
+        first.setVertexIdFrom("a");
+        first.setVertexIdTo("b");
+        second.setVertexIdFrom("b");
+        second.setVertexIdTo("c");
+
+        final String query = new GremlinScriptLiteralEdge().generateInsertAllScript(Arrays.asList(first, second))
+                .get(0);
+        final String expected = String.format("g.V('a', 'b', 'c').fold().as('vertices').project('e0', 'e1')"
+                + ".by(select('vertices').unfold().hasId('a').as('from').select('vertices').unfold().hasId('b')"
+                + ".as('to').addE('%s').from('from').to('to')", first.getLabel());
+
+        Assert.assertTrue(query, query.startsWith(expected));
+        Assert.assertTrue(query, query.contains(".fold()).by(select('vertices').unfold().hasId('b').as('from')"
+                + ".select('vertices').unfold().hasId('c').as('to')"));
+        Assert.assertTrue(query, query.endsWith(".fold())"));
+    }
+
+    @Test
+    public void testGenerateInsertAllScriptWithBindings() {
+        final GremlinSourceEdge<Group> first = (GremlinSourceEdge<Group>) GremlinUtils.toGremlinSource(Group.class);
+        final GremlinSourceEdge<Group> second = (GremlinSourceEdge<Group>) GremlinUtils.toGremlinSource(Group.class);
+        final GremlinScriptLiteralEdge script = new GremlinScriptLiteralEdge();
+
+        first.setVertexIdFrom(1L);
+        first.setVertexIdTo(2L);
+        second.setVertexIdFrom(2L);
+        second.setVertexIdTo(1L);
+        script.enableBindings();
+
+        final String query = script.generateInsertAllScript(Arrays.asList(first, second)).get(0);
+
+        Assert.assertTrue(query, query.startsWith("g.V(_p0, _p1).fold().as('vertices')"));
+        Assert.assertTrue(query, query.contains(".by(select('vertices').unfold().hasId(_p1).as('from')"
+                + ".select('vertices').unfold().hasId(_p0).as('to')"));
+        Assert.assertEquals(Arrays.asList(1L, 2L), Arrays.asList(script.getBindings().get("_p0"),
+                script.getBindings().get("_p1")));
+        Assert.assertEquals(2, script.getBindings().values().stream().filter(v -> v instanceof Long).count());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testVertexInsertAllScriptException() {
+        new GremlinScriptLiteralVertex().generateInsertAllScript(singletonList(new GremlinSourceVertex()));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testGraphUpsertScriptException() {
+        new GremlinScriptLiteralGraph().generateUpsertScript(new GremlinSourceGraph());
+    }
+
+    @Test
+    public void testGenerateDeleteByIdsScript() {
+        final GremlinSource<Service> source = GremlinUtils.toGremlinSource(Service.class);
+
+        Assert.assertEquals(singletonList("g.V().hasId('a', 'b').drop()"),
+                new GremlinScriptLiteralVertex().generateDeleteByIdsScript(source, Arrays.asList("a", "b")));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testGraphFindByIdsScriptException() {
+        new GremlinScriptLiteralGraph().generateFindByIdsScript(new GremlinSourceGraph(), singletonList("a"));
+    }
 }
@@ -0,0 +1,106 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.spring.data.gremlin.query;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+public class GremlinBatchLoaderUnitTest {
+
+    private final List<List<Object>> batches = new ArrayList<>();
+
+    private CompletableFuture<Map<Object, String>> load(String key, List<Object> ids) {
+        final Map<Object, String> values = new HashMap<>();
+
+        synchronized (this.batches) {
+            this.batches.add(ids);
+        }
+
+        ids.stream().filter(id -> !"absent".equals(id)).forEach(id -> values.put(id, key + ":" + id));
+
+        return CompletableFuture.completedFuture(values);
+    }
+
+    @Test
+    public void testBatchWithinWindow() {
+        final GremlinBatchLoader<String, String> loader = new GremlinBatchLoader<>(
+                TimeUnit.MILLISECONDS.toNanos(20), 100, Runnable::run, this::load);
+        final CompletableFuture<String> first = loader.load("person", "a");
+        final CompletableFuture<String> second = loader.load("person", "b");
+        final CompletableFuture<String> third = loader.load("person", "absent");
+
+        Assert.assertEquals("person:a", first.join());
+        Assert.assertEquals("person:b", second.join());
+        Assert.assertNull(third.join());
+        Assert.assertEquals(Arrays.asList(Arrays.asList("a", "b", "absent")), this.batches);
+        Assert.assertEquals(0, loader.getPendingBatches());
+    }
+
+    @Test
+    public void testBatchByKey() {
+        final GremlinBatchLoader<String, String> loader = new GremlinBatchLoader<>(
+                TimeUnit.MILLISECONDS.toNanos(20), 100, Runnable::run, this::load);
+        final CompletableFuture<String> person = loader.load("person", "a");
+        final CompletableFuture<String> project = loader.load("project", "a");
+
+        Assert.assertEquals("person:a", person.join());
+        Assert.assertEquals("project:a", project.join());
+        Assert.assertEquals(2, this.batches.size());
+    }
+
+    @Test
+    public void testDispatchWhenFull() {
+        final GremlinBatchLoader<String, String> loader = new GremlinBatchLoader<>(
+                TimeUnit.SECONDS.toNanos(60), 2, Runnable::run, this::load);
+        final CompletableFuture<String> first = loader.load("person", "a");
+
+        Assert.assertFalse(first.isDone());
+
+        final CompletableFuture<String> second = loader.load("person", "b");
+
+        Assert.assertTrue(first.isDone());
+        Assert.assertTrue(second.isDone());
+        Assert.assertEquals(1, this.batches.size());
+        Assert.assertEquals(0, loader.getPendingBatches());
+    }
+
+    @Test
+    public void testLoadSameIdOnce() {
+        final GremlinBatchLoader<String, String> loader = new GremlinBatchLoader<>(
+                TimeUnit.MILLISECONDS.toNanos(20), 100, Runnable::run, this::load);
+        final CompletableFuture<String> first = loader.load("person", "a");
+        final CompletableFuture<String> second = loader.load("person", "a");
+
+        Assert.assertEquals(first.join(), second.join());
+        Assert.assertEquals(Arrays.asList(Arrays.asList("a")), this.batches);
+    }
+
+    @Test
+    public void testFailWholeBatch() {
+        final GremlinBatchLoader<String, String> loader = new GremlinBatchLoader<>(0, 100, Runnable::run,
+                (key, ids) -> CompletableFuture.failedFuture(new IllegalStateException("closed")));
+        final CompletableFuture<String> first = loader.load("person", "a");
+        final CompletableFuture<String> second = loader.load("person", "b");
+
+        for (final CompletableFuture<String> future : Arrays.asList(first, second)) {
+            try {
+                future.join();
+                Assert.fail("should fail with the batch");
+            } catch (CompletionException e) {
+                Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+            }
+        }
+    }
+}
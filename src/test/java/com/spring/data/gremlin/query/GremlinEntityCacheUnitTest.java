@@ -0,0 +1,106 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.spring.data.gremlin.query;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class GremlinEntityCacheUnitTest {
+
+    @Test
+    public void testGetAfterPut() {
+        final GremlinEntityCache<String> cache = new GremlinEntityCache<>(100, 60000);
+
+        Assert.assertNull(cache.get("id"));
+
+        cache.put("id", "vertex", cache.getVersion());
+
+        Assert.assertEquals("vertex", cache.get("id"));
+        Assert.assertEquals(1, cache.getStats().getHitCount());
+        Assert.assertEquals(1, cache.getStats().getMissCount());
+        Assert.assertEquals(1, cache.getStats().getSize());
+        Assert.assertEquals(0.5, cache.getStats().getHitRate(), 0);
+    }
+
+    @Test
+    public void testExpireAfterTtl() throws InterruptedException {
+        final GremlinEntityCache<String> cache = new GremlinEntityCache<>(100, 1);
+
+        cache.put("id", "vertex", cache.getVersion());
+        Thread.sleep(10);
+
+        Assert.assertNull(cache.get("id"));
+        Assert.assertEquals(1, cache.getStats().getEvictionCount());
+        Assert.assertEquals(0, cache.getStats().getSize());
+    }
+
+    @Test
+    public void testDropPutAfterInvalidation() {
+        final GremlinEntityCache<String> cache = new GremlinEntityCache<>(100, 60000);
+        final long version = cache.getVersion();
+
+        cache.invalidate("id");
+        cache.put("id", "stale", version);
+
+        Assert.assertNull(cache.get("id"));
+
+        cache.put("id", "vertex", cache.getVersion());
+        cache.invalidateAll();
+
+        Assert.assertNull(cache.get("id"));
+    }
+
+    @Test
+    public void testBoundedBySize() {
+        final GremlinEntityCache<Integer> cache = new GremlinEntityCache<>(100, 60000);
+
+        for (int i = 0; i < 1000; i++) {
+            cache.put(i, i, cache.getVersion());
+        }
+
+        Assert.assertTrue(cache.getStats().getSize() <= 100);
+        Assert.assertTrue(cache.getStats().getEvictionCount() >= 900);
+    }
+
+    @Test
+    public void testHotEntitySurviveScan() {
+        final GremlinEntityCache<Integer> cache = new GremlinEntityCache<>(100, 60000);
+
+        for (int i = 0; i < 100; i++) {
+            cache.put(i, i, cache.getVersion());
+        }
+
+        for (int i = 0; i < 10; i++) {
+            for (int j = 0; j < 50; j++) {
+                cache.get(j);
+            }
+        }
+
+        for (int i = 1000; i < 2000; i++) {
+            cache.get(i);
+            cache.put(i, i, cache.getVersion());
+        }
+
+        for (int j = 0; j < 50; j++) {
+            Assert.assertEquals(Integer.valueOf(j), cache.get(j));
+        }
+    }
+
+    @Test
+    public void testFrequencySketch() {
+        final GremlinEntityCache.FrequencySketch sketch = new GremlinEntityCache.FrequencySketch(100);
+
+        for (int i = 0; i < 20; i++) {
+            sketch.increment("hot");
+        }
+
+        sketch.increment("cold");
+
+        Assert.assertEquals(15, sketch.frequency("hot"));
+        Assert.assertTrue(sketch.frequency("cold") >= 1);
+        Assert.assertEquals(0, sketch.frequency("absent") > 1 ? 1 : 0);
+    }
+}
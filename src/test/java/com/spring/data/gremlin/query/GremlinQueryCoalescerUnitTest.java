@@ -0,0 +1,118 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.spring.data.gremlin.query;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class GremlinQueryCoalescerUnitTest {
+
+    @Test
+    public void testCoalesceIdenticalQueries() {
+        final GremlinQueryCoalescer coalescer = new GremlinQueryCoalescer();
+        final CompletableFuture<List<String>> server = new CompletableFuture<>();
+        final AtomicInteger submitted = new AtomicInteger();
+        final List<Object> key = Arrays.asList("g.V(_p0)", Collections.singletonMap("_p0", 1));
+
+        final CompletableFuture<List<String>> first = coalescer.execute(key, () -> {
+            submitted.incrementAndGet();
+            return server;
+        });
+        final CompletableFuture<List<String>> second = coalescer.execute(
+                Arrays.asList("g.V(_p0)", Collections.singletonMap("_p0", 1)), () -> {
+                    submitted.incrementAndGet();
+                    return new CompletableFuture<>();
+                });
+
+        Assert.assertEquals(1, submitted.get());
+        Assert.assertFalse(first.isDone());
+
+        server.complete(Collections.singletonList("v"));
+
+        Assert.assertEquals(first.join(), second.join());
+        Assert.assertEquals(2, coalescer.getQueryCount());
+        Assert.assertEquals(1, coalescer.getCoalescedCount());
+        Assert.assertEquals(0, coalescer.getInFlight());
+    }
+
+    @Test
+    public void testNotCoalesceDifferentBindings() {
+        final GremlinQueryCoalescer coalescer = new GremlinQueryCoalescer();
+        final AtomicInteger submitted = new AtomicInteger();
+
+        coalescer.execute(Arrays.asList("g.V(_p0)", Collections.singletonMap("_p0", 1)), () -> {
+            submitted.incrementAndGet();
+            return new CompletableFuture<>();
+        });
+        coalescer.execute(Arrays.asList("g.V(_p0)", Collections.singletonMap("_p0", 2)), () -> {
+            submitted.incrementAndGet();
+            return new CompletableFuture<>();
+        });
+
+        Assert.assertEquals(2, submitted.get());
+        Assert.assertEquals(0, coalescer.getCoalescedCount());
+    }
+
+    @Test
+    public void testNotCoalesceAfterCompletion() {
+        final GremlinQueryCoalescer coalescer = new GremlinQueryCoalescer();
+        final AtomicInteger submitted = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            coalescer.execute("g.V()", () -> CompletableFuture.completedFuture(submitted.incrementAndGet())).join();
+        }
+
+        Assert.assertEquals(3, submitted.get());
+        Assert.assertEquals(0, coalescer.getCoalescedCount());
+    }
+
+    @Test
+    public void testShareFailure() {
+        final GremlinQueryCoalescer coalescer = new GremlinQueryCoalescer();
+        final CompletableFuture<Integer> server = new CompletableFuture<>();
+        final CompletableFuture<Integer> first = coalescer.execute("g.V()", () -> server);
+        final CompletableFuture<Integer> second = coalescer.execute("g.V()", CompletableFuture::new);
+
+        server.completeExceptionally(new IllegalStateException("closed"));
+
+        Assert.assertTrue(first.isCompletedExceptionally());
+        Assert.assertTrue(second.isCompletedExceptionally());
+        Assert.assertEquals(0, coalescer.getInFlight());
+    }
+
+    @Test(expected = CompletionException.class)
+    public void testSubmitException() {
+        final GremlinQueryCoalescer coalescer = new GremlinQueryCoalescer();
+
+        try {
+            coalescer.execute("g.V()", () -> {
+                throw new IllegalStateException("closed");
+            }).join();
+        } finally {
+            Assert.assertEquals(0, coalescer.getInFlight());
+        }
+    }
+
+    @Test
+    public void testCallerCancelNotAffectOthers() {
+        final GremlinQueryCoalescer coalescer = new GremlinQueryCoalescer();
+        final CompletableFuture<Integer> server = new CompletableFuture<>();
+        final CompletableFuture<Integer> first = coalescer.execute("g.V()", () -> server);
+        final CompletableFuture<Integer> second = coalescer.execute("g.V()", CompletableFuture::new);
+
+        first.cancel(false);
+        server.complete(1);
+
+        Assert.assertEquals(Integer.valueOf(1), second.join());
+    }
+}
@@ -0,0 +1,73 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.spring.data.gremlin.query;
+
+import com.spring.data.gremlin.common.GremlinConfig;
+import com.spring.data.gremlin.common.GremlinFactory;
+import com.spring.data.gremlin.conversion.MappingGremlinConverter;
+import com.spring.data.gremlin.exception.GremlinQueryTimeoutException;
+import com.spring.data.gremlin.mapping.GremlinMappingContext;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static com.spring.data.gremlin.common.TestConstants.EMPTY_STRING;
+
+public class GremlinQueryOptionsUnitTest {
+
+    @Test
+    public void testNoDeadline() {
+        final GremlinQueryOptions options = GremlinQueryOptions.read(true, 0);
+
+        Assert.assertFalse(options.hasDeadline());
+        Assert.assertTrue(options.isReplica());
+        Assert.assertTrue(options.isIdempotent());
+    }
+
+    @Test
+    public void testRemainingTime() throws InterruptedException {
+        final GremlinQueryOptions options = GremlinQueryOptions.write(TimeUnit.SECONDS.toNanos(10));
+
+        Thread.sleep(20);
+
+        Assert.assertTrue(options.hasDeadline());
+        Assert.assertFalse(options.isIdempotent());
+        Assert.assertTrue(options.getRemainingNanos() <= TimeUnit.MILLISECONDS.toNanos(9980));
+        Assert.assertTrue(options.getRemainingMillis() > 0);
+    }
+
+    @Test
+    public void testPrimaryReadShareDeadline() {
+        final GremlinQueryOptions options = GremlinQueryOptions.write(TimeUnit.SECONDS.toNanos(10));
+        final GremlinQueryOptions read = options.toPrimaryRead();
+
+        Assert.assertFalse(read.isReplica());
+        Assert.assertTrue(read.isIdempotent());
+        Assert.assertEquals(options.getStartNanos(), read.getStartNanos());
+        Assert.assertEquals(options.getTimeoutNanos(), read.getTimeoutNanos());
+    }
+
+    @Test
+    public void testExpiredDeadline() {
+        final GremlinQueryOptions options = GremlinQueryOptions.read(false, 1);
+
+        Assert.assertTrue(options.getRemainingNanos() <= 0);
+        Assert.assertEquals(1, options.getRemainingMillis());
+    }
+
+    @Test(expected = GremlinQueryTimeoutException.class)
+    public void testTemplateWithTimeoutFailFast() {
+        final GremlinConfig config = GremlinConfig.builder(EMPTY_STRING, EMPTY_STRING, EMPTY_STRING)
+                .port(1)
+                .build();
+        final GremlinTemplate template = new GremlinTemplate(new GremlinFactory(config),
+                new MappingGremlinConverter(new GremlinMappingContext()));
+
+        template.withTimeout(Duration.ofNanos(1)).deleteAll();
+    }
+}
@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.spring.data.gremlin.query;
+
+import org.apache.tinkerpop.gremlin.driver.exception.ResponseException;
+import org.apache.tinkerpop.gremlin.util.message.ResponseStatusCode;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class GremlinQueryResilienceUnitTest {
+
+    private static final String RESULT = "result";
+
+    @Test
+    public void testRetryHostFailure() {
+        final GremlinQueryResilience resilience = new GremlinQueryResilience(2, 1, 10, 0, Runnable::run);
+        final AtomicInteger attempts = new AtomicInteger();
+
+        final CompletableFuture<String> future = resilience.execute(() -> attempts.incrementAndGet() < 3 ?
+                CompletableFuture.failedFuture(new TimeoutException()) : CompletableFuture.completedFuture(RESULT));
+
+        Assert.assertEquals(RESULT, future.join());
+        Assert.assertEquals(3, attempts.get());
+    }
+
+    @Test
+    public void testRetryExhausted() {
+        final GremlinQueryResilience resilience = new GremlinQueryResilience(2, 1, 10, 0, Runnable::run);
+        final AtomicInteger attempts = new AtomicInteger();
+
+        final CompletableFuture<String> future = resilience.execute(() -> {
+            attempts.incrementAndGet();
+            return CompletableFuture.failedFuture(new TimeoutException());
+        });
+
+        try {
+            future.join();
+            Assert.fail("should fail after retries");
+        } catch (CompletionException e) {
+            Assert.assertTrue(e.getCause() instanceof TimeoutException);
+        }
+
+        Assert.assertEquals(3, attempts.get());
+    }
+
+    @Test
+    public void testNotRetryQueryFailure() {
+        final GremlinQueryResilience resilience = new GremlinQueryResilience(2, 1, 10, 0, Runnable::run);
+        final AtomicInteger attempts = new AtomicInteger();
+
+        final CompletableFuture<String> future = resilience.execute(() -> {
+            attempts.incrementAndGet();
+            return CompletableFuture.failedFuture(new ResponseException(ResponseStatusCode.SERVER_ERROR_EVALUATION,
+                    "invalid"));
+        });
+
+        Assert.assertTrue(future.isCompletedExceptionally());
+        Assert.assertEquals(1, attempts.get());
+    }
+
+    @Test
+    public void testHedgeSlowQuery() {
+        final GremlinQueryResilience resilience = new GremlinQueryResilience(0, 1, 10, 0.5, Runnable::run);
+        final AtomicInteger attempts = new AtomicInteger();
+
+        for (int i = 0; i < 128; i++) {
+            resilience.record(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+
+        Assert.assertEquals(TimeUnit.MILLISECONDS.toNanos(1), resilience.getHedgeDelayNanos());
+
+        final CompletableFuture<String> future = resilience.execute(() -> attempts.incrementAndGet() == 1 ?
+                new CompletableFuture<>() : CompletableFuture.completedFuture(RESULT));
+
+        Assert.assertEquals(RESULT, future.orTimeout(10, TimeUnit.SECONDS).join());
+        Assert.assertEquals(2, attempts.get());
+    }
+
+    @Test
+    public void testNotHedgeBeforeSampled() {
+        final GremlinQueryResilience resilience = new GremlinQueryResilience(0, 1, 10, 0.5, Runnable::run);
+        final AtomicInteger attempts = new AtomicInteger();
+
+        final CompletableFuture<String> future = resilience.execute(() -> {
+            attempts.incrementAndGet();
+            return new CompletableFuture<>();
+        });
+
+        Assert.assertEquals(-1, resilience.getHedgeDelayNanos());
+        Assert.assertFalse(future.isDone());
+        Assert.assertEquals(1, attempts.get());
+    }
+
+    @Test
+    public void testBackoff() {
+        final GremlinQueryResilience resilience = new GremlinQueryResilience(8, 40, 1000, 0, Runnable::run);
+
+        for (int i = 0; i < 100; i++) {
+            final long first = resilience.getBackoffMillis(0);
+            final long last = resilience.getBackoffMillis(8);
+
+            Assert.assertTrue(first >= 20 && first <= 40);
+            Assert.assertTrue(last >= 500 && last <= 1000);
+        }
+
+        Assert.assertFalse(new GremlinQueryResilience(0, 40, 1000, 0, Runnable::run).isEnabled());
+    }
+}
@@ -0,0 +1,138 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.spring.data.gremlin.query;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class GremlinQueryWindowUnitTest {
+
+    @Test
+    public void testAcquireWithinWindow() {
+        final GremlinQueryWindow window = new GremlinQueryWindow(2, Runnable::run);
+
+        Assert.assertTrue(window.acquire().isDone());
+        Assert.assertTrue(window.acquire().isDone());
+        Assert.assertEquals(2, window.getInFlight());
+    }
+
+    @Test
+    public void testAcquireBeyondWindow() {
+        final GremlinQueryWindow window = new GremlinQueryWindow(1, Runnable::run);
+        final CompletableFuture<Void> first = window.acquire();
+        final CompletableFuture<Void> second = window.acquire();
+        final CompletableFuture<Void> third = window.acquire();
+
+        Assert.assertTrue(first.isDone());
+        Assert.assertFalse(second.isDone());
+        Assert.assertFalse(third.isDone());
+
+        window.release();
+
+        Assert.assertTrue(second.isDone());
+        Assert.assertFalse(third.isDone());
+
+        window.release();
+        window.release();
+
+        Assert.assertTrue(third.isDone());
+        Assert.assertEquals(0, window.getInFlight());
+    }
+
+    @Test
+    public void testReleaseCancelledWaiter() {
+        final GremlinQueryWindow window = new GremlinQueryWindow(1, Runnable::run);
+
+        window.acquire();
+        window.acquire().cancel(false);
+        window.release();
+
+        Assert.assertEquals(0, window.getInFlight());
+    }
+
+    @Test
+    public void testConcurrentAcquireRelease() throws InterruptedException {
+        final int maxInFlight = 4;
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        final GremlinQueryWindow window = new GremlinQueryWindow(maxInFlight, executor);
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        for (int i = 0; i < 1000; i++) {
+            futures.add(window.acquire().thenRunAsync(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                running.decrementAndGet();
+                window.release();
+            }, executor));
+        }
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        executor.shutdown();
+
+        Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        Assert.assertTrue(maxRunning.get() <= maxInFlight);
+        Assert.assertEquals(0, window.getInFlight());
+    }
+
+    @Test
+    public void testAdaptiveWindowGrowWhenQueueing() {
+        final GremlinQueryWindow window = new GremlinQueryWindow(2, 4, Runnable::run);
+
+        for (int i = 0; i < 16; i++) {
+            window.acquire();
+        }
+
+        Assert.assertEquals(2, window.getLimit());
+
+        window.release(false);
+        window.release(false);
+
+        Assert.assertEquals(3, window.getLimit());
+        Assert.assertEquals(3, window.getInFlight());
+    }
+
+    @Test
+    public void testAdaptiveWindowShrinkWhenOverloaded() {
+        final GremlinQueryWindow window = new GremlinQueryWindow(2, 16, Runnable::run);
+
+        for (int i = 0; i < 64; i++) {
+            window.acquire();
+        }
+
+        for (int i = 0; i < 20; i++) {
+            window.release(false);
+        }
+
+        final int limit = window.getLimit();
+
+        Assert.assertTrue(limit > 2);
+
+        window.release(true);
+
+        Assert.assertEquals(Math.max(2, limit / 2), window.getLimit());
+    }
+
+    @Test
+    public void testAdaptiveWindowNotGrowWithoutQueueing() {
+        final GremlinQueryWindow window = new GremlinQueryWindow(2, 4, Runnable::run);
+
+        for (int i = 0; i < 8; i++) {
+            window.acquire();
+            window.release(false);
+        }
+
+        Assert.assertEquals(2, window.getLimit());
+    }
+}
@@ -0,0 +1,15 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.spring.data.gremlin.query;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Run {@link GremlinTemplateIT} with the queries submitted as bytecode.
+ */
+@TestPropertySource(properties = {"gremlin.executionEngine=BYTECODE", "gremlin.parameterizedScript=true"})
+public class GremlinTemplateBytecodeIT extends GremlinTemplateIT {
+}
@@ -0,0 +1,136 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.spring.data.gremlin.query;
+
+import com.spring.data.gremlin.common.GremlinConfig;
+import com.spring.data.gremlin.common.GremlinFactory;
+import com.spring.data.gremlin.common.TestGremlinProperties;
+import com.spring.data.gremlin.common.domain.Network;
+import com.spring.data.gremlin.common.domain.Person;
+import com.spring.data.gremlin.conversion.MappingGremlinConverter;
+import com.spring.data.gremlin.conversion.source.GremlinSource;
+import com.spring.data.gremlin.mapping.GremlinMappingContext;
+import com.spring.data.gremlin.repository.support.GremlinEntityInformation;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScanner;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.data.annotation.Persistent;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+/**
+ * Throughput of saving one @Graph domain with 1,000 vertices, which are submitted as one group of parallel queries,
+ * under different sizes of in-flight window.
+ */
+@Slf4j
+@RunWith(SpringJUnit4ClassRunner.class)
+@PropertySource(value = {"classpath:application.properties"})
+@ContextConfiguration(classes = {GremlinTemplateGraphSaveBenchmarkIT.TestConfiguration.class})
+@EnableConfigurationProperties(TestGremlinProperties.class)
+public class GremlinTemplateGraphSaveBenchmarkIT {
+
+    private static final int GRAPH_SIZE = 1000;
+    private static final int WARMUP_ROUNDS = 2;
+    private static final int MEASURE_ROUNDS = 5;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private TestGremlinProperties properties;
+
+    private GremlinFactory createFactory(int maxInFlightQueries) {
+        final GremlinConfig config = GremlinConfig.builder(properties.getEndpoint(), properties.getUsername(),
+                properties.getPassword())
+                .sslEnabled(properties.isSslEnabled())
+                .port(properties.getPort())
+                .maxInFlightQueries(maxInFlightQueries)
+                .warmUpQueries(maxInFlightQueries)
+                .build();
+        final GremlinFactory factory = new GremlinFactory(config);
+
+        factory.afterPropertiesSet();
+
+        return factory;
+    }
+
+    private GremlinTemplate createTemplate(GremlinFactory factory) throws ClassNotFoundException {
+        final GremlinMappingContext mappingContext = new GremlinMappingContext();
+
+        mappingContext.setInitialEntitySet(new EntityScanner(this.context).scan(Persistent.class));
+
+        return new GremlinTemplate(factory, new MappingGremlinConverter(mappingContext));
+    }
+
+    private static Network buildNetwork() {
+        final Network network = new Network();
+
+        network.setId("benchmark-network");
+
+        for (int i = 0; i < GRAPH_SIZE; i++) {
+            network.vertexAdd(new Person(null, "person-" + i));  // ID will be auto-generated
+        }
+
+        return network;
+    }
+
+    private static long saveNetwork(GremlinTemplate template) {
+        final GremlinSource<Network> source = new GremlinEntityInformation<Network, String>(Network.class)
+                .createGremlinSource();
+        final Network network = buildNetwork();
+
+        template.deleteAll();
+
+        final long start = System.nanoTime();
+
+        template.save(network, source);
+
+        return System.nanoTime() - start;
+    }
+
+    private double measure(int maxInFlightQueries) throws ClassNotFoundException {
+        final GremlinFactory factory = this.createFactory(maxInFlightQueries);
+        final GremlinTemplate template = this.createTemplate(factory);
+        long elapsed = 0;
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            saveNetwork(template);
+        }
+
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            elapsed += saveNetwork(template);
+        }
+
+        Assert.assertEquals(GRAPH_SIZE, template.vertexCount());
+        template.deleteAll();
+        factory.destroy();
+
+        final double throughput = GRAPH_SIZE * MEASURE_ROUNDS / (elapsed / 1e9);
+
+        log.info("Saved @Graph of {} vertices with maxInFlightQueries {}: {} vertices/s", GRAPH_SIZE,
+                maxInFlightQueries, String.format("%.1f", throughput));
+
+        return throughput;
+    }
+
+    @Test
+    public void benchmarkGraphSave() throws ClassNotFoundException {
+        for (final int maxInFlightQueries : new int[]{1, 16, 64, 256}) {
+            Assert.assertTrue(this.measure(maxInFlightQueries) > 0);
+        }
+    }
+
+    @Configuration
+    static class TestConfiguration {
+    }
+}
@@ -258,6 +258,23 @@ public class GremlinTemplateIT {
         Assert.assertEquals(foundRelationship.getLocation(), this.relationship.getLocation());
     }
 
+    @Test
+    public void testFindByIdAsync() throws Exception {
+        this.buildTestGraph();
+        final Person foundPerson = this.template.findByIdAsync(this.person1.getId(), this.personSource).get();
+
+        Assert.assertNotNull(foundPerson);
+        Assert.assertEquals(foundPerson.getId(), this.person1.getId());
+        Assert.assertEquals(foundPerson.getName(), this.person1.getName());
+
+        final Relationship foundRelationship = this.template.findByIdAsync(this.relationship.getId(),
+                this.relationshipSource).get();
+
+        Assert.assertNotNull(foundRelationship);
+        Assert.assertEquals(foundRelationship.getId(), this.relationship.getId());
+        Assert.assertEquals(foundRelationship.getPerson().getName(), this.person.getName());
+    }
+
     @Test(expected = UnsupportedOperationException.class)
     public void testFindByIdException() {
         this.template.findById(this.network.getId(), this.networkSource);
@@ -570,6 +587,8 @@ public class GremlinTemplateIT {
             return GremlinConfig.builder(properties.getEndpoint(), properties.getUsername(), properties.getPassword())
                     .sslEnabled(properties.isSslEnabled())
                     .port(properties.getPort())
+                    .parameterizedScript(properties.isParameterizedScript())
+                    .executionEngine(properties.getExecutionEngine())
                     .build();
         }
     }
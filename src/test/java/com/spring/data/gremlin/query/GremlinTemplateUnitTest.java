@@ -0,0 +1,463 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.spring.data.gremlin.query;
+
+import com.spring.data.gremlin.common.GremlinConfig;
+import com.spring.data.gremlin.common.GremlinFactory;
+import com.spring.data.gremlin.common.GremlinLoadBalancingStrategy;
+import com.spring.data.gremlin.common.GremlinUtils;
+import com.spring.data.gremlin.common.domain.Group;
+import com.spring.data.gremlin.common.domain.GroupOwner;
+import com.spring.data.gremlin.common.domain.Person;
+import com.spring.data.gremlin.common.domain.Student;
+import com.spring.data.gremlin.conversion.MappingGremlinConverter;
+import com.spring.data.gremlin.conversion.source.GremlinSource;
+import com.spring.data.gremlin.exception.GremlinQueryException;
+import com.spring.data.gremlin.exception.GremlinQueryTimeoutException;
+import com.spring.data.gremlin.mapping.GremlinMappingContext;
+import org.apache.tinkerpop.gremlin.driver.Client;
+import org.apache.tinkerpop.gremlin.driver.Host;
+import org.apache.tinkerpop.gremlin.driver.RequestOptions;
+import org.apache.tinkerpop.gremlin.driver.Result;
+import org.apache.tinkerpop.gremlin.driver.ResultSet;
+import org.apache.tinkerpop.gremlin.driver.exception.ResponseException;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedFactory;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.apache.tinkerpop.gremlin.util.message.ResponseStatusCode;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.mapping.MappingException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class GremlinTemplateUnitTest {
+
+    private static final String QUERY = "g.V().count()";
+
+    private GremlinFactory factory;
+    private GremlinTemplate template;
+    private Client client;
+    private GremlinLoadBalancingStrategy strategy;
+    private Host host;
+    private MappingGremlinConverter converter;
+
+    @Before
+    public void setup() {
+        this.factory = mock(GremlinFactory.class);
+        this.client = mock(Client.class);
+        this.strategy = mock(GremlinLoadBalancingStrategy.class);
+        this.host = mock(Host.class);
+
+        when(this.factory.getExecutor()).thenReturn(Runnable::run);
+        when(this.factory.getGremlinClient()).thenReturn(this.client);
+        when(this.factory.getLoadBalancingStrategy()).thenReturn(this.strategy);
+        when(this.factory.hasReadReplicas()).thenReturn(true);
+
+        this.template = this.createTemplate(0);
+    }
+
+    private GremlinTemplate createTemplate(int readYourWritesMillis) {
+        return this.createTemplate(readYourWritesMillis, 16);
+    }
+
+    private GremlinTemplate createTemplate(int readYourWritesMillis, int bulkConcurrency) {
+        final GremlinConfig config = GremlinConfig.builder("localhost", "username", "password")
+                .maxInFlightQueries(16)
+                .bulkConcurrency(bulkConcurrency)
+                .maxRetries(2)
+                .readYourWritesMillis(readYourWritesMillis)
+                .dirtyTrackingSize(16)
+                .executor(Runnable::run)
+                .build();
+
+        when(this.factory.getGremlinConfig()).thenReturn(config);
+
+        this.converter = new MappingGremlinConverter(new GremlinMappingContext());
+
+        return new GremlinTemplate(this.factory, this.converter);
+    }
+
+    private ResultSet createResultSet() {
+        final ResultSet resultSet = mock(ResultSet.class);
+
+        when(resultSet.getHost()).thenReturn(this.host);
+        when(resultSet.all()).thenReturn(CompletableFuture.completedFuture(Collections.emptyList()));
+        when(resultSet.allItemsAvailableAsync()).thenReturn(CompletableFuture.completedFuture(null));
+
+        return resultSet;
+    }
+
+    private void respond(ResponseStatusCode code) {
+        this.respond(new ResponseException(code, code.name()));
+    }
+
+    private void respond(Throwable exception) {
+        final ResultSet resultSet = mock(ResultSet.class);
+
+        when(resultSet.getHost()).thenReturn(this.host);
+        when(resultSet.all()).thenReturn(CompletableFuture.failedFuture(exception));
+        when(resultSet.allItemsAvailableAsync()).thenReturn(CompletableFuture.failedFuture(exception));
+        when(this.client.submitAsync(anyString(), any(RequestOptions.class)))
+                .thenReturn(CompletableFuture.completedFuture(resultSet));
+    }
+
+    /**
+     * Respond to the scripts submitted by executing them on the graph, and complete each of them after a while on
+     * another thread. The queries in flight are counted by inFlight, and the most of them by maxInFlight.
+     */
+    private void respondByGraph(GraphTraversalSource graph, ScheduledExecutorService scheduler,
+                                AtomicInteger inFlight, AtomicInteger maxInFlight) {
+        when(this.factory.getReadClient()).thenReturn(this.client);
+        when(this.client.submitAsync(anyString(), anyMap())).thenAnswer(invocation -> {
+            final String query = invocation.getArgument(0);
+            final Map<String, Object> bindings = invocation.getArgument(1);
+            final List<Result> results;
+
+            synchronized (graph) {
+                results = GremlinUtils.toGraphTraversal(graph, query, bindings).toList().stream()
+                        .map(r -> new Result(r instanceof Element ? DetachedFactory.detach(r, true) : r))
+                        .collect(toList());
+            }
+
+            final ResultSet resultSet = this.createResultSet();
+            final CompletableFuture<ResultSet> response = new CompletableFuture<>();
+
+            when(resultSet.all()).thenReturn(CompletableFuture.completedFuture(results));
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            scheduler.schedule(() -> {
+                inFlight.decrementAndGet();
+                response.complete(resultSet);
+            }, 10, TimeUnit.MILLISECONDS);
+
+            return response;
+        });
+    }
+
+    @Test
+    public void testServerTimeoutWithDeadline() {
+        this.respond(ResponseStatusCode.SERVER_ERROR_TIMEOUT);
+
+        try {
+            this.template.withTimeout(Duration.ofSeconds(10)).queryForList(QUERY);
+            Assert.fail("the query should exceed its deadline");
+        } catch (GremlinQueryException e) {
+            Assert.assertTrue(e.getCause() instanceof GremlinQueryTimeoutException);
+        }
+
+        verify(this.client, times(1)).submitAsync(anyString(), any(RequestOptions.class));
+        verify(this.strategy, never()).recordFailure(any(Host.class), anyLong());
+    }
+
+    @Test
+    public void testOverloadedWithDeadline() {
+        when(this.factory.getReadClient()).thenReturn(this.client);
+        when(this.factory.getReadLoadBalancingStrategy()).thenReturn(this.strategy);
+        this.respond(ResponseStatusCode.SERVER_ERROR_TEMPORARY);
+
+        try {
+            this.template.withTimeout(Duration.ofSeconds(10)).vertexCount();
+            Assert.fail("the query should fail for overload");
+        } catch (GremlinQueryException e) {
+            Assert.assertFalse(e.getCause() instanceof GremlinQueryTimeoutException);
+        }
+
+        verify(this.client, times(3)).submitAsync(anyString(), any(RequestOptions.class));
+        verify(this.strategy, times(3)).recordFailure(any(Host.class), anyLong());
+    }
+
+    @Test
+    public void testRawQueryWithoutRetry() {
+        this.respond(new IOException("connection reset"));
+
+        try {
+            this.template.withTimeout(Duration.ofSeconds(10)).queryForList("g.addV('person')");
+            Assert.fail("the raw query should fail for host failure");
+        } catch (GremlinQueryException e) {
+            Assert.assertTrue(GremlinUtils.isHostFailure(e));
+        }
+
+        verify(this.client, times(1)).submitAsync(anyString(), any(RequestOptions.class));
+    }
+
+    @Test
+    public void testReadYourWritesOfSession() throws InterruptedException {
+        final GremlinTemplate template = this.createTemplate(60000);
+        final GremlinTemplate session = template.withSession();
+        final ResultSet resultSet = this.createResultSet();
+        final AtomicBoolean sessionReplica = new AtomicBoolean(true);
+        final AtomicBoolean templateReplica = new AtomicBoolean(false);
+
+        when(this.client.submitAsync(anyString(), anyMap())).thenReturn(CompletableFuture.completedFuture(resultSet));
+
+        Assert.assertTrue(session.isReadFromReplica());
+
+        session.deleteAll();
+
+        final Thread thread = new Thread(() -> {
+            sessionReplica.set(session.isReadFromReplica());
+            templateReplica.set(template.isReadFromReplica());
+        });
+
+        thread.start();
+        thread.join();
+
+        Assert.assertFalse(sessionReplica.get());
+        Assert.assertTrue(templateReplica.get());
+        Assert.assertTrue(template.isReadFromReplica());
+    }
+
+    @Test
+    public void testReadYourWritesOnCompletion() throws InterruptedException {
+        final GremlinTemplate template = this.createTemplate(1000);
+        final CompletableFuture<ResultSet> response = new CompletableFuture<>();
+        final ResultSet resultSet = this.createResultSet();
+
+        when(this.client.submitAsync(anyString(), anyMap())).thenReturn(response);
+
+        final CompletableFuture<Void> write = template.deleteAllAsync();
+
+        Thread.sleep(1100);
+
+        Assert.assertTrue(template.isReadFromReplica());
+
+        final Thread thread = new Thread(() -> response.complete(resultSet));
+
+        thread.start();
+        thread.join();
+        write.join();
+
+        Assert.assertFalse(template.isReadFromReplica());
+    }
+
+    @Test
+    public void testUpdateWithoutDeltaOfDeleted() {
+        final Person person = new Person("id-1", "name");
+        final GremlinSource<Person> source = GremlinUtils.toGremlinSource(Person.class);
+        final ResultSet resultSet = this.createResultSet();
+
+        when(this.client.submitAsync(anyString(), anyMap())).thenReturn(CompletableFuture.completedFuture(resultSet));
+
+        this.converter.snapshot(person);
+        source.setId(person.getId());
+
+        try {
+            this.template.update(person, source);
+            Assert.fail("the entity deleted since its snapshot should not be updated");
+        } catch (GremlinQueryException e) {
+            Assert.assertTrue(e.getMessage().contains("doesn't exist"));
+        }
+
+        verify(this.client, times(1)).submitAsync(anyString(), anyMap());
+    }
+
+    @Test
+    public void testInsertEdgesOfMissingVertex() {
+        final Group inserted = new Group(new Student(1L, "student"), new GroupOwner("owner", 1));
+        final Group missing = new Group(new Student(2L, "missing"), new GroupOwner("owner", 1));
+        final ResultSet resultSet = this.createResultSet();
+        final Map<String, Object> edges = new HashMap<>();
+
+        edges.put("e0", Collections.singletonList(Collections.singletonMap("id", 7L)));
+        edges.put("e1", Collections.emptyList());
+
+        when(resultSet.all()).thenReturn(CompletableFuture.completedFuture(
+                Collections.singletonList(new Result(edges))));
+        when(this.client.submitAsync(anyString(), anyMap())).thenReturn(CompletableFuture.completedFuture(resultSet));
+
+        final GremlinBulkResult<Group> result = this.template.insertEdges(Arrays.asList(inserted, missing),
+                GremlinUtils.toGremlinSource(Group.class));
+
+        Assert.assertTrue(result.hasFailures());
+        Assert.assertEquals(Collections.singletonList(inserted), result.getWritten());
+        Assert.assertEquals(Collections.singletonList(missing), result.getFailed());
+        Assert.assertEquals(Long.valueOf(7L), inserted.getId());
+        Assert.assertNull(missing.getId());
+        verify(this.client, times(1)).submitAsync(anyString(), anyMap());
+    }
+
+    @Test
+    public void testSaveAllInOrder() {
+        final GremlinTemplate template = this.createTemplate(0, 2);
+        final GraphTraversalSource graph = TinkerGraph.open().traversal();
+        final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        final List<GroupOwner> owners = Arrays.asList(new GroupOwner("owner-a", 1), new GroupOwner(null, 2),
+                new GroupOwner("owner-b", 3), new GroupOwner("owner-a", 4), new GroupOwner(null, 5));
+
+        this.respondByGraph(graph, scheduler, inFlight, maxInFlight);
+
+        try {
+            final List<GroupOwner> saved = template.saveAll(owners, GremlinUtils.toGremlinSource(GroupOwner.class));
+
+            // The same id saved twice within the chunk is the one stored last at both places.
+            Assert.assertEquals(owners.size(), saved.size());
+            Assert.assertEquals(Arrays.asList(4, 2, 3, 4, 5), saved.stream().map(GroupOwner::getExpireDays)
+                    .collect(toList()));
+            Assert.assertEquals("owner-a", saved.get(0).getName());
+            Assert.assertNotNull(saved.get(1).getName());
+            Assert.assertEquals("owner-b", saved.get(2).getName());
+            Assert.assertEquals("owner-a", saved.get(3).getName());
+            Assert.assertNotNull(saved.get(4).getName());
+            Assert.assertEquals(4L, (long) graph.V().count().next());
+            Assert.assertEquals(4, graph.V("owner-a").values("expireDays").next());
+            Assert.assertEquals(2, maxInFlight.get());
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testSaveAllOfChunks() {
+        final GremlinTemplate template = this.createTemplate(0, 2);
+        final GraphTraversalSource graph = TinkerGraph.open().traversal();
+        final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        final List<GroupOwner> owners = IntStream.range(0, 1000).mapToObj(i -> new GroupOwner("owner-" + i, i))
+                .collect(toList());
+
+        this.respondByGraph(graph, scheduler, inFlight, maxInFlight);
+
+        try {
+            final List<GroupOwner> saved = template.saveAll(owners, GremlinUtils.toGremlinSource(GroupOwner.class));
+
+            Assert.assertEquals(owners, saved);
+            Assert.assertEquals(1000L, (long) graph.V().count().next());
+            Assert.assertEquals(2, maxInFlight.get());
+            verify(this.client, atLeast(3)).submitAsync(anyString(), anyMap());
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testFindAllOfPage() {
+        final GraphTraversalSource graph = TinkerGraph.open().traversal();
+        final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        final GremlinSource<GroupOwner> source = GremlinUtils.toGremlinSource(GroupOwner.class);
+
+        this.respondByGraph(graph, scheduler, new AtomicInteger(), new AtomicInteger());
+
+        try {
+            this.template.saveAll(IntStream.range(0, 5).mapToObj(i -> new GroupOwner("owner-" + i, i))
+                    .collect(toList()), source);
+            clearInvocations(this.client);
+
+            final Page<GroupOwner> page = this.template.findAll(PageRequest.of(1, 2, Sort.by("expireDays")), source);
+
+            Assert.assertEquals(Arrays.asList(2, 3), page.map(GroupOwner::getExpireDays).getContent());
+            Assert.assertEquals(5, page.getTotalElements());
+            Assert.assertEquals(3, page.getTotalPages());
+            Assert.assertTrue(page.hasNext());
+            verify(this.client, times(2)).submitAsync(anyString(), anyMap());
+
+            final Page<GroupOwner> last = this.template.findAll(PageRequest.of(2, 2, Sort.by("name")), source);
+
+            Assert.assertEquals(Collections.singletonList("owner-4"), last.map(GroupOwner::getName).getContent());
+            Assert.assertEquals(5, last.getTotalElements());
+            Assert.assertFalse(last.hasNext());
+
+            clearInvocations(this.client);
+
+            final List<GroupOwner> sorted = this.template.findAll(Sort.by("expireDays").descending(), source);
+
+            Assert.assertEquals(Arrays.asList(4, 3, 2, 1, 0), sorted.stream().map(GroupOwner::getExpireDays)
+                    .collect(toList()));
+            verify(this.client, times(1)).submitAsync(anyString(), anyMap());
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test(expected = MappingException.class)
+    public void testFindAllOfPageException() {
+        this.template.findAll(PageRequest.of(0, 2, Sort.by("name') .drop() .has('name")),
+                GremlinUtils.toGremlinSource(GroupOwner.class));
+    }
+
+    @Test(expected = MappingException.class)
+    public void testScanException() {
+        this.template.scan(ScrollPosition.keyset(), Sort.by("fake-name"), 2,
+                GremlinUtils.toGremlinSource(GroupOwner.class));
+    }
+
+    @Test
+    public void testScanOfWindows() {
+        final GraphTraversalSource graph = TinkerGraph.open().traversal();
+        final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        final GremlinSource<GroupOwner> source = GremlinUtils.toGremlinSource(GroupOwner.class);
+        final List<String> scanned = new ArrayList<>();
+
+        this.respondByGraph(graph, scheduler, new AtomicInteger(), new AtomicInteger());
+
+        try {
+            this.template.saveAll(Arrays.asList(new GroupOwner("e", 2), new GroupOwner("c", 1),
+                    new GroupOwner("a", 1), new GroupOwner("f", null), new GroupOwner("d", 2),
+                    new GroupOwner("b", 1)), source);
+
+            Window<GroupOwner> window = this.template.scan(ScrollPosition.keyset(), Sort.by("expireDays"), 2, source);
+
+            Assert.assertEquals(Arrays.asList("a", "b"), window.map(GroupOwner::getName).getContent());
+            Assert.assertTrue(window.hasNext());
+
+            final Map<String, Object> keys = ((KeysetScrollPosition) window.positionAt(1)).getKeys();
+
+            Assert.assertEquals(Arrays.asList("expireDays", "name"), new ArrayList<>(keys.keySet()));
+            Assert.assertEquals(Arrays.asList(1, "b"), new ArrayList<>(keys.values()));
+
+            window.forEach(o -> scanned.add(o.getName()));
+
+            while (window.hasNext()) {
+                window = this.template.scan(window.positionAt(window.size() - 1), Sort.by("expireDays"), 2, source);
+                window.forEach(o -> scanned.add(o.getName()));
+            }
+
+            // The entity without the sort property is not scanned.
+            Assert.assertEquals(Arrays.asList("a", "b", "c", "d", "e"), scanned);
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+}
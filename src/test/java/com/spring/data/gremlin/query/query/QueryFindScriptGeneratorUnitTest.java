@@ -0,0 +1,175 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.spring.data.gremlin.query.query;
+
+import com.spring.data.gremlin.common.GremlinUtils;
+import com.spring.data.gremlin.common.domain.Neighbor;
+import com.spring.data.gremlin.common.domain.Person;
+import com.spring.data.gremlin.conversion.source.GremlinSource;
+import com.spring.data.gremlin.mapping.GremlinMappingContext;
+import com.spring.data.gremlin.query.criteria.Criteria;
+import com.spring.data.gremlin.query.criteria.CriteriaType;
+import com.spring.data.gremlin.query.paramerter.GremlinParametersParameterAccessor;
+import com.spring.data.gremlin.repository.GremlinRepository;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.MappingException;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+import org.springframework.data.repository.query.parser.PartTree;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import static java.util.Collections.singletonList;
+
+public class QueryFindScriptGeneratorUnitTest {
+
+    private GremlinSource<Person> source;
+    private String prefix;
+
+    interface PersonQueryRepository extends GremlinRepository<Person, String> {
+
+        List<Person> findFirst3ByNameOrderByIdDesc(String name);
+
+        Person findFirstByNameOrderByName(String name);
+
+        List<Person> findByName(String name);
+
+        List<Person> findByName(String name, Sort sort);
+
+        List<Person> findByNameOrderByNameDesc(String name, Sort sort);
+
+        List<Person> findByNameGreaterThanEqualAndNameLessThan(String low, String high);
+
+        List<Person> findByNameNotOrNameIsNull(String name);
+
+        List<Person> findByNameStartingWithAndNameIsNotNull(String prefix);
+
+        List<Person> findDistinctByIdInOrderByName(Collection<String> ids);
+
+        List<Person> findByNameNotIn(String... names);
+    }
+
+    @Before
+    public void setup() {
+        this.source = GremlinUtils.toGremlinSource(Person.class);
+        this.prefix = String.format("g.V().has(label, '%s')", this.source.getLabel());
+    }
+
+    private GremlinQuery createQuery(String methodName, Object... parameters) {
+        final Method queryMethod = Arrays.stream(PersonQueryRepository.class.getMethods())
+                .filter(m -> m.getName().equals(methodName) && m.getParameterCount() == parameters.length)
+                .findFirst().orElseThrow(IllegalArgumentException::new);
+        final GremlinQueryMethod method = new GremlinQueryMethod(queryMethod,
+                new DefaultRepositoryMetadata(PersonQueryRepository.class), new SpelAwareProxyProjectionFactory());
+        final GremlinQueryCreator creator = new GremlinQueryCreator(new PartTree(methodName, Person.class),
+                new GremlinParametersParameterAccessor(method, parameters), new GremlinMappingContext(), Person.class);
+
+        return creator.createQuery();
+    }
+
+    private List<String> generate(GremlinQuery query) {
+        return new QueryFindScriptGenerator(this.source).generate(query);
+    }
+
+    @Test
+    public void testGenerateLimitedScript() {
+        Assert.assertEquals(singletonList(this.prefix + ".where(has('name', 'n')).order().by(id, desc).limit(3)"),
+                this.generate(this.createQuery("findFirst3ByNameOrderByIdDesc", "n")));
+        Assert.assertEquals(singletonList(this.prefix + ".where(has('name', 'n')).order().by('name', asc).limit(1)"),
+                this.generate(this.createQuery("findFirstByNameOrderByName", "n")));
+    }
+
+    @Test
+    public void testGenerateDynamicSortScript() {
+        Assert.assertEquals(singletonList(this.prefix + ".where(has('name', 'n')).order().by('name', asc)"),
+                this.generate(this.createQuery("findByName", "n", Sort.by("name"))));
+        Assert.assertEquals(singletonList(this.prefix + ".where(has('name', 'n')).order().by('name', desc)"
+                        + ".by(id, asc)"),
+                this.generate(this.createQuery("findByNameOrderByNameDesc", "n", Sort.by("id"))));
+        Assert.assertEquals(singletonList(this.prefix + ".where(has('name', 'n'))"),
+                this.generate(this.createQuery("findByName", "n", Sort.unsorted())));
+    }
+
+    @Test(expected = MappingException.class)
+    public void testGenerateDynamicSortScriptException() {
+        this.createQuery("findByName", "n", Sort.by("name') .drop() .has('name"));
+    }
+
+    @Test
+    public void testGeneratePredicateScript() {
+        Assert.assertEquals(singletonList(this.prefix + ".where(where(has('name', gte('a'))).and()"
+                        + ".where(has('name', lt('b'))))"),
+                this.generate(this.createQuery("findByNameGreaterThanEqualAndNameLessThan", "a", "b")));
+        Assert.assertEquals(singletonList(this.prefix + ".where(where(has('name', neq('n'))).or()"
+                        + ".where(hasNot('name')))"),
+                this.generate(this.createQuery("findByNameNotOrNameIsNull", "n")));
+        Assert.assertEquals(singletonList(this.prefix + ".where(where(has('name', startingWith('n'))).and()"
+                        + ".where(has('name')))"),
+                this.generate(this.createQuery("findByNameStartingWithAndNameIsNotNull", "n")));
+        Assert.assertEquals(singletonList(this.prefix + ".where(hasId(within('a', 'b'))).dedup()"
+                        + ".order().by('name', asc)"),
+                this.generate(this.createQuery("findDistinctByIdInOrderByName", Arrays.asList("a", "b"))));
+    }
+
+    @Test
+    public void testGeneratePredicateScriptWithBindings() {
+        final QueryFindScriptGenerator generator = new QueryFindScriptGenerator(this.source);
+
+        generator.enableBindings();
+
+        Assert.assertEquals(singletonList(this.prefix + ".where(has('name', without(_p0)))"),
+                generator.generate(this.createQuery("findByNameNotIn", (Object) new String[]{"a", "b"})));
+        Assert.assertEquals(Arrays.asList("a", "b"), generator.getBindings().get("_p0"));
+        Assert.assertEquals(1, generator.getBindings().size());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testGenerateComparisonScriptException() {
+        final GremlinSource<Neighbor> edgeSource = GremlinUtils.toGremlinSource(Neighbor.class);
+        final Criteria criteria = Criteria.getUnaryInstance(CriteriaType.GREATER_THAN, "distance", singletonList(10L));
+
+        new QueryFindScriptGenerator(edgeSource).generate(new GremlinQuery(criteria));
+    }
+
+    @Test
+    public void testGenerateScriptTraversal() {
+        final List<GremlinQuery> queries = Arrays.asList(
+                this.createQuery("findFirst3ByNameOrderByIdDesc", "n"),
+                this.createQuery("findByNameOrderByNameDesc", "n", Sort.by("id")),
+                this.createQuery("findByNameGreaterThanEqualAndNameLessThan", "a", "b"),
+                this.createQuery("findByNameNotOrNameIsNull", "n"),
+                this.createQuery("findByNameStartingWithAndNameIsNotNull", "n"),
+                this.createQuery("findDistinctByIdInOrderByName", Arrays.asList("a", "b")),
+                this.createQuery("findByNameNotIn", (Object) new String[]{"a", "b"}));
+
+        for (final GremlinQuery query : queries) {
+            for (final boolean parameterized : Arrays.asList(false, true)) {
+                final QueryFindScriptGenerator generator = new QueryFindScriptGenerator(this.source);
+
+                if (parameterized) {
+                    generator.enableBindings();
+                }
+
+                generator.generate(query).forEach(script -> Assert.assertNotNull(script,
+                        GremlinUtils.toGraphTraversal(EmptyGraph.instance().traversal(), script,
+                                GremlinUtils.toQueryBindings(script, generator.getBindings()))));
+            }
+        }
+    }
+
+    @Test
+    public void testGenerateUnlimitedScript() {
+        Assert.assertEquals(singletonList(this.prefix + ".where(has('name', 'n'))"),
+                this.generate(this.createQuery("findByName", "n")));
+    }
+}
@@ -188,6 +188,15 @@ public class BookReferenceRepositoryIT {
         Assert.assertFalse(referenceRepository.findById(BOOK_REFERENCE_0.getId()).isPresent());
     }
 
+    @Test
+    public void testCountByLabel() {
+        bookRepository.saveAll(BOOKS);
+        referenceRepository.saveAll(BOOK_REFERENCES);
+
+        Assert.assertEquals(bookRepository.countByLabel(), BOOKS.size());
+        Assert.assertEquals(referenceRepository.countByLabel(), BOOK_REFERENCES.size());
+    }
+
     @Test
     public void testEdgeCount() {
         bookRepository.saveAll(BOOKS);
@@ -5,7 +5,9 @@
  */
 package com.spring.data.gremlin.repository;
 
+import com.spring.data.gremlin.common.Constants;
 import com.spring.data.gremlin.common.GremlinEntityType;
+import com.spring.data.gremlin.common.GremlinUtils;
 import com.spring.data.gremlin.common.TestConstants;
 import com.spring.data.gremlin.common.TestRepositoryConfiguration;
 import com.spring.data.gremlin.common.domain.Person;
@@ -22,9 +24,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.stream.IntStream;
 
 @RunWith(SpringJUnit4ClassRunner.class)
 @ContextConfiguration(classes = TestRepositoryConfiguration.class)
@@ -157,6 +161,75 @@ public class PersonRepositoryIT {
         Assert.assertTrue(foundDomains.stream().anyMatch(p -> p.getId().equals(savedPerson0.getId())));
     }
 
+    @Test
+    public void testFindAllByIdInOrder() {
+        final Person savedPerson = this.repository.save(this.person);
+        final Person savedPerson0 = this.repository.save(this.person0);
+        final Person savedPerson1 = this.repository.save(new Person(null, "person-1"));
+        final List<String> ids = Arrays.asList(savedPerson1.getId(), "non-existent-id", savedPerson.getId(),
+                savedPerson1.getId(), savedPerson0.getId());
+
+        final List<Person> foundDomains = (List<Person>) this.repository.findAllById(ids);
+
+        Assert.assertEquals(Arrays.asList(savedPerson1, savedPerson, savedPerson0), foundDomains);
+        Assert.assertTrue(((List<Person>) this.repository.findAllById(Arrays.asList("non-existent-id"))).isEmpty());
+    }
+
+    /**
+     * Put more missing ids after each id than one query of the max content length could take.
+     */
+    private List<String> toChunkedIds(List<String> ids) {
+        final int missing = Constants.DEFAULT_MAX_CONTENT_LENGTH / 2 / 48 + 1;
+        final List<String> chunkedIds = new ArrayList<>();
+
+        ids.forEach(id -> {
+            chunkedIds.add(id);
+            IntStream.range(0, missing).forEach(i -> chunkedIds.add("non-existent-id-" + chunkedIds.size()));
+        });
+
+        Assert.assertTrue(GremlinUtils.toIdChunks(chunkedIds, Constants.DEFAULT_MAX_CONTENT_LENGTH).size() > 1);
+
+        return chunkedIds;
+    }
+
+    @Test
+    public void testFindAllByIdOfChunks() {
+        final Person savedPerson = this.repository.save(this.person);
+        final Person savedPerson0 = this.repository.save(this.person0);
+        final List<String> ids = this.toChunkedIds(Arrays.asList(savedPerson0.getId(), savedPerson.getId()));
+
+        final List<Person> foundDomains = (List<Person>) this.repository.findAllById(ids);
+
+        Assert.assertEquals(Arrays.asList(savedPerson0, savedPerson), foundDomains);
+    }
+
+    @Test
+    public void testDeleteAllById() {
+        final Person savedPerson = this.repository.save(this.person);
+        final Person savedPerson0 = this.repository.save(this.person0);
+        final Person savedPerson1 = this.repository.save(new Person(null, "person-1"));
+
+        this.repository.deleteAllById(Arrays.asList(savedPerson.getId(), "non-existent-id", savedPerson.getId(),
+                savedPerson1.getId()));
+
+        Assert.assertFalse(this.repository.existsById(savedPerson.getId()));
+        Assert.assertTrue(this.repository.existsById(savedPerson0.getId()));
+        Assert.assertFalse(this.repository.existsById(savedPerson1.getId()));
+    }
+
+    @Test
+    public void testDeleteAllByIdOfChunks() {
+        final Person savedPerson = this.repository.save(this.person);
+        final Person savedPerson0 = this.repository.save(this.person0);
+        final Person savedPerson1 = this.repository.save(new Person(null, "person-1"));
+
+        this.repository.deleteAllById(this.toChunkedIds(Arrays.asList(savedPerson.getId(), savedPerson1.getId())));
+
+        Assert.assertFalse(this.repository.existsById(savedPerson.getId()));
+        Assert.assertTrue(this.repository.existsById(savedPerson0.getId()));
+        Assert.assertFalse(this.repository.existsById(savedPerson1.getId()));
+    }
+
     @Test
     public void testDomainClassFindAll() {
         final List<Person> domains = Arrays.asList(this.person, this.person0);
@@ -229,5 +302,17 @@ public class PersonRepositoryIT {
         this.repository.deleteAll();
         Assert.assertFalse(this.repository.findAll().iterator().hasNext());
     }
-}
 
+    @Test
+    public void testFindByNameAsync() throws Exception {
+        final Person savedPerson = this.repository.save(this.person);
+        this.repository.save(this.person0);
+
+        final List<Person> foundPersons = this.repository.findByName(this.person.getName()).get();
+
+        Assert.assertEquals(1, foundPersons.size());
+        Assert.assertEquals(savedPerson, foundPersons.get(0));
+        Assert.assertEquals(savedPerson, this.repository.findOneByName(this.person.getName()).get());
+        Assert.assertNull(this.repository.findOneByName("fake-name").get());
+    }
+}
@@ -0,0 +1,89 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.spring.data.gremlin.repository;
+
+import com.spring.data.gremlin.common.TestConstants;
+import com.spring.data.gremlin.common.TestRepositoryConfiguration;
+import com.spring.data.gremlin.common.domain.Person;
+import com.spring.data.gremlin.common.repository.ReactivePersonRepository;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import reactor.test.StepVerifier;
+
+import java.util.Arrays;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(classes = TestRepositoryConfiguration.class)
+public class ReactivePersonRepositoryIT {
+
+    private final Person person = new Person(null, TestConstants.VERTEX_PERSON_NAME);  // ID will be auto-generated
+    private final Person person0 = new Person(null, TestConstants.VERTEX_PERSON_0_NAME);  // ID will be auto-generated
+
+    @Autowired
+    private ReactivePersonRepository repository;
+
+    @Before
+    public void setup() {
+        this.repository.deleteAll().block();
+    }
+
+    @After
+    public void cleanup() {
+        this.repository.deleteAll().block();
+    }
+
+    @Test
+    public void testSaveAndFindById() {
+        final Person savedPerson = this.repository.save(this.person).block();
+
+        StepVerifier.create(this.repository.findById(savedPerson.getId()))
+                .expectNext(savedPerson)
+                .verifyComplete();
+        StepVerifier.create(this.repository.existsById(savedPerson.getId()))
+                .expectNext(true)
+                .verifyComplete();
+    }
+
+    @Test
+    public void testFindAll() {
+        StepVerifier.create(this.repository.findAll()).verifyComplete();
+
+        this.repository.saveAll(Arrays.asList(this.person, this.person0)).blockLast();
+
+        StepVerifier.create(this.repository.findAll())
+                .expectNextCount(2)
+                .verifyComplete();
+        StepVerifier.create(this.repository.countByLabel())
+                .expectNext(2L)
+                .verifyComplete();
+    }
+
+    @Test
+    public void testDeleteById() {
+        final Person savedPerson = this.repository.save(this.person).block();
+
+        StepVerifier.create(this.repository.deleteById(savedPerson.getId())).verifyComplete();
+        StepVerifier.create(this.repository.findById(savedPerson.getId())).verifyComplete();
+    }
+
+    @Test
+    public void testFindByName() {
+        this.repository.saveAll(Arrays.asList(this.person, this.person0)).blockLast();
+
+        StepVerifier.create(this.repository.findByName(this.person.getName()))
+                .expectNextMatches(p -> p.getName().equals(this.person.getName()))
+                .verifyComplete();
+        StepVerifier.create(this.repository.findOneByName(this.person0.getName()))
+                .expectNextMatches(p -> p.getName().equals(this.person0.getName()))
+                .verifyComplete();
+        StepVerifier.create(this.repository.findOneByName("no-such-name")).verifyComplete();
+    }
+}
@@ -6,6 +6,8 @@
 package com.spring.data.gremlin.repository.support;
 
 import com.spring.data.gremlin.common.domain.Person;
+import com.spring.data.gremlin.common.repository.PersonRepository;
+import com.spring.data.gremlin.common.repository.ReactivePersonRepository;
 import com.spring.data.gremlin.query.GremlinOperations;
 import org.junit.Assert;
 import org.junit.Before;
@@ -15,6 +17,7 @@ import org.mockito.Mock;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
 import org.springframework.data.repository.core.EntityInformation;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
 import org.springframework.data.repository.query.QueryLookupStrategy;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
 
@@ -38,7 +41,10 @@ public class GremlinRepositoryFactoryUnitTest {
 
     @Test
     public void testGetRepositoryBaseClass() {
-        Assert.assertEquals(SimpleGremlinRepository.class, this.factory.getRepositoryBaseClass(null));
+        Assert.assertEquals(SimpleGremlinRepository.class,
+                this.factory.getRepositoryBaseClass(new DefaultRepositoryMetadata(PersonRepository.class)));
+        Assert.assertEquals(SimpleReactiveGremlinRepository.class,
+                this.factory.getRepositoryBaseClass(new DefaultRepositoryMetadata(ReactivePersonRepository.class)));
     }
 
     @Test